@@ -0,0 +1,187 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.qubership.integration.platform.engine.configuration.MapperConfiguration;
+import org.qubership.integration.platform.engine.configuration.NamespaceProvider;
+import org.qubership.integration.platform.engine.opensearch.OpenSearchClientSupplier;
+import org.qubership.integration.platform.engine.service.VariablesService;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Shared in-process fixtures of the benchmarks. External storages are replaced with stubs
+ * that accept all requests without doing any I/O.
+ */
+final class BenchmarkFixtures {
+    static final Set<String> MASKED_FIELDS = Set.of("password", "token", "secret");
+
+    private BenchmarkFixtures() {
+    }
+
+    static ObjectMapper jsonMapper() {
+        return new MapperConfiguration().objectMapper();
+    }
+
+    static CamelContext camelContext() {
+        CamelContext context = new DefaultCamelContext();
+        context.start();
+        return context;
+    }
+
+    static Exchange exchange(CamelContext context, Object body, String contentType) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody(body);
+        exchange.getMessage().setHeader("Content-Type", contentType);
+        for (int i = 0; i < 10; i++) {
+            exchange.getMessage().setHeader("header" + i, "value" + i);
+            exchange.setProperty("property" + i, "value" + i);
+        }
+        exchange.getMessage().setHeader("token", "header-token");
+        exchange.setProperty("password", "property-password");
+        return exchange;
+    }
+
+    static String jsonDocument(int fields) {
+        StringBuilder builder = new StringBuilder("{\"items\": [");
+        for (int i = 0; i < fields; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"id\": ").append(i)
+                    .append(", \"name\": \"item-").append(i)
+                    .append("\", \"password\": \"secret-").append(i)
+                    .append("\", \"nested\": {\"token\": \"token-").append(i).append("\", \"enabled\": true}}");
+        }
+        return builder.append("]}").toString();
+    }
+
+    static String xmlDocument(int fields) {
+        StringBuilder builder = new StringBuilder("<items>");
+        for (int i = 0; i < fields; i++) {
+            builder.append("<item><id>").append(i)
+                    .append("</id><name>item-").append(i)
+                    .append("</name><password>secret-").append(i)
+                    .append("</password><nested><token>token-").append(i)
+                    .append("</token><enabled>true</enabled></nested></item>");
+        }
+        return builder.append("</items>").toString();
+    }
+
+    static String formDocument(int fields) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fields; i++) {
+            if (i > 0) {
+                builder.append('&');
+            }
+            builder.append("name").append(i).append("=item-").append(i)
+                    .append("&password").append(i).append("=secret-").append(i);
+        }
+        return builder.append("&password=secret&token=token").toString();
+    }
+
+    static Map<String, String> variables(int count) {
+        Map<String, String> variables = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            // a small share of empty variables exercises removal of empty parameters
+            variables.put("variable-" + i, i % 20 == 0 ? "" : "value-" + i);
+        }
+        return variables;
+    }
+
+    static VariablesService variablesService(Map<String, String> variables) {
+        VariablesService variablesService = new VariablesService(
+                event -> {
+                },
+                null,
+                new NamespaceProvider("benchmarks"),
+                "secret-label",
+                "secured-variables");
+        variablesService.updateCommonVariables(new HashMap<>(variables));
+        return variablesService;
+    }
+
+    static OpenSearchClientSupplier openSearchClientSupplier() {
+        OpenSearchClient client = new OpenSearchClient(new StubOpenSearchTransport());
+        return new OpenSearchClientSupplier() {
+            @Override
+            public OpenSearchClient getClient() {
+                return client;
+            }
+
+            @Override
+            public String normalize(String name) {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * Accepts bulk requests and responds without errors.
+     */
+    private static class StubOpenSearchTransport implements OpenSearchTransport {
+        private final JsonpMapper mapper = new JacksonJsonpMapper();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+                RequestT request,
+                Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                TransportOptions options
+        ) {
+            return (ResponseT) BulkResponse.of(response -> response.errors(false).took(0).items(List.of()));
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+                RequestT request,
+                Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                TransportOptions options
+        ) {
+            return CompletableFuture.completedFuture(performRequest(request, endpoint, options));
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Processor;
+import org.apache.camel.impl.event.ExchangeCompletedEvent;
+import org.apache.camel.impl.event.ExchangeCreatedEvent;
+import org.apache.camel.model.ProcessDefinition;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.integration.platform.engine.configuration.ApplicationAutoConfiguration;
+import org.qubership.integration.platform.engine.configuration.ServerConfiguration;
+import org.qubership.integration.platform.engine.configuration.TracingConfiguration;
+import org.qubership.integration.platform.engine.model.constants.CamelConstants.ChainProperties;
+import org.qubership.integration.platform.engine.model.deployment.properties.CamelDebuggerProperties;
+import org.qubership.integration.platform.engine.model.deployment.properties.DeploymentRuntimeProperties;
+import org.qubership.integration.platform.engine.model.deployment.properties.RuntimePropertiesDelta;
+import org.qubership.integration.platform.engine.model.deployment.update.DeploymentInfo;
+import org.qubership.integration.platform.engine.model.logging.LogLoggingLevel;
+import org.qubership.integration.platform.engine.model.logging.SessionsLoggingLevel;
+import org.qubership.integration.platform.engine.persistence.shared.entity.SessionInfo;
+import org.qubership.integration.platform.engine.service.CheckpointSessionService;
+import org.qubership.integration.platform.engine.service.ExecutionStatus;
+import org.qubership.integration.platform.engine.service.debugger.CamelDebugger;
+import org.qubership.integration.platform.engine.service.debugger.CamelDebuggerPropertiesService;
+import org.qubership.integration.platform.engine.service.debugger.LiveExchangesRegistry;
+import org.qubership.integration.platform.engine.service.debugger.logging.ChainLogger;
+import org.qubership.integration.platform.engine.service.debugger.masking.MaskingService;
+import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsService;
+import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsStore;
+import org.qubership.integration.platform.engine.service.debugger.sessions.OpenSearchWriter;
+import org.qubership.integration.platform.engine.service.debugger.sessions.SessionsSampler;
+import org.qubership.integration.platform.engine.service.debugger.sessions.SessionsService;
+import org.qubership.integration.platform.engine.service.debugger.tracing.TracingService;
+import org.qubership.integration.platform.engine.service.debugger.util.PayloadExtractor;
+import org.qubership.integration.platform.engine.util.EngineDomainUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the debugger overhead per chain element. Every invocation runs a whole session
+ * through the debugger, so the score is the mean overhead of one element including
+ * its share of the session start and finish.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CamelDebuggerBenchmark {
+    private static final int ELEMENTS = 10;
+    private static final String DEPLOYMENT_ID = "benchmark-deployment";
+    private static final String CHAIN_ID = "benchmark-chain";
+
+    @Param({"OFF", "DEBUG"})
+    public SessionsLoggingLevel sessionsLevel;
+
+    private CamelContext camelContext;
+    private CamelDebugger debugger;
+    private SessionsService sessionsService;
+    private CamelDebuggerPropertiesService propertiesService;
+    private List<ProcessDefinition> definitions;
+    private Processor processor;
+    private String body;
+
+    @Setup
+    public void setup() throws Exception {
+        ObjectMapper mapper = BenchmarkFixtures.jsonMapper();
+        camelContext = BenchmarkFixtures.camelContext();
+        processor = exchange -> {
+        };
+        body = BenchmarkFixtures.jsonDocument(10);
+
+        EngineDomainUtils engineDomainUtils = new EngineDomainUtils();
+        ReflectionTestUtils.setField(engineDomainUtils, "engineDefaultDomain", "default");
+        ReflectionTestUtils.setField(engineDomainUtils, "defaultEngineMicroserviceName", "qip-engine");
+        ServerConfiguration serverConfiguration = new ServerConfiguration(
+                new ApplicationAutoConfiguration(null, "qip-engine", "qip-engine"), engineDomainUtils);
+
+        TracingService tracingService = new TracingService(new TracingConfiguration());
+        MetricsStore metricsStore = new MetricsStore(serverConfiguration, new SimpleMeterRegistry(), "qip");
+        PayloadExtractor payloadExtractor = new PayloadExtractor(new MaskingService(mapper), mapper, Optional.empty());
+
+        OpenSearchWriter writer = new OpenSearchWriter(
+                10000, 128, 4096, 4096, 100, 256, 3600000, BenchmarkFixtures.openSearchClientSupplier(), mapper,
+                metricsStore);
+        ReflectionTestUtils.setField(writer, "queueDrainThreshold", 100);
+        ReflectionTestUtils.setField(writer, "indexName", "benchmark-session-elements");
+        sessionsService = new SessionsService(payloadExtractor, writer, new SessionsSampler(1.0));
+
+        // checkpoints are not used by the benchmarked chain, so there are no database calls
+        CheckpointSessionService checkpointSessionService = new CheckpointSessionService(null, null, null, mapper, null) {
+            @Override
+            public Optional<SessionInfo> findOriginalSessionInfo(String sessionId) {
+                return Optional.empty();
+            }
+        };
+
+        propertiesService = new CamelDebuggerPropertiesService();
+        propertiesService.mergeWithRuntimeProperties(createDebuggerProperties());
+        propertiesService.applyRuntimePropertiesDelta(new RuntimePropertiesDelta(0, Map.of(CHAIN_ID,
+                DeploymentRuntimeProperties.builder()
+                        .sessionsLoggingLevel(sessionsLevel)
+                        .logLoggingLevel(LogLoggingLevel.ERROR)
+                        .maskingEnabled(true)
+                        .build()), Set.of()));
+
+        debugger = new CamelDebugger(
+                serverConfiguration,
+                tracingService,
+                checkpointSessionService,
+                new MetricsService(metricsStore),
+                new ChainLogger(tracingService, Optional.empty()),
+                Optional.empty(),
+                sessionsService,
+                payloadExtractor,
+                BenchmarkFixtures.variablesService(BenchmarkFixtures.variables(10)),
+                propertiesService,
+                Optional.empty(),
+                exchange -> {
+                },
+                new LiveExchangesRegistry());
+        debugger.setDeploymentId(DEPLOYMENT_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        camelContext.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public Exchange processSession() {
+        Exchange exchange = BenchmarkFixtures.exchange(camelContext, body, "application/json");
+        debugger.onEvent(exchange, new ExchangeCreatedEvent(exchange));
+        for (ProcessDefinition definition : definitions) {
+            debugger.beforeProcess(exchange, processor, definition);
+            debugger.afterProcess(exchange, processor, definition, 0);
+        }
+        sessionsService.finishSession(exchange, propertiesService.getProperties(exchange, DEPLOYMENT_ID),
+                ExecutionStatus.COMPLETED_NORMALLY, LocalDateTime.now().toString(), 0, 0);
+        debugger.onEvent(exchange, new ExchangeCompletedEvent(exchange));
+        return exchange;
+    }
+
+    private CamelDebuggerProperties createDebuggerProperties() {
+        definitions = new ArrayList<>(ELEMENTS);
+        Map<String, Map<String, String>> elementsProperties = new HashMap<>();
+        for (int i = 0; i < ELEMENTS; i++) {
+            String elementId = UUID.randomUUID().toString();
+            ProcessDefinition definition = new ProcessDefinition();
+            definition.setId(elementId);
+            definitions.add(definition);
+            elementsProperties.put(elementId, Map.of(
+                    ChainProperties.ELEMENT_ID, elementId,
+                    ChainProperties.ELEMENT_NAME, "script-" + i,
+                    ChainProperties.ELEMENT_TYPE, "script"));
+        }
+        return CamelDebuggerProperties.builder()
+                .deploymentInfo(DeploymentInfo.builder()
+                        .deploymentId(DEPLOYMENT_ID)
+                        .chainId(CHAIN_ID)
+                        .chainName("Benchmark chain")
+                        .snapshotId("benchmark-snapshot")
+                        .snapshotName("benchmark-snapshot")
+                        .build())
+                .elementsProperties(elementsProperties)
+                .maskedFields(BenchmarkFixtures.MASKED_FIELDS)
+                .build();
+    }
+}
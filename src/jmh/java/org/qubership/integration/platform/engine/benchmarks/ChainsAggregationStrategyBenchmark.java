@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.benchmarks;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.integration.platform.engine.camel.ChainsAggregationStrategy;
+import org.qubership.integration.platform.engine.model.constants.CamelConstants.Properties;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ChainsAggregationStrategyBenchmark {
+    @Param({"10", "100", "1000"})
+    public int branches;
+
+    private CamelContext camelContext;
+    private ChainsAggregationStrategy strategy;
+    private String branchBody;
+
+    @Setup
+    public void setup() {
+        camelContext = BenchmarkFixtures.camelContext();
+        strategy = new ChainsAggregationStrategy(BenchmarkFixtures.jsonMapper());
+        branchBody = BenchmarkFixtures.jsonDocument(5);
+    }
+
+    @TearDown
+    public void tearDown() {
+        camelContext.stop();
+    }
+
+    /**
+     * Aggregates results of all split branches in the same way the split element does.
+     * Aggregation mutates exchanges, so branch exchanges are created in every invocation,
+     * their creation cost grows linearly with the branches count as the aggregation does.
+     */
+    @Benchmark
+    public Exchange aggregateBranches() {
+        Exchange input = BenchmarkFixtures.exchange(camelContext, "{}", "application/json");
+        Exchange result = null;
+        for (int i = 0; i < branches; i++) {
+            result = strategy.aggregate(result, createBranch(i), input);
+        }
+        return result;
+    }
+
+    private Exchange createBranch(int index) {
+        Exchange branch = BenchmarkFixtures.exchange(camelContext, branchBody, "application/json");
+        branch.setProperty(Properties.SPLIT_ID, index == 0 ? "main" : "branch-" + index);
+        branch.setProperty(Properties.SPLIT_PROPAGATE_HEADERS, true);
+        branch.setProperty(Properties.SPLIT_PROPAGATE_PROPERTIES, true);
+        return branch;
+    }
+}
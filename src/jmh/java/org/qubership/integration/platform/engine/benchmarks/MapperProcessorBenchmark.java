@@ -0,0 +1,133 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.benchmarks;
+
+import io.atlasmap.json.v2.JsonField;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.DataSource;
+import io.atlasmap.v2.DataSourceType;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.Mappings;
+import io.atlasmap.v2.Properties;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.integration.platform.engine.camel.processors.MapperProcessor;
+import org.qubership.integration.platform.engine.model.constants.CamelConstants;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MapperProcessorBenchmark {
+    private static final String SOURCE_DOC_ID = "source";
+    private static final String TARGET_DOC_ID = "target";
+
+    @Param({"10", "100"})
+    public int fields;
+
+    @Param({"true", "false"})
+    public boolean cacheEnabled;
+
+    private CamelContext camelContext;
+    private MapperProcessor processor;
+    private String mappingConfig;
+    private String body;
+
+    @Setup
+    public void setup() throws Exception {
+        camelContext = BenchmarkFixtures.camelContext();
+        processor = new MapperProcessor(BenchmarkFixtures.jsonMapper());
+        processor.setCacheEnabled(cacheEnabled);
+        mappingConfig = BenchmarkFixtures.jsonMapper().writeValueAsString(createMapping(fields));
+
+        StringBuilder builder = new StringBuilder("{\"source\": {");
+        for (int i = 0; i < fields; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("\"field").append(i).append("\": \"value-").append(i).append('"');
+        }
+        body = builder.append("}}").toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        camelContext.stop();
+    }
+
+    @Benchmark
+    public Object map() throws Exception {
+        Exchange exchange = BenchmarkFixtures.exchange(camelContext, body, "application/json");
+        exchange.setProperty(CamelConstants.Properties.MAPPING_CONFIG, mappingConfig);
+        exchange.setProperty(CamelConstants.Properties.MAPPING_ID, "benchmark-mapping-" + fields);
+        processor.process(exchange);
+        return exchange.getMessage().getBody();
+    }
+
+    private static AtlasMapping createMapping(int fields) {
+        AtlasMapping atlasMapping = new AtlasMapping();
+        atlasMapping.setName("benchmarkMapping");
+        atlasMapping.setProperties(new Properties());
+        atlasMapping.getDataSource().add(createDataSource(SOURCE_DOC_ID, DataSourceType.SOURCE));
+        atlasMapping.getDataSource().add(createDataSource(TARGET_DOC_ID, DataSourceType.TARGET));
+
+        Mappings mappings = new Mappings();
+        for (int i = 0; i < fields; i++) {
+            Mapping mapping = new Mapping();
+            mapping.setId("mapping-" + i);
+            mapping.getInputField().add(createField(SOURCE_DOC_ID, "/source/field" + i));
+            mapping.getOutputField().add(createField(TARGET_DOC_ID, "/target/result/field" + i));
+            mappings.getMapping().add(mapping);
+        }
+        atlasMapping.setMappings(mappings);
+        return atlasMapping;
+    }
+
+    private static DataSource createDataSource(String id, DataSourceType type) {
+        DataSource dataSource = new DataSource();
+        dataSource.setId(id);
+        dataSource.setName(id);
+        dataSource.setUri("atlas:cip:json:" + id);
+        dataSource.setDataSourceType(type);
+        return dataSource;
+    }
+
+    private static JsonField createField(String docId, String path) {
+        JsonField field = new JsonField();
+        field.setName(path.substring(path.lastIndexOf('/') + 1));
+        field.setPath(path);
+        field.setFieldType(FieldType.STRING);
+        field.setDocId(docId);
+        return field;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.integration.platform.engine.service.debugger.masking.MaskingService;
+import org.qubership.integration.platform.engine.service.debugger.util.PayloadExtractor;
+import org.springframework.util.MimeType;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.qubership.integration.platform.engine.benchmarks.BenchmarkFixtures.MASKED_FIELDS;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PayloadMaskingBenchmark {
+    @Param({"json", "xml", "form"})
+    public String format;
+
+    @Param({"10", "100"})
+    public int fields;
+
+    private CamelContext camelContext;
+    private MaskingService maskingService;
+    private PayloadExtractor payloadExtractor;
+    private Exchange exchange;
+    private String body;
+    private MimeType contentType;
+
+    @Setup
+    public void setup() {
+        ObjectMapper mapper = BenchmarkFixtures.jsonMapper();
+        maskingService = new MaskingService(mapper);
+        payloadExtractor = new PayloadExtractor(maskingService, mapper, Optional.empty());
+        switch (format) {
+            case "json" -> {
+                body = BenchmarkFixtures.jsonDocument(fields);
+                contentType = MimeType.valueOf("application/json");
+            }
+            case "xml" -> {
+                body = BenchmarkFixtures.xmlDocument(fields);
+                contentType = MimeType.valueOf("application/xml");
+            }
+            default -> {
+                body = BenchmarkFixtures.formDocument(fields);
+                contentType = MimeType.valueOf("application/x-www-form-urlencoded");
+            }
+        }
+        camelContext = BenchmarkFixtures.camelContext();
+        exchange = BenchmarkFixtures.exchange(camelContext, body, contentType.toString());
+    }
+
+    @TearDown
+    public void tearDown() {
+        camelContext.stop();
+    }
+
+    @Benchmark
+    public String maskBody() throws Exception {
+        return maskingService.maskFields(body, MASKED_FIELDS, contentType);
+    }
+
+    @Benchmark
+    public String extractBodyForLogging() {
+        return payloadExtractor.extractBodyForLogging(exchange, MASKED_FIELDS, true);
+    }
+
+    @Benchmark
+    public Object extractHeadersForLogging() {
+        return payloadExtractor.extractHeadersForLogging(exchange, MASKED_FIELDS, true);
+    }
+
+    @Benchmark
+    public Object extractExchangePropertiesForLogging() {
+        return payloadExtractor.extractExchangePropertiesForLogging(exchange, MASKED_FIELDS, true);
+    }
+}
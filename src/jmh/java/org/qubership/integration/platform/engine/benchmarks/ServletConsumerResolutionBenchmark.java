@@ -0,0 +1,102 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.benchmarks;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.camel.CamelContext;
+import org.apache.camel.http.common.HttpConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.integration.platform.engine.camel.components.servlet.CustomHttpRestServletResolveConsumerStrategy;
+import org.qubership.integration.platform.engine.camel.components.servlet.ServletCustomComponent;
+import org.qubership.integration.platform.engine.camel.components.servlet.ServletCustomEndpoint;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ServletConsumerResolutionBenchmark {
+    @Param({"10", "100", "1000"})
+    public int routes;
+
+    private CamelContext camelContext;
+    private CustomHttpRestServletResolveConsumerStrategy strategy;
+    private Map<String, HttpConsumer> consumers;
+    private HttpServletRequest staticPathRequest;
+    private HttpServletRequest templatePathRequest;
+
+    @Setup
+    public void setup() throws Exception {
+        camelContext = BenchmarkFixtures.camelContext();
+        camelContext.addComponent("servlet-custom", new ServletCustomComponent());
+        strategy = new CustomHttpRestServletResolveConsumerStrategy();
+
+        // half of the triggers have static paths and half have path variables, as in typical chains
+        consumers = new HashMap<>();
+        for (int i = 0; i < routes; i++) {
+            String path = i % 2 == 0
+                    ? "/routes/api/v1/resource-" + i + "/items"
+                    : "/routes/api/v1/resource-" + i + "/items/{id}";
+            ServletCustomEndpoint endpoint = camelContext.getEndpoint(
+                    "servlet-custom:" + path + "?httpMethodRestrict=GET,POST", ServletCustomEndpoint.class);
+            HttpConsumer consumer = (HttpConsumer) endpoint.createConsumer(exchange -> {
+            });
+            consumers.put(endpoint.getEndpointUri(), consumer);
+        }
+
+        int last = routes - 1;
+        staticPathRequest = request("/routes/api/v1/resource-" + (last - last % 2) + "/items");
+        templatePathRequest = request("/routes/api/v1/resource-" + (last - (last + 1) % 2) + "/items/42");
+    }
+
+    @TearDown
+    public void tearDown() {
+        camelContext.stop();
+    }
+
+    @Benchmark
+    public HttpConsumer resolveStaticPath() {
+        return strategy.resolve(staticPathRequest, consumers);
+    }
+
+    @Benchmark
+    public HttpConsumer resolveTemplatePath() {
+        return strategy.resolve(templatePathRequest, consumers);
+    }
+
+    private static HttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setPathInfo(path);
+        return request;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.qubership.integration.platform.engine.service.VariablesService;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VariablesServiceBenchmark {
+    @Param({"10", "100", "1000"})
+    public int variables;
+
+    private VariablesService variablesService;
+    private String configuration;
+
+    @Setup
+    public void setup() {
+        variablesService = BenchmarkFixtures.variablesService(BenchmarkFixtures.variables(variables));
+
+        // route configuration fragment with references to variables, including empty ones
+        StringBuilder builder = new StringBuilder("<routes>");
+        for (int i = 0; i < 20; i++) {
+            int variable = (i * 7) % variables;
+            builder.append("<route id=\"route-").append(i).append("\"><from uri=\"direct:route-").append(i)
+                    .append("?timeout=#{variable-").append(variable).append("}\"/>")
+                    .append("<setProperty name=\"value\"><constant>#{variable-").append(variable)
+                    .append("}</constant></setProperty></route>");
+        }
+        configuration = builder.append("</routes>").toString();
+    }
+
+    @Benchmark
+    public String injectVariables() {
+        return variablesService.injectVariables(configuration);
+    }
+
+    @Benchmark
+    public String injectVariablesEscaped() {
+        return variablesService.injectVariables(configuration, true);
+    }
+}
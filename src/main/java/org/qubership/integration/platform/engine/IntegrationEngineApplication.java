@@ -17,6 +17,7 @@
 package org.qubership.integration.platform.engine;
 
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.qubership.integration.platform.engine.configuration.CamelVirtualThreadsRegistrar;
 import org.qubership.integration.platform.engine.opensearch.ism.converters.OpenSearchTypeConvertersRegistrar;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -26,6 +27,7 @@ public class IntegrationEngineApplication {
     public static void main(String[] args) {
         SpringApplication application = new SpringApplication(IntegrationEngineApplication.class);
         application.addListeners(new OpenSearchTypeConvertersRegistrar());
+        application.addListeners(new CamelVirtualThreadsRegistrar());
         application.run(args);
     }
 }
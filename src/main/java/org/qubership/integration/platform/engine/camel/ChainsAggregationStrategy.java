@@ -185,7 +185,7 @@ private void processPayload(Exchange oldExchange, Exchange newExchange, ObjectNo
         String rawExchange = newExchange.getMessage().getBody(String.class);
         try {
             JsonNode newBody = objectMapper.readTree(rawExchange);
-            oldBody.replace(getBranchName(newExchange), objectMapper.readTree(objectMapper.writeValueAsString(newBody)));
+            oldBody.replace(getBranchName(newExchange), newBody);
         } catch (JsonProcessingException | ClassCastException | IllegalArgumentException e) {
             oldBody.replace(getBranchName(newExchange), new TextNode(rawExchange));
         }
@@ -21,14 +21,14 @@
 import org.apache.camel.Exchange;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.integration.platform.engine.service.debugger.util.MessageHelper;
+import org.qubership.integration.platform.engine.util.JsonStreamingUtils;
 import org.qubership.integration.platform.engine.util.MDCUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -63,12 +63,12 @@ public void setCorrelationId(Exchange exchange) {
                 }
             } else if (BODY.equals(correlationIdPosition)) {
                 try {
-                    Map<String, Object> body = objectMapper.readValue(MessageHelper.extractBody(exchange), HashMap.class);
-                    if (body.containsKey(correlationIdName)) {
-                        String correlationId = String.valueOf(body.get(correlationIdName));
-                        exchange.setProperty(CORRELATION_ID, correlationId);
-                        if (StringUtils.isNotBlank(correlationId)) {
-                            MDCUtil.setCorrelationId(correlationId);
+                    Optional<String> correlationId = JsonStreamingUtils.findTopLevelFieldAsString(
+                            objectMapper, MessageHelper.extractBody(exchange), correlationIdName);
+                    if (correlationId.isPresent()) {
+                        exchange.setProperty(CORRELATION_ID, correlationId.get());
+                        if (StringUtils.isNotBlank(correlationId.get())) {
+                            MDCUtil.setCorrelationId(correlationId.get());
                         }
                     }
                 } catch (IOException e) {
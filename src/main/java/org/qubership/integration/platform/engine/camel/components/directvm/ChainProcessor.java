@@ -23,10 +23,8 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 public final class ChainProcessor extends DelegateAsyncProcessor {
 
@@ -117,13 +115,6 @@ private static Exchange copyExchangeAndSetCamelContext(Exchange exchange, CamelC
             answer.getExchangeExtension().setProperties(safeCopyProperties(exchange.getProperties()));
         }
         exchange.getExchangeExtension().copyInternalProperties(answer);
-        // safe copy message history using a defensive copy
-        List<MessageHistory> history
-                = (List<MessageHistory>) exchange.getProperty(ExchangePropertyKey.MESSAGE_HISTORY);
-        if (history != null) {
-            // use thread-safe list as message history may be accessed concurrently
-            answer.setProperty(ExchangePropertyKey.MESSAGE_HISTORY, new CopyOnWriteArrayList<>(history));
-        }
 
         if (handover) {
             // Need to hand over the completion for async invocation
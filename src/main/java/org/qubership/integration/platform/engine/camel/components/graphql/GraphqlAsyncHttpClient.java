@@ -0,0 +1,251 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.camel.components.graphql;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.DefaultClientConnectionReuseStrategy;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.routing.DefaultProxyRoutePlanner;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.routing.HttpRoutePlanner;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.io.CloseMode;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Engine-wide async HTTP client of graphql elements. All endpoints share its I/O reactor and
+ * connection pool, settings of an element are applied per request from the request context.
+ * Responses are handled on a bounded worker pool, never on the I/O reactor threads.
+ */
+@Slf4j
+@Component
+public class GraphqlAsyncHttpClient {
+    public static final String CONFIGURER_ATTRIBUTE = GraphqlAsyncHttpClient.class.getName() + ".configurer";
+    public static final String PROXY_ATTRIBUTE = GraphqlAsyncHttpClient.class.getName() + ".proxy";
+
+    private static final HttpRoutePlanner DEFAULT_ROUTE_PLANNER = new DefaultRoutePlanner(null);
+
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final ThreadPoolExecutor workerPool;
+    // a queued response holds a permit, so the worker pool queue never overflows
+    private final Semaphore pendingRequests;
+    private volatile CloseableHttpAsyncClient client;
+    private volatile boolean closed;
+
+    @Autowired
+    public GraphqlAsyncHttpClient(
+            @Value("${qip.camel.component.graphql.max-connections:200}") int maxConnections,
+            @Value("${qip.camel.component.graphql.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${qip.camel.component.graphql.response-threads:20}") int responseThreads,
+            @Value("${qip.camel.component.graphql.max-pending-requests:1000}") int maxPendingRequests
+    ) {
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.pendingRequests = new Semaphore(maxPendingRequests);
+        this.workerPool = new ThreadPoolExecutor(responseThreads, responseThreads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(maxPendingRequests), new CustomizableThreadFactory("graphql-response-"));
+        this.workerPool.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Sends the request and passes its outcome to the callback on the worker pool.
+     *
+     * @throws RejectedExecutionException if the maximum number of requests is pending
+     */
+    public <T> void execute(
+            AsyncRequestProducer requestProducer,
+            AsyncResponseConsumer<T> responseConsumer,
+            HttpContext context,
+            FutureCallback<T> callback
+    ) {
+        if (!pendingRequests.tryAcquire()) {
+            throw new RejectedExecutionException("Maximum number of pending GraphQL requests is reached");
+        }
+        try {
+            getClient().execute(requestProducer, responseConsumer, context, new FutureCallback<>() {
+                @Override
+                public void completed(T result) {
+                    dispatch(() -> callback.completed(result));
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    dispatch(() -> callback.failed(e));
+                }
+
+                @Override
+                public void cancelled() {
+                    dispatch(callback::cancelled);
+                }
+            });
+        } catch (RuntimeException e) {
+            pendingRequests.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        CloseableHttpAsyncClient client;
+        synchronized (this) {
+            closed = true;
+            client = this.client;
+            this.client = null;
+        }
+        if (nonNull(client)) {
+            client.close(CloseMode.GRACEFUL);
+        }
+        workerPool.shutdown();
+    }
+
+    private void dispatch(Runnable handler) {
+        // the permit is released before routing continues, a next graphql call of the route takes its own
+        Runnable task = () -> {
+            pendingRequests.release();
+            handler.run();
+        };
+        try {
+            workerPool.execute(task);
+        } catch (RejectedExecutionException e) {
+            // the pool is shut down, the exchange must be completed anyway but not on the I/O reactor
+            Thread.ofVirtual().name("graphql-response-shutdown").start(task);
+        }
+    }
+
+    private CloseableHttpAsyncClient getClient() {
+        CloseableHttpAsyncClient client = this.client;
+        if (isNull(client)) {
+            synchronized (this) {
+                if (closed) {
+                    throw new IllegalStateException("GraphQL async HTTP client is closed");
+                }
+                client = this.client;
+                if (isNull(client)) {
+                    client = createClient();
+                    client.start();
+                    this.client = client;
+                    log.debug("Started GraphQL async HTTP client, max connections: {}, per route: {}",
+                            maxConnections, maxConnectionsPerRoute);
+                }
+            }
+        }
+        return client;
+    }
+
+    private CloseableHttpAsyncClient createClient() {
+        return HttpAsyncClients.custom()
+                .setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+                        .setMaxConnTotal(maxConnections)
+                        .setMaxConnPerRoute(maxConnectionsPerRoute)
+                        .build())
+                .addRequestInterceptorFirst(GraphqlAsyncHttpClient::processRequest)
+                .addResponseInterceptorLast(GraphqlAsyncHttpClient::processResponse)
+                .setRoutePlanner(new RequestRoutePlanner())
+                .setConnectionReuseStrategy(GraphqlAsyncHttpClient::keepAlive)
+                .disableAutomaticRetries()
+                .build();
+    }
+
+    private static void processRequest(HttpRequest request, EntityDetails entity, HttpContext context)
+            throws HttpException, IOException {
+        AsyncHttpClientConfigurer configurer = getConfigurer(context);
+        if (nonNull(configurer)) {
+            // the same order as interceptors added one by one to the head of the client chain
+            List<HttpRequestInterceptor> interceptors = configurer.requestInterceptors();
+            for (int i = interceptors.size() - 1; i >= 0; i--) {
+                interceptors.get(i).process(request, entity, context);
+            }
+        }
+    }
+
+    private static void processResponse(HttpResponse response, EntityDetails entity, HttpContext context)
+            throws HttpException, IOException {
+        AsyncHttpClientConfigurer configurer = getConfigurer(context);
+        if (nonNull(configurer)) {
+            for (HttpResponseInterceptor interceptor : configurer.responseInterceptors()) {
+                interceptor.process(response, entity, context);
+            }
+        }
+    }
+
+    private static boolean keepAlive(HttpRequest request, HttpResponse response, HttpContext context) {
+        AsyncHttpClientConfigurer configurer = getConfigurer(context);
+        return (isNull(configurer) || configurer.reuseConnections())
+                && DefaultClientConnectionReuseStrategy.INSTANCE.keepAlive(request, response, context);
+    }
+
+    private static AsyncHttpClientConfigurer getConfigurer(HttpContext context) {
+        return context.getAttribute(CONFIGURER_ATTRIBUTE) instanceof AsyncHttpClientConfigurer configurer
+                ? configurer
+                : null;
+    }
+
+    /**
+     * Uses the route planner of the element if it is set, otherwise the proxy of the endpoint.
+     */
+    private static class RequestRoutePlanner implements HttpRoutePlanner {
+        @Override
+        public HttpRoute determineRoute(HttpHost target, HttpContext context) throws HttpException {
+            return getRoutePlanner(context).determineRoute(target, context);
+        }
+
+        @Override
+        public HttpRoute determineRoute(HttpHost target, HttpRequest request, HttpContext context)
+                throws HttpException {
+            return getRoutePlanner(context).determineRoute(target, request, context);
+        }
+
+        private static HttpRoutePlanner getRoutePlanner(HttpContext context) {
+            AsyncHttpClientConfigurer configurer = getConfigurer(context);
+            if (nonNull(configurer) && nonNull(configurer.routePlanner())) {
+                return configurer.routePlanner();
+            }
+            return context.getAttribute(PROXY_ATTRIBUTE) instanceof HttpHost proxy
+                    ? new DefaultProxyRoutePlanner(proxy)
+                    : DEFAULT_ROUTE_PLANNER;
+        }
+    }
+}
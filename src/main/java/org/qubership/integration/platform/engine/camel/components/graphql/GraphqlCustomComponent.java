@@ -18,6 +18,7 @@
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.component.graphql.GraphqlComponent;
+import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.annotations.Component;
 
 import java.net.URI;
@@ -25,11 +26,26 @@
 
 @Component("graphql-custom")
 public class GraphqlCustomComponent extends GraphqlComponent {
+    @Metadata(label = "advanced")
+    private GraphqlAsyncHttpClient asyncHttpClient;
+
     @Override
     protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters) throws Exception {
         GraphqlCustomEndpoint endpoint = new GraphqlCustomEndpoint(uri, this);
         endpoint.setHttpUri(new URI(remaining));
+        endpoint.setAsyncHttpClient(getAsyncHttpClient());
         setProperties(endpoint, parameters);
         return endpoint;
     }
+
+    public GraphqlAsyncHttpClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    /**
+     * Async HTTP client shared between endpoints
+     */
+    public void setAsyncHttpClient(GraphqlAsyncHttpClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
 }
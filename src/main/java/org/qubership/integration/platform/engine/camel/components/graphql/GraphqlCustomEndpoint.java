@@ -24,17 +24,21 @@
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
 import org.apache.hc.client5.http.auth.AuthScope;
+import org.apache.hc.client5.http.auth.CredentialsProvider;
 import org.apache.hc.client5.http.auth.CredentialsStore;
 import org.apache.hc.client5.http.auth.UsernamePasswordCredentials;
 import org.apache.hc.client5.http.impl.auth.BasicCredentialsProvider;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.message.BasicHeader;
 
 import java.util.Arrays;
+import java.util.List;
 
 @UriEndpoint(firstVersion = "3.0.0", scheme = "graphql-custom", title = "GraphQL", syntax = "graphql-custom:httpUri",
     category = { Category.API }, producerOnly = true, lenientProperties = true)
@@ -42,6 +46,8 @@ public class GraphqlCustomEndpoint extends GraphqlEndpoint {
     @UriParam(label = "advanced", description = "HTTP client configurer")
     private HttpClientConfigurer httpClientConfigurer;
 
+    private GraphqlAsyncHttpClient asyncHttpClient;
+
     public GraphqlCustomEndpoint(String uri, Component component) {
         super(uri, component);
     }
@@ -54,6 +60,14 @@ public void setHttpClientConfigurer(HttpClientConfigurer httpClientConfigurer) {
         this.httpClientConfigurer = httpClientConfigurer;
     }
 
+    public GraphqlAsyncHttpClient getAsyncHttpClient() {
+        return asyncHttpClient;
+    }
+
+    public void setAsyncHttpClient(GraphqlAsyncHttpClient asyncHttpClient) {
+        this.asyncHttpClient = asyncHttpClient;
+    }
+
     @Override
     public Producer createProducer() throws Exception {
         return new GraphqlCustomProducer(this);
@@ -69,32 +83,38 @@ public CloseableHttpClient getHttpclient() {
         return httpClient;
     }
 
+    /**
+     * Creates the context of a request sent with the engine-wide async client,
+     * it carries the settings of the endpoint and its element.
+     */
+    public HttpClientContext createRequestContext() {
+        HttpClientContext context = HttpClientContext.create();
+        CredentialsProvider credentialsProvider = getCredentialsProvider();
+        if (credentialsProvider != null) {
+            context.setCredentialsProvider(credentialsProvider);
+        }
+        HttpHost proxy = getProxy();
+        if (proxy != null) {
+            context.setAttribute(GraphqlAsyncHttpClient.PROXY_ATTRIBUTE, proxy);
+        }
+        if (getHttpClientConfigurer() instanceof AsyncHttpClientConfigurer configurer) {
+            context.setAttribute(GraphqlAsyncHttpClient.CONFIGURER_ATTRIBUTE, configurer);
+        }
+        return context;
+    }
+
     private CloseableHttpClient createHttpClient() {
         HttpClientBuilder httpClientBuilder = HttpClients.custom();
-        String proxyHost = getProxyHost();
-        if (proxyHost != null) {
-            String[] parts = proxyHost.split(":");
-            String hostname = parts[0];
-            int port = Integer.parseInt(parts[1]);
-            httpClientBuilder.setProxy(new HttpHost(hostname, port));
+        HttpHost proxy = getProxy();
+        if (proxy != null) {
+            httpClientBuilder.setProxy(proxy);
         }
-        String accessToken = getAccessToken();
-        if (accessToken != null) {
-            String authType = "Bearer";
-            String jwtAuthorizationType = getJwtAuthorizationType();
-            if (jwtAuthorizationType != null) {
-                authType = jwtAuthorizationType;
-            }
-            httpClientBuilder.setDefaultHeaders(
-                Arrays.asList(new BasicHeader(HttpHeaders.AUTHORIZATION, authType + " " + accessToken)));
+        List<Header> defaultHeaders = getDefaultHeaders();
+        if (defaultHeaders != null) {
+            httpClientBuilder.setDefaultHeaders(defaultHeaders);
         }
-        String username = getUsername();
-        String password = getPassword();
-        if (username != null && password != null) {
-            CredentialsStore credentialsProvider = new BasicCredentialsProvider();
-            credentialsProvider.setCredentials(
-                new AuthScope(null, -1),
-                new UsernamePasswordCredentials(username, password.toCharArray()));
+        CredentialsProvider credentialsProvider = getCredentialsProvider();
+        if (credentialsProvider != null) {
             httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
         }
 
@@ -104,4 +124,41 @@ private CloseableHttpClient createHttpClient() {
         }
         return httpClientBuilder.build();
     }
+
+    private HttpHost getProxy() {
+        String proxyHost = getProxyHost();
+        if (proxyHost == null) {
+            return null;
+        }
+        String[] parts = proxyHost.split(":");
+        String hostname = parts[0];
+        int port = Integer.parseInt(parts[1]);
+        return new HttpHost(hostname, port);
+    }
+
+    List<Header> getDefaultHeaders() {
+        String accessToken = getAccessToken();
+        if (accessToken == null) {
+            return null;
+        }
+        String authType = "Bearer";
+        String jwtAuthorizationType = getJwtAuthorizationType();
+        if (jwtAuthorizationType != null) {
+            authType = jwtAuthorizationType;
+        }
+        return Arrays.asList(new BasicHeader(HttpHeaders.AUTHORIZATION, authType + " " + accessToken));
+    }
+
+    private CredentialsProvider getCredentialsProvider() {
+        String username = getUsername();
+        String password = getPassword();
+        if (username == null || password == null) {
+            return null;
+        }
+        CredentialsStore credentialsProvider = new BasicCredentialsProvider();
+        credentialsProvider.setCredentials(
+            new AuthScope(null, -1),
+            new UsernamePasswordCredentials(username, password.toCharArray()));
+        return credentialsProvider;
+    }
 }
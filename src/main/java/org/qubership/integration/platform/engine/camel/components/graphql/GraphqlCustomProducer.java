@@ -19,27 +19,37 @@
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.Exchange;
 import org.apache.camel.InvalidPayloadException;
-import org.apache.camel.component.graphql.GraphqlEndpoint;
 import org.apache.camel.component.graphql.GraphqlProducer;
 import org.apache.camel.http.base.HttpOperationFailedException;
 import org.apache.camel.util.json.JsonObject;
-import org.apache.hc.client5.http.classic.methods.HttpPost;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
-import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
+import org.apache.hc.client5.http.entity.DeflateDecompressingEntity;
+import org.apache.hc.client5.http.entity.GzipDecompressingEntity;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.concurrent.FutureCallback;
 import org.apache.hc.core5.http.*;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
-import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.http.nio.AsyncRequestProducer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
 import org.qubership.integration.platform.engine.model.constants.CamelConstants.Headers;
+import org.slf4j.MDC;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import static org.apache.camel.Exchange.HTTP_RESPONSE_CODE;
 
 public class GraphqlCustomProducer extends GraphqlProducer {
 
+    private static final ContentType REQUEST_CONTENT_TYPE = ContentType.create("application/json", "UTF-8");
     private static final Set<String> EXCLUDE_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
 
     static {
@@ -50,49 +60,159 @@ public class GraphqlCustomProducer extends GraphqlProducer {
         ));
     }
 
-    public GraphqlCustomProducer(GraphqlEndpoint endpoint) {
+    public GraphqlCustomProducer(GraphqlCustomEndpoint endpoint) {
         super(endpoint);
     }
 
+    @Override
+    public GraphqlCustomEndpoint getEndpoint() {
+        return (GraphqlCustomEndpoint) super.getEndpoint();
+    }
+
+    /**
+     * Sends the request with the engine-wide async client and continues routing on its worker pool
+     * when the response is received, so the calling thread is not blocked while the request is in flight.
+     */
     @Override
     public boolean process(Exchange exchange, AsyncCallback callback) {
+        URI httpUri = getEndpoint().getHttpUri();
+        AsyncRequestProducer requestProducer;
+        HttpClientContext requestContext;
         try {
-            Map<String, Object> exchangeHeaders = exchange.getMessage().getHeaders();
-            CloseableHttpClient httpClient = getEndpoint().getHttpclient();
-            URI httpUri = getEndpoint().getHttpUri();
             String requestBody = buildRequestBody(getQuery(exchange),
                 getEndpoint().getOperationName(),
                 getVariables(exchange));
-            HttpEntity requestEntity = new StringEntity(requestBody,
-                ContentType.create("application/json", "UTF-8"));
-
-            HttpPost httpPost = new HttpPost(httpUri);
-            httpPost.setHeaders(convertHeaders(exchangeHeaders));
-            httpPost.setHeader(HttpHeaders.ACCEPT, "application/json");
-            httpPost.setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
-            httpPost.setEntity(requestEntity);
-
-            CloseableHttpResponse response = httpClient.execute(httpPost);
-            int statusCode = response.getCode();
-            exchange.getMessage().setHeader(HTTP_RESPONSE_CODE, statusCode);
-            String responseContent = response.getEntity() == null ? null : EntityUtils.toString(response.getEntity());
-            Map<String, String> headers = convertHeaders(response.getHeaders());
-
-            if (statusCode >= 400 && statusCode <= 599) {
-                String statusText = response.getReasonPhrase();
-                throw new HttpOperationFailedException(httpUri.toString(), statusCode, statusText, null,
-                    headers, responseContent);
+            AsyncRequestBuilder requestBuilder = AsyncRequestBuilder.post(httpUri)
+                .setHeaders(convertHeaders(exchange.getMessage().getHeaders()))
+                .setHeader(HttpHeaders.ACCEPT, "application/json")
+                .setHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .setEntity(AsyncEntityProducers.create(requestBody, REQUEST_CONTENT_TYPE));
+            addDefaultHeaders(requestBuilder, getEndpoint().getDefaultHeaders());
+            requestProducer = requestBuilder.build();
+            requestContext = getEndpoint().createRequestContext();
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        try {
+            sendRequest(exchange, callback, httpUri, requestProducer, requestContext, mdc);
+        } catch (RejectedExecutionException e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+        return false;
+    }
+
+    private void sendRequest(Exchange exchange, AsyncCallback callback, URI httpUri,
+                             AsyncRequestProducer requestProducer, HttpClientContext requestContext,
+                             Map<String, String> mdc) {
+        getEndpoint().getAsyncHttpClient().execute(
+            requestProducer,
+            new BasicResponseConsumer<>(new BasicAsyncEntityConsumer()),
+            requestContext,
+            new FutureCallback<>() {
+                @Override
+                public void completed(Message<HttpResponse, byte[]> response) {
+                    continueRouting(exchange, callback, mdc, () -> {
+                        try {
+                            processResponse(exchange, httpUri, response);
+                        } catch (Exception e) {
+                            exchange.setException(e);
+                        }
+                    });
+                }
+
+                @Override
+                public void failed(Exception e) {
+                    continueRouting(exchange, callback, mdc, () -> exchange.setException(e));
+                }
+
+                @Override
+                public void cancelled() {
+                    continueRouting(exchange, callback, mdc, () -> exchange.setException(
+                        new CancellationException("GraphQL request to " + httpUri + " was cancelled")));
+                }
+            });
+    }
+
+    /**
+     * Handles the response and continues routing with the MDC of the calling thread.
+     */
+    private static void continueRouting(Exchange exchange, AsyncCallback callback, Map<String, String> mdc,
+                                        Runnable responseHandler) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            responseHandler.run();
+            callback.done(false);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /**
+     * Adds default headers of the endpoint which are not set by the exchange, as the classic client does.
+     */
+    private static void addDefaultHeaders(AsyncRequestBuilder requestBuilder, List<Header> defaultHeaders) {
+        if (defaultHeaders == null) {
+            return;
+        }
+        for (Header header : defaultHeaders) {
+            if (requestBuilder.getFirstHeader(header.getName()) == null) {
+                requestBuilder.addHeader(header);
             }
+        }
+    }
 
-            exchange.getMessage().setBody(responseContent);
-            exchange.getMessage().getHeaders().putAll(headers); // alter exchange headers
+    private static void processResponse(Exchange exchange, URI httpUri, Message<HttpResponse, byte[]> response)
+            throws IOException, ParseException, HttpOperationFailedException {
+        HttpResponse head = response.getHead();
+        int statusCode = head.getCode();
+        exchange.getMessage().setHeader(HTTP_RESPONSE_CODE, statusCode);
+        String responseContent = null;
+        Map<String, String> headers;
+        if (response.getBody() == null) {
+            headers = convertHeaders(head.getHeaders());
+        } else {
+            Header contentType = head.getFirstHeader(HttpHeaders.CONTENT_TYPE);
+            HttpEntity entity = new ByteArrayEntity(response.getBody(),
+                contentType == null ? null : ContentType.parseLenient(contentType.getValue()));
+            HttpEntity decompressed = decompress(entity, head.getFirstHeader(HttpHeaders.CONTENT_ENCODING));
+            if (decompressed != entity) {
+                // the same headers are removed by the classic client when it decompresses content
+                head.removeHeaders(HttpHeaders.CONTENT_LENGTH);
+                head.removeHeaders(HttpHeaders.CONTENT_ENCODING);
+                head.removeHeaders(HttpHeaders.CONTENT_MD5);
+            }
+            headers = convertHeaders(head.getHeaders());
+            responseContent = EntityUtils.toString(decompressed);
+        }
 
-        } catch (Exception e) {
-            exchange.setException(e);
+        if (statusCode >= 400 && statusCode <= 599) {
+            String statusText = head.getReasonPhrase();
+            throw new HttpOperationFailedException(httpUri.toString(), statusCode, statusText, null,
+                headers, responseContent);
         }
 
-        callback.done(true);
-        return true;
+        exchange.getMessage().setBody(responseContent);
+        exchange.getMessage().getHeaders().putAll(headers); // alter exchange headers
+    }
+
+    private static HttpEntity decompress(HttpEntity entity, Header contentEncoding) {
+        if (contentEncoding == null) {
+            return entity;
+        }
+        String encoding = contentEncoding.getValue().trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GzipDecompressingEntity(entity);
+            case "deflate" -> new DeflateDecompressingEntity(entity);
+            default -> entity;
+        };
     }
 
     private static Map<String, String> convertHeaders(Header[] responseHeaders) {
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.camel.components.kafka;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Engine-wide registry of Kafka admin clients used by predeploy checks, one client per cluster
+ * connection config. Existing topics are cached for the configured time and concurrent lookups
+ * of the same topic are coalesced into a single describe request.
+ */
+@Slf4j
+@Component
+public class KafkaAdminClientRegistry {
+    private final long metadataTtl;
+    private final long idleTimeout;
+    private final Clock clock;
+    private final Function<Map<String, Object>, Admin> clientFactory;
+    private final Map<Map<String, Object>, AdminClientEntry> clients = new HashMap<>();
+
+    @Autowired
+    public KafkaAdminClientRegistry(
+            @Value("${qip.camel.component.kafka.predeploy-check-metadata-ttl:60000}") long metadataTtl,
+            @Value("${qip.camel.component.kafka.predeploy-check-admin-idle-timeout:300000}") long idleTimeout
+    ) {
+        this(metadataTtl, idleTimeout, Clock.systemUTC(), Admin::create);
+    }
+
+    KafkaAdminClientRegistry(
+            long metadataTtl,
+            long idleTimeout,
+            Clock clock,
+            Function<Map<String, Object>, Admin> clientFactory
+    ) {
+        this.metadataTtl = metadataTtl;
+        this.idleTimeout = idleTimeout;
+        this.clock = clock;
+        this.clientFactory = clientFactory;
+    }
+
+    /**
+     * Returns topics that do not exist in the cluster.
+     * Missing topics are never cached, so a created topic is found on the next check.
+     *
+     * @throws ExecutionException if a topic can't be described, e.g. the broker is unavailable
+     */
+    public Set<String> findMissingTopics(Map<String, Object> adminConfig, Collection<String> topics)
+            throws ExecutionException, InterruptedException {
+        AdminClientEntry entry = acquire(adminConfig);
+        Map<String, CompletableFuture<Boolean>> lookups = new HashMap<>();
+        List<String> topicsToDescribe = new ArrayList<>();
+        long now = clock.millis();
+        synchronized (entry) {
+            // expired entries are dropped so that the cache holds only recently checked topics
+            entry.existingTopics.values().removeIf(expiresAt -> expiresAt <= now);
+            for (String topic : topics) {
+                if (entry.existingTopics.containsKey(topic)) {
+                    continue;
+                }
+                CompletableFuture<Boolean> lookup = entry.lookups.get(topic);
+                if (isNull(lookup)) {
+                    lookup = new CompletableFuture<>();
+                    entry.lookups.put(topic, lookup);
+                    topicsToDescribe.add(topic);
+                }
+                lookups.put(topic, lookup);
+            }
+        }
+
+        if (!topicsToDescribe.isEmpty()) {
+            describeTopics(entry, topicsToDescribe);
+        }
+
+        Set<String> missingTopics = new HashSet<>();
+        for (Map.Entry<String, CompletableFuture<Boolean>> lookup : lookups.entrySet()) {
+            if (!lookup.getValue().get()) {
+                missingTopics.add(lookup.getKey());
+            }
+        }
+        return missingTopics;
+    }
+
+    int getCachedTopicsCount(Map<String, Object> adminConfig) {
+        AdminClientEntry entry;
+        synchronized (clients) {
+            entry = clients.get(adminConfig);
+        }
+        if (isNull(entry)) {
+            return 0;
+        }
+        synchronized (entry) {
+            return entry.existingTopics.size();
+        }
+    }
+
+    public int getClientsCount() {
+        synchronized (clients) {
+            return clients.size();
+        }
+    }
+
+    @PreDestroy
+    void closeAll() {
+        List<AdminClientEntry> entries;
+        synchronized (clients) {
+            entries = new ArrayList<>(clients.values());
+            clients.clear();
+        }
+        entries.forEach(entry -> entry.client.close());
+    }
+
+    private AdminClientEntry acquire(Map<String, Object> adminConfig) {
+        Map<String, Object> key = new HashMap<>(adminConfig);
+        List<AdminClientEntry> idleEntries = new ArrayList<>();
+        AdminClientEntry entry;
+        long now = clock.millis();
+        synchronized (clients) {
+            Iterator<AdminClientEntry> iterator = clients.values().iterator();
+            while (iterator.hasNext()) {
+                AdminClientEntry idleEntry = iterator.next();
+                if (now - idleEntry.lastUsed > idleTimeout && !idleEntry.key.equals(key)) {
+                    iterator.remove();
+                    idleEntries.add(idleEntry);
+                }
+            }
+
+            entry = clients.get(key);
+            if (isNull(entry)) {
+                entry = new AdminClientEntry(key, clientFactory.apply(adminConfig));
+                clients.put(key, entry);
+                log.debug("Created kafka admin client for {}", adminConfig.get(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG));
+            }
+            entry.lastUsed = now;
+        }
+        // pending lookups of an idle client are completed with an error by close
+        idleEntries.forEach(idleEntry -> idleEntry.client.close());
+        return entry;
+    }
+
+    private void describeTopics(AdminClientEntry entry, List<String> topics) {
+        try {
+            Map<String, KafkaFuture<TopicDescription>> descriptions =
+                    entry.client.describeTopics(topics).topicNameValues();
+            for (String topic : topics) {
+                descriptions.get(topic).whenComplete((description, error) -> completeLookup(entry, topic, error));
+            }
+        } catch (RuntimeException e) {
+            topics.forEach(topic -> completeLookup(entry, topic, e));
+        }
+    }
+
+    private void completeLookup(AdminClientEntry entry, String topic, Throwable error) {
+        if (error instanceof CompletionException && nonNull(error.getCause())) {
+            error = error.getCause();
+        }
+        CompletableFuture<Boolean> lookup;
+        synchronized (entry) {
+            lookup = entry.lookups.remove(topic);
+            if (isNull(error)) {
+                entry.existingTopics.put(topic, clock.millis() + metadataTtl);
+            }
+        }
+        if (isNull(lookup)) {
+            return;
+        }
+        if (isNull(error)) {
+            lookup.complete(true);
+        } else if (error instanceof UnknownTopicOrPartitionException) {
+            lookup.complete(false);
+        } else {
+            lookup.completeExceptionally(error);
+        }
+    }
+
+    private static final class AdminClientEntry {
+        private final Map<String, Object> key;
+        private final Admin client;
+        // <topic, expiration time> of topics known to exist
+        private final Map<String, Long> existingTopics = new HashMap<>();
+        private final Map<String, CompletableFuture<Boolean>> lookups = new HashMap<>();
+        private long lastUsed;
+
+        private AdminClientEntry(Map<String, Object> key, Admin client) {
+            this.key = key;
+            this.client = client;
+        }
+    }
+}
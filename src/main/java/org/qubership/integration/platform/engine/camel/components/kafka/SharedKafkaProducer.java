@@ -0,0 +1,139 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.camel.components.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.Uuid;
+import org.apache.kafka.common.errors.ProducerFencedException;
+import org.qubership.integration.platform.engine.camel.components.kafka.SharedKafkaProducerRegistry.SharedProducerEntry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lease of a producer from {@link SharedKafkaProducerRegistry}.
+ * Closing the lease releases it instead of closing the underlying producer.
+ */
+public class SharedKafkaProducer implements Producer<Object, Object> {
+    private final SharedKafkaProducerRegistry registry;
+    private final SharedProducerEntry entry;
+    private final AtomicBoolean released = new AtomicBoolean(false);
+
+    // read by camel kafka producer to register its health check
+    @SuppressWarnings("unused")
+    private final String clientId;
+
+    SharedKafkaProducer(SharedKafkaProducerRegistry registry, SharedProducerEntry entry) {
+        this.registry = registry;
+        this.entry = entry;
+        this.clientId = entry.getClientId();
+    }
+
+    @Override
+    public void initTransactions() {
+        producer().initTransactions();
+    }
+
+    @Override
+    public void beginTransaction() throws ProducerFencedException {
+        producer().beginTransaction();
+    }
+
+    @Override
+    @Deprecated
+    public void sendOffsetsToTransaction(Map<TopicPartition, OffsetAndMetadata> offsets, String consumerGroupId)
+            throws ProducerFencedException {
+        producer().sendOffsetsToTransaction(offsets, consumerGroupId);
+    }
+
+    @Override
+    public void sendOffsetsToTransaction(Map<TopicPartition, OffsetAndMetadata> offsets, ConsumerGroupMetadata groupMetadata)
+            throws ProducerFencedException {
+        producer().sendOffsetsToTransaction(offsets, groupMetadata);
+    }
+
+    @Override
+    public void commitTransaction() throws ProducerFencedException {
+        producer().commitTransaction();
+    }
+
+    @Override
+    public void abortTransaction() throws ProducerFencedException {
+        producer().abortTransaction();
+    }
+
+    @Override
+    public Future<RecordMetadata> send(ProducerRecord<Object, Object> record) {
+        return producer().send(record);
+    }
+
+    @Override
+    public Future<RecordMetadata> send(ProducerRecord<Object, Object> record, Callback callback) {
+        return producer().send(record, callback);
+    }
+
+    @Override
+    public void flush() {
+        producer().flush();
+    }
+
+    @Override
+    public List<PartitionInfo> partitionsFor(String topic) {
+        return producer().partitionsFor(topic);
+    }
+
+    @Override
+    public Map<MetricName, ? extends Metric> metrics() {
+        return producer().metrics();
+    }
+
+    @Override
+    public Uuid clientInstanceId(Duration timeout) {
+        return producer().clientInstanceId(timeout);
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) {
+            registry.release(entry);
+        }
+    }
+
+    @Override
+    public void close(Duration timeout) {
+        close();
+    }
+
+    private Producer<Object, Object> producer() {
+        if (released.get()) {
+            throw new IllegalStateException("Kafka producer lease is already released");
+        }
+        return entry.getProducer();
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.camel.components.kafka;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Engine-wide registry of Kafka producers shared by all endpoints with equal producer properties.
+ * Each endpoint gets its own {@link SharedKafkaProducer} lease, closing the lease releases
+ * the reference and the underlying producer is closed when the last lease is released.
+ */
+@Slf4j
+@Component
+public class SharedKafkaProducerRegistry {
+    private final Map<Map<Object, Object>, SharedProducerEntry> producers = new HashMap<>();
+
+    /**
+     * Returns a lease of the producer created for the given properties.
+     * Transactional producers are never shared, a dedicated producer is created for them.
+     *
+     * @param metricsBinder binds metrics to a newly created producer and returns the binding
+     *                      that is closed together with the producer, may be {@code null}
+     */
+    public Producer<Object, Object> acquire(
+            Properties kafkaProps,
+            Function<Properties, Producer<?, ?>> producerFactory,
+            Function<Producer<?, ?>, AutoCloseable> metricsBinder
+    ) {
+        if (nonNull(kafkaProps.get(ProducerConfig.TRANSACTIONAL_ID_CONFIG))) {
+            return new SharedKafkaProducer(this, createEntry(null, kafkaProps, producerFactory, metricsBinder));
+        }
+
+        Map<Object, Object> key = new HashMap<>(kafkaProps);
+        synchronized (producers) {
+            SharedProducerEntry entry = producers.get(key);
+            if (isNull(entry)) {
+                entry = createEntry(key, kafkaProps, producerFactory, metricsBinder);
+                producers.put(key, entry);
+                log.debug("Created shared kafka producer for {}", kafkaProps.get(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG));
+            }
+            entry.references++;
+            return new SharedKafkaProducer(this, entry);
+        }
+    }
+
+    public int getProducersCount() {
+        synchronized (producers) {
+            return producers.size();
+        }
+    }
+
+    void release(SharedProducerEntry entry) {
+        if (nonNull(entry.key)) {
+            synchronized (producers) {
+                if (--entry.references > 0 || !producers.remove(entry.key, entry)) {
+                    return;
+                }
+            }
+        }
+        close(entry);
+    }
+
+    @PreDestroy
+    void closeAll() {
+        List<SharedProducerEntry> entries;
+        synchronized (producers) {
+            entries = new ArrayList<>(producers.values());
+            producers.clear();
+        }
+        entries.forEach(this::close);
+    }
+
+    private SharedProducerEntry createEntry(
+            Map<Object, Object> key,
+            Properties kafkaProps,
+            Function<Properties, Producer<?, ?>> producerFactory,
+            Function<Producer<?, ?>, AutoCloseable> metricsBinder
+    ) {
+        @SuppressWarnings("unchecked")
+        Producer<Object, Object> producer = (Producer<Object, Object>) producerFactory.apply(kafkaProps);
+        AutoCloseable metrics = null;
+        if (nonNull(metricsBinder)) {
+            try {
+                metrics = metricsBinder.apply(producer);
+            } catch (RuntimeException e) {
+                producer.close();
+                throw e;
+            }
+        }
+        return new SharedProducerEntry(key, producer, metrics, getClientId(producer));
+    }
+
+    private static String getClientId(Producer<?, ?> producer) {
+        try {
+            Field field = producer.getClass().getDeclaredField("clientId");
+            field.setAccessible(true);
+            return String.valueOf(field.get(producer));
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    private void close(SharedProducerEntry entry) {
+        try {
+            if (nonNull(entry.metrics)) {
+                entry.metrics.close();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to unbind kafka producer metrics", e);
+        }
+        entry.producer.close();
+    }
+
+    static final class SharedProducerEntry {
+        private final Map<Object, Object> key;
+        private final Producer<Object, Object> producer;
+        private final AutoCloseable metrics;
+        private final String clientId;
+        private int references;
+
+        private SharedProducerEntry(
+                Map<Object, Object> key,
+                Producer<Object, Object> producer,
+                AutoCloseable metrics,
+                String clientId
+        ) {
+            this.key = key;
+            this.producer = producer;
+            this.metrics = metrics;
+            this.clientId = clientId;
+        }
+
+        Producer<Object, Object> getProducer() {
+            return producer;
+        }
+
+        String getClientId() {
+            return clientId;
+        }
+    }
+}
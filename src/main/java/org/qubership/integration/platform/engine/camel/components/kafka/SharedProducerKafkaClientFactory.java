@@ -0,0 +1,35 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.camel.components.kafka;
+
+import org.apache.camel.component.kafka.DefaultKafkaClientFactory;
+import org.apache.kafka.clients.producer.Producer;
+
+import java.util.Properties;
+
+public class SharedProducerKafkaClientFactory extends DefaultKafkaClientFactory {
+    private final SharedKafkaProducerRegistry producerRegistry;
+
+    public SharedProducerKafkaClientFactory(SharedKafkaProducerRegistry producerRegistry) {
+        this.producerRegistry = producerRegistry;
+    }
+
+    @Override
+    public Producer getProducer(Properties kafkaProps) {
+        return producerRegistry.acquire(kafkaProps, super::getProducer, null);
+    }
+}
@@ -23,30 +23,52 @@
 import org.apache.camel.component.kafka.KafkaConfiguration;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 
 import java.util.Collection;
 import java.util.Properties;
 
+import static java.util.Objects.nonNull;
+
 public class TaggedMetricsKafkaClientFactory implements KafkaClientFactory {
     private final KafkaClientFactory delegate;
+    private final SharedKafkaProducerRegistry producerRegistry;
     private final MeterRegistry meterRegistry;
     private final Collection<Tag> tags;
+    private final Collection<Tag> sharedProducerTags;
 
+    /**
+     * @param tags               tags of consumers and producers that are not shared, include element tags
+     * @param sharedProducerTags engine-level tags of producers shared by elements of different chains
+     */
     public TaggedMetricsKafkaClientFactory(
         KafkaClientFactory delegate,
+        SharedKafkaProducerRegistry producerRegistry,
         MeterRegistry meterRegistry,
-        Collection<Tag> tags
+        Collection<Tag> tags,
+        Collection<Tag> sharedProducerTags
     ) {
         this.delegate = delegate;
+        this.producerRegistry = producerRegistry;
         this.meterRegistry = meterRegistry;
         this.tags = tags;
+        this.sharedProducerTags = sharedProducerTags;
     }
 
+    /**
+     * Producers are shared, metrics are bound once with engine-level tags, so they do not
+     * depend on the element that created the producer. Transactional producers are not shared.
+     */
     @Override
     public Producer getProducer(Properties kafkaProps) {
-        Producer<?, ?> producer = delegate.getProducer(kafkaProps);
-        new KafkaClientMetrics(producer, tags).bindTo(meterRegistry);
-        return producer;
+        Collection<Tag> producerTags = nonNull(kafkaProps.get(ProducerConfig.TRANSACTIONAL_ID_CONFIG))
+            ? tags
+            : sharedProducerTags;
+        return producerRegistry.acquire(kafkaProps, delegate::getProducer, producer -> {
+            KafkaClientMetrics metrics = new KafkaClientMetrics(producer, producerTags);
+            metrics.bindTo(meterRegistry);
+            return metrics;
+        });
     }
 
     @Override
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.camel.components.rabbitmq;
+
+import com.rabbitmq.client.MetricsCollector;
+import com.rabbitmq.client.impl.MicrometerMetricsCollector;
+import io.micrometer.core.instrument.Tag;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsStore;
+import org.qubership.integration.platform.engine.service.deployment.processing.actions.context.create.helpers.MetricTagsHelper;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.net.ssl.TrustManager;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Engine-wide registry of RabbitMQ connection factories shared by endpoints with equal
+ * connection parameters. A factory is destroyed when the last endpoint using it is stopped.
+ * Shared connections report metrics with engine-level tags instead of the tags of an element.
+ */
+@Slf4j
+@Component
+public class RabbitMQConnectionFactoryRegistry {
+    private static final String METRICS_PREFIX = "rabbitmq";
+    private static final String CONNECTION_TAG = "connection";
+
+    private final MetricsStore metricsStore;
+    private final MetricTagsHelper metricTagsHelper;
+    private final int channelCacheSize;
+    private final Map<ConnectionKey, SharedConnectionFactory> factories = new HashMap<>();
+    // <connection_tag, collector>, micrometer keeps the first gauge registered for equal tags
+    private final Map<String, MetricsCollector> metricsCollectors = new HashMap<>();
+
+    @Autowired
+    public RabbitMQConnectionFactoryRegistry(
+            MetricsStore metricsStore,
+            MetricTagsHelper metricTagsHelper,
+            @Value("${qip.camel.component.rabbitmq.channel-cache-size:50}") int channelCacheSize
+    ) {
+        this.metricsStore = metricsStore;
+        this.metricTagsHelper = metricTagsHelper;
+        this.channelCacheSize = channelCacheSize;
+    }
+
+    public CachingConnectionFactory acquire(
+            ConnectionKey key,
+            Supplier<com.rabbitmq.client.ConnectionFactory> rabbitFactorySupplier
+    ) {
+        synchronized (factories) {
+            SharedConnectionFactory shared = factories.get(key);
+            if (isNull(shared)) {
+                com.rabbitmq.client.ConnectionFactory rabbitFactory = rabbitFactorySupplier.get();
+                if (metricsStore.isMetricsEnabled()) {
+                    rabbitFactory.setMetricsCollector(getMetricsCollector(key));
+                }
+                CachingConnectionFactory connectionFactory = new CachingConnectionFactory(rabbitFactory);
+                connectionFactory.setChannelCacheSize(channelCacheSize);
+                shared = new SharedConnectionFactory(connectionFactory);
+                factories.put(key, shared);
+                log.debug("Created shared rabbitmq connection factory for {}", key.addresses());
+            }
+            shared.references++;
+            return shared.connectionFactory;
+        }
+    }
+
+    public void release(ConnectionKey key, CachingConnectionFactory connectionFactory) {
+        synchronized (factories) {
+            SharedConnectionFactory shared = factories.get(key);
+            if (isNull(shared) || shared.connectionFactory != connectionFactory || --shared.references > 0) {
+                return;
+            }
+            factories.remove(key);
+        }
+        log.debug("Destroying shared rabbitmq connection factory for {}", key.addresses());
+        connectionFactory.destroy();
+    }
+
+    private MetricsCollector getMetricsCollector(ConnectionKey key) {
+        String connection = key.username() + "@" + key.addresses() + "/" + key.vhost();
+        return metricsCollectors.computeIfAbsent(connection, k -> {
+            Collection<Tag> tags = metricTagsHelper.buildEngineMetricTags();
+            tags.add(Tag.of(CONNECTION_TAG, connection));
+            return new MicrometerMetricsCollector(metricsStore.getMeterRegistry(), METRICS_PREFIX, tags);
+        });
+    }
+
+    public int getFactoriesCount() {
+        synchronized (factories) {
+            return factories.size();
+        }
+    }
+
+    @PreDestroy
+    void destroyAll() {
+        List<SharedConnectionFactory> destroyed;
+        synchronized (factories) {
+            destroyed = new ArrayList<>(factories.values());
+            factories.clear();
+        }
+        destroyed.forEach(shared -> shared.connectionFactory.destroy());
+    }
+
+    /**
+     * Connection parameters that must match for endpoints to share a connection.
+     */
+    public record ConnectionKey(
+            String addresses,
+            String vhost,
+            String username,
+            String password,
+            String sslProtocol,
+            TrustManager trustManager,
+            int connectionTimeout,
+            int requestedHeartbeat,
+            int requestedFrameMax,
+            int requestedChannelMax,
+            Map<String, Object> clientProperties
+    ) {
+        @Override
+        public String toString() {
+            return "ConnectionKey[addresses=" + addresses + ", vhost=" + vhost + ", username=" + username + "]";
+        }
+    }
+
+    private static class SharedConnectionFactory {
+        private final CachingConnectionFactory connectionFactory;
+        private int references;
+
+        SharedConnectionFactory(CachingConnectionFactory connectionFactory) {
+            this.connectionFactory = connectionFactory;
+        }
+    }
+}
@@ -36,6 +36,9 @@ public class SpringRabbitMQCustomComponent extends SpringRabbitMQComponent {
     @Metadata(label = "security")
     private TrustManager trustManager;
 
+    @Metadata(label = "advanced")
+    private RabbitMQConnectionFactoryRegistry connectionFactoryRegistry;
+
     @Override
     protected Endpoint createEndpoint(String uri, String remaining, Map<String, Object> parameters)
         throws Exception {
@@ -48,6 +51,7 @@ protected Endpoint createEndpoint(String uri, String remaining, Map<String, Obje
             = resolveAndRemoveReferenceParameter(parameters, "trustManager", TrustManager.class,
             getTrustManager());
         endpoint.setTrustManager(trustManager);
+        endpoint.setConnectionFactoryRegistry(getConnectionFactoryRegistry());
 
         endpoint.setTestConnectionOnStartup(isTestConnectionOnStartup());
         endpoint.setMessageConverter(getMessageConverter());
@@ -86,4 +90,15 @@ public TrustManager getTrustManager() {
     public void setTrustManager(TrustManager trustManager) {
         this.trustManager = trustManager;
     }
+
+    public RabbitMQConnectionFactoryRegistry getConnectionFactoryRegistry() {
+        return connectionFactoryRegistry;
+    }
+
+    /**
+     * Registry of connection factories shared between endpoints
+     */
+    public void setConnectionFactoryRegistry(RabbitMQConnectionFactoryRegistry connectionFactoryRegistry) {
+        this.connectionFactoryRegistry = connectionFactoryRegistry;
+    }
 }
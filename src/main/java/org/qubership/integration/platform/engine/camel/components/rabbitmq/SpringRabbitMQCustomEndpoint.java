@@ -25,6 +25,7 @@
 import org.apache.camel.component.springrabbit.SpringRabbitMQEndpoint;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
+import org.qubership.integration.platform.engine.camel.components.rabbitmq.RabbitMQConnectionFactoryRegistry.ConnectionKey;
 import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.boot.autoconfigure.amqp.RabbitConnectionDetails.Address;
@@ -81,6 +82,9 @@ public class SpringRabbitMQCustomEndpoint extends SpringRabbitMQEndpoint {
     @UriParam(label = "common", description = "Metrics collector")
     private MetricsCollector metricsCollector;
 
+    private RabbitMQConnectionFactoryRegistry connectionFactoryRegistry;
+    private ConnectionKey sharedConnectionKey;
+
     public SpringRabbitMQCustomEndpoint(String endpointUri, Component component,
         String exchangeName) {
         super(endpointUri, component, exchangeName);
@@ -93,11 +97,53 @@ public void configureProperties(Map<String, Object> options) {
         setConnectionFactory(buildConnectionFactory());
     }
 
+    @Override
+    protected void doStart() throws Exception {
+        // shared connection factory is released when the endpoint is stopped
+        if (connectionFactoryRegistry != null && sharedConnectionKey == null) {
+            setConnectionFactory(buildConnectionFactory());
+        }
+        super.doStart();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        releaseConnectionFactory();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        super.doShutdown();
+        releaseConnectionFactory();
+    }
+
+    private void releaseConnectionFactory() {
+        if (sharedConnectionKey != null) {
+            connectionFactoryRegistry.release(sharedConnectionKey, (CachingConnectionFactory) getConnectionFactory());
+            sharedConnectionKey = null;
+        }
+    }
+
+    /**
+     * Endpoints with equal connection parameters share a connection factory,
+     * the metrics collector of the endpoint is used only for a connection that is not shared.
+     */
     private ConnectionFactory buildConnectionFactory() {
+        if (connectionFactoryRegistry == null) {
+            return new CachingConnectionFactory(createRabbitConnectionFactory());
+        }
+        sharedConnectionKey = new ConnectionKey(getAddresses(), getVhost(), getUsername(), getPassword(),
+            getSslProtocol(), getTrustManager(), getConnectionTimeout(), getRequestedHeartbeat(),
+            getRequestedFrameMax(), getRequestedChannelMax(), getClientProperties());
+        return connectionFactoryRegistry.acquire(sharedConnectionKey, this::createRabbitConnectionFactory);
+    }
+
+    private com.rabbitmq.client.ConnectionFactory createRabbitConnectionFactory() {
         com.rabbitmq.client.ConnectionFactory factory = new com.rabbitmq.client.ConnectionFactory();
         // CachingConnectionFactory has its own recovery mechanism
         factory.setAutomaticRecoveryEnabled(false);
-        return new CachingConnectionFactory(setupFactory(factory));
+        return setupFactory(factory);
     }
 
     /**
@@ -301,4 +347,8 @@ public MetricsCollector getMetricsCollector() {
     public void setMetricsCollector(MetricsCollector metricsCollector) {
         this.metricsCollector = metricsCollector;
     }
+
+    public RabbitMQConnectionFactoryRegistry getConnectionFactoryRegistry() {
+        return connectionFactoryRegistry;
+    }
 }
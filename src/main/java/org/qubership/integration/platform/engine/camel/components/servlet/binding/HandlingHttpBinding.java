@@ -18,23 +18,33 @@
 
 import com.arakelian.json.ImmutableJsonFilterOptions;
 import com.arakelian.json.JsonFilter;
+import com.arakelian.json.JsonFilterOptions;
 import com.arakelian.json.JsonReader;
 import com.arakelian.json.JsonWriter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
+import org.apache.camel.StreamCache;
 import org.apache.camel.http.common.DefaultHttpBinding;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.util.IOHelper;
 import org.apache.commons.lang3.StringUtils;
 import org.qubership.integration.platform.engine.camel.components.servlet.ServletCustomFilterStrategy;
 import org.qubership.integration.platform.engine.model.constants.CamelConstants;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
-import java.io.StringReader;
-import java.io.StringWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @Component
 @Slf4j
@@ -88,12 +98,24 @@ public void doWriteExceptionResponse(Throwable exception, HttpServletResponse re
         sendInternalException(exception, response);
     }
 
+    /**
+     * Filters fields of successful responses while writing, the body is read from its stream
+     * and the filtered JSON is written directly to the response output in chunked mode.
+     */
     @Override
-    public void doWriteResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
-        if (!exchange.isFailed()) {
-            filterFieldsInResponse(message, exchange);
+    protected void doWriteDirectResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
+        JsonFilterOptions filterOptions = exchange.isFailed() ? null : buildResponseFilterOptions(exchange);
+        if (filterOptions == null || !writeFilteredResponse(message, response, exchange, filterOptions, false)) {
+            super.doWriteDirectResponse(message, response, exchange);
+        }
+    }
+
+    @Override
+    protected void doWriteGZIPResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
+        JsonFilterOptions filterOptions = exchange.isFailed() ? null : buildResponseFilterOptions(exchange);
+        if (filterOptions == null || !writeFilteredResponse(message, response, exchange, filterOptions, true)) {
+            super.doWriteGZIPResponse(message, response, exchange);
         }
-        super.doWriteResponse(message, response, exchange);
     }
 
     private void sendInternalException(Throwable e, HttpServletResponse response) throws IOException {
@@ -101,7 +123,7 @@ private void sendInternalException(Throwable e, HttpServletResponse response) th
         response.sendError(500);
     }
 
-    private void filterFieldsInResponse(Message message, Exchange exchange) {
+    private JsonFilterOptions buildResponseFilterOptions(Exchange exchange) {
         String filterIncludeFields = exchange.getProperty(CamelConstants.Properties.RESPONSE_FILTER_INCLUDE_FIELDS, String.class);
         String filterExcludeFields = exchange.getProperty(CamelConstants.Properties.RESPONSE_FILTER_EXCLUDE_FIELDS, String.class);
 
@@ -114,30 +136,78 @@ private void filterFieldsInResponse(Message message, Exchange exchange) {
             filterOptionsBuilder = getJsonFilterBuilder(filterOptionsBuilder)
                     .addAllExcludes(parseResponseFilterFields(filterExcludeFields));
         }
+        return filterOptionsBuilder == null ? null : filterOptionsBuilder.build();
+    }
 
-        if (filterOptionsBuilder != null) {
-            StringReader sr;
-            StringWriter sw;
-            try {
-                String body = message.getBody(String.class);
-                message.setBody(body);
-                sr = new StringReader(body);
-                sw = new StringWriter();
-            } catch (Exception e) {
-                log.warn("Unable to convert body for response filter", e);
-                return;
+    /**
+     * Returns false if the response should be written unfiltered.
+     */
+    private boolean writeFilteredResponse(
+            Message message,
+            HttpServletResponse response,
+            Exchange exchange,
+            JsonFilterOptions filterOptions,
+            boolean gzip
+    ) throws IOException {
+        Object body = message.getBody();
+        if (body == null) {
+            return false;
+        }
+        String charset = ExchangeHelper.getCharsetName(exchange, true);
+        JsonReader reader;
+        InputStream inputStream = null;
+        try {
+            if (body instanceof String text) {
+                reader = new JsonReader(text);
+            } else {
+                inputStream = message.getMandatoryBody(InputStream.class);
+                reader = new JsonReader(new InputStreamReader(inputStream, charset));
             }
-            JsonFilter filter = new JsonFilter(new JsonReader(sr), new JsonWriter(sw), filterOptionsBuilder.build());
-            try {
-                filter.process();
-                message.setBody(sw.toString());
-            } catch (IOException e) {
-                log.warn("Failed to filter response", e);
-                return;
+        } catch (Exception e) {
+            log.warn("Unable to convert body for response filter", e);
+            return false;
+        }
+
+        // filtered content length is unknown, the response is sent chunked
+        response.setContentLengthLong(-1);
+        if (isText(message.getHeader(Exchange.CONTENT_TYPE, String.class))) {
+            response.setCharacterEncoding(charset);
+        }
+        OutputStream outputStream = StreamUtils.nonClosing(response.getOutputStream());
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(
+                gzip ? gzipStream : outputStream, charset), response.getBufferSize());
+        boolean unfilteredFallback = false;
+        try {
+            new JsonFilter(reader, new JsonWriter<>(writer), filterOptions).process();
+            writer.flush();
+            if (gzip) {
+                gzipStream.finish();
+            }
+            return true;
+        } catch (IOException e) {
+            if (response.isCommitted() || !isRereadable(body)) {
+                throw e;
+            }
+            log.warn("Failed to filter response", e);
+            response.resetBuffer();
+            if (body instanceof StreamCache streamCache) {
+                streamCache.reset();
+            }
+            unfilteredFallback = true;
+            return false;
+        } finally {
+            // on fallback the body is written and closed by the default binding
+            if (!unfilteredFallback) {
+                IOHelper.close(inputStream);
             }
         }
     }
 
+    private static boolean isRereadable(Object body) {
+        return body instanceof String || body instanceof byte[] || body instanceof StreamCache;
+    }
+
     private ImmutableJsonFilterOptions.Builder getJsonFilterBuilder(ImmutableJsonFilterOptions.Builder filterOptionsBuilder) {
         return filterOptionsBuilder == null ? ImmutableJsonFilterOptions.builder() : filterOptionsBuilder;
     }
@@ -16,16 +16,16 @@
 
 package org.qubership.integration.platform.engine.camel.processors;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
+import org.qubership.integration.platform.engine.util.JsonStreamingUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
+import java.io.IOException;
 import java.util.Map;
 
 import static org.qubership.integration.platform.engine.camel.CorrelationIdSetter.*;
@@ -52,10 +52,10 @@ public void process(Exchange exchange) {
                 exchange.getMessage().setHeader(correlationIdName, correlationId);
             } else if (BODY.equals(correlationIdPosition)) {
                 try {
-                    Map<String, Object> body = objectMapper.readValue(exchange.getMessage().getBody(String.class), HashMap.class);
-                    body.put(correlationIdName, correlationId);
-                    exchange.getMessage().setBody(objectMapper.writeValueAsString(body));
-                } catch (JsonProcessingException e) {
+                    String body = exchange.getMessage().getBody(String.class);
+                    exchange.getMessage().setBody(JsonStreamingUtils.setTopLevelFields(
+                            objectMapper, body, Map.of(correlationIdName, correlationId)));
+                } catch (IOException e) {
                     log.error("Error while adding correlationId {} to body", correlationId);
                 }
             }
@@ -17,15 +17,20 @@
 package org.qubership.integration.platform.engine.camel.processors;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
-import org.apache.camel.language.simple.SimpleLanguage;
+import org.apache.camel.StreamCache;
+import org.apache.camel.spi.Language;
 import org.apache.logging.log4j.util.Strings;
 import org.qubership.integration.platform.engine.forms.FormData;
 import org.qubership.integration.platform.engine.forms.FormEntry;
+import org.qubership.integration.platform.engine.forms.MultipartFormHttpEntity;
 import org.qubership.integration.platform.engine.model.constants.CamelConstants.Properties;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpOutputMessage;
@@ -33,21 +38,26 @@
 import org.springframework.http.converter.FormHttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.util.MultiValueMap;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Component
 @Slf4j
 public class FormBuilderProcessor implements Processor {
-
-    private interface FormEntryBuilder {
-        Object build(Exchange exchange, FormEntry entry) throws IOException;
-    }
+    private final FormHttpMessageConverter converter = new FormHttpMessageConverter();
 
     @Override
     public void process(Exchange exchange) throws Exception {
@@ -57,61 +67,123 @@ public void process(Exchange exchange) throws Exception {
             return;
         }
 
-        FormData formData = exchange.getProperty(Properties.BODY_FORM_DATA, FormData.class);
-        if (isNull(formData)) {
+        List<CompiledFormEntry> entries = getCompiledFormEntries(exchange);
+        if (isNull(entries)) {
             log.error("Form data is null.");
             return;
         }
 
         MediaType contentType = MediaType.valueOf(bodyMimeType);
-        FormEntryBuilder formEntryBuilder = getFormEntryBuilder(contentType);
-        MultiValueMap<String, Object> form = buildForm(exchange, formData, formEntryBuilder);
-        writeForm(exchange, contentType, form);
+        if (isMultipart(contentType)) {
+            writeMultipartForm(exchange, contentType, entries);
+        } else {
+            writeForm(exchange, contentType, buildGenericForm(exchange, entries));
+        }
     }
 
-    private MultiValueMap<String, Object> buildForm(
-            Exchange exchange,
-            FormData formData,
-            FormEntryBuilder entryBuilder
-    ) throws IOException {
-        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
-        for (FormEntry entry : formData.getEntries()) {
-            Object formEntry = entryBuilder.build(exchange, entry);
-            form.add(entry.getName(), formEntry);
+    /**
+     * Form data entries are compiled once per camel context and form data definition.
+     */
+    private List<CompiledFormEntry> getCompiledFormEntries(Exchange exchange) {
+        Object formDataValue = exchange.getProperty(Properties.BODY_FORM_DATA);
+        if (!(formDataValue instanceof String formDataString)) {
+            return compileFormEntries(exchange);
         }
-        return form;
+        return getCompiledForms(exchange.getContext()).forms()
+                .computeIfAbsent(formDataString, key -> compileFormEntries(exchange));
+    }
+
+    private List<CompiledFormEntry> compileFormEntries(Exchange exchange) {
+        FormData formData = exchange.getProperty(Properties.BODY_FORM_DATA, FormData.class);
+        if (isNull(formData)) {
+            return null;
+        }
+        Language simpleLanguage = exchange.getContext().resolveLanguage("simple");
+        return formData.getEntries().stream()
+                .map(entry -> compileFormEntry(simpleLanguage, entry))
+                .toList();
     }
 
-    private FormEntryBuilder getFormEntryBuilder(MediaType formType) {
-        return isMultipart(formType) ? this::buildHttpEntity : this::buildGenericEntity;
+    private static CompiledFormEntry compileFormEntry(Language simpleLanguage, FormEntry entry) {
+        return new CompiledFormEntry(
+                entry.getName(),
+                entry.getMimeType(),
+                simpleLanguage.createExpression(entry.getValue()),
+                nonNull(entry.getFileName()) ? simpleLanguage.createExpression(entry.getFileName()) : null);
+    }
+
+    private static CompiledForms getCompiledForms(CamelContext context) {
+        ExtendedCamelContext contextExtension = context.getCamelContextExtension();
+        CompiledForms compiledForms = contextExtension.getContextPlugin(CompiledForms.class);
+        if (isNull(compiledForms)) {
+            synchronized (contextExtension) {
+                compiledForms = contextExtension.getContextPlugin(CompiledForms.class);
+                if (isNull(compiledForms)) {
+                    compiledForms = new CompiledForms(new ConcurrentHashMap<>());
+                    contextExtension.addContextPlugin(CompiledForms.class, compiledForms);
+                }
+            }
+        }
+        return compiledForms;
     }
 
     private boolean isMultipart(MediaType formType) {
         return formType.getType().equalsIgnoreCase("multipart");
     }
 
-    private Object buildGenericEntity(Exchange exchange, FormEntry entry) throws IOException {
-        return evaluate(exchange, entry.getValue());
+    private MultiValueMap<String, Object> buildGenericForm(Exchange exchange, List<CompiledFormEntry> entries) {
+        MultiValueMap<String, Object> form = new LinkedMultiValueMap<>();
+        for (CompiledFormEntry entry : entries) {
+            form.add(entry.name(), entry.value().evaluate(exchange, Object.class));
+        }
+        return form;
     }
 
-    private HttpEntity<?> buildHttpEntity(Exchange exchange, FormEntry entry) throws IOException {
+    private HttpEntity<?> buildHttpEntity(Exchange exchange, CompiledFormEntry entry) {
         HttpHeaders headers = new HttpHeaders();
-        Object value = evaluate(exchange, entry.getValue());
+        Object value = entry.value().evaluate(exchange, Object.class);
         if (value instanceof HttpEntity) {
             headers.addAll(((HttpEntity<?>) value).getHeaders());
         }
-        headers.setContentType(entry.getMimeType());
-        String fileName = String.valueOf(evaluate(exchange, entry.getFileName()));
+        headers.setContentType(entry.mimeType());
+        if (isNull(entry.fileName())) {
+            throw new IllegalArgumentException("File name expression must be specified for form entry " + entry.name());
+        }
+        String fileName = String.valueOf(entry.fileName().evaluate(exchange, Object.class));
         if (Strings.isNotBlank(fileName)) {
-            headers.setContentDispositionFormData(entry.getName(), fileName);
+            headers.setContentDispositionFormData(entry.name(), fileName);
         }
         Object body = (value instanceof HttpEntity) ? ((HttpEntity<?>) value).getBody() : value;
+        if (body instanceof InputStream inputStream) {
+            // streams are written to the request as is, without reading them into memory
+            if (inputStream instanceof StreamCache streamCache) {
+                streamCache.reset();
+            }
+            body = new InputStreamResource(inputStream);
+        }
         return new HttpEntity<>(body, headers);
     }
 
+    private void writeMultipartForm(Exchange exchange, MediaType contentType, List<CompiledFormEntry> entries) {
+        MultiValueMap<String, HttpEntity<?>> parts = new LinkedMultiValueMap<>();
+        boolean repeatable = true;
+        for (CompiledFormEntry entry : entries) {
+            HttpEntity<?> part = buildHttpEntity(exchange, entry);
+            repeatable &= !(part.getBody() instanceof InputStreamResource);
+            parts.add(entry.name(), part);
+        }
+
+        Map<String, String> parameters = new LinkedHashMap<>(contentType.getParameters());
+        parameters.put("boundary", new String(MimeTypeUtils.generateMultipartBoundary(), StandardCharsets.US_ASCII));
+        MediaType multipartContentType = new MediaType(contentType, parameters);
+
+        Message message = exchange.getMessage();
+        message.setHeader(HttpHeaders.CONTENT_TYPE, multipartContentType.toString());
+        message.setBody(new MultipartFormHttpEntity(parts, multipartContentType, converter.getPartConverters(), repeatable));
+    }
+
     private void writeForm(Exchange exchange, MediaType contentType, MultiValueMap<String, Object> form)
             throws IOException {
-        FormHttpMessageConverter converter = new FormHttpMessageConverter();
         HttpHeaders headers = new HttpHeaders();
         ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
         converter.write(form, contentType, new HttpOutputMessage() {
@@ -130,11 +202,9 @@ public HttpHeaders getHeaders() {
         message.setBody(outputStream.toByteArray());
     }
 
-    private Object evaluate(Exchange exchange, String expressionString) throws IOException {
-        try (SimpleLanguage simpleLanguage = new SimpleLanguage()) {
-            simpleLanguage.setCamelContext(exchange.getContext());
-            Expression expression = simpleLanguage.createExpression(expressionString);
-            return expression.evaluate(exchange, Object.class);
-        }
+    private record CompiledFormEntry(String name, MediaType mimeType, Expression value, Expression fileName) {
+    }
+
+    private record CompiledForms(Map<String, List<CompiledFormEntry>> forms) {
     }
 }
@@ -16,21 +16,22 @@
 
 package org.qubership.integration.platform.engine.camel.processors;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.JsonFormat;
 import org.apache.camel.Exchange;
 import org.apache.camel.Processor;
 import org.qubership.integration.platform.engine.model.constants.CamelConstants;
+import org.qubership.integration.platform.engine.util.JsonStreamingUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -55,16 +56,14 @@ public void process(Exchange exchange) throws Exception {
         exchange.removeProperty(CamelConstants.Properties.GRPC_METHOD_NAME);
     }
 
-    private String extractBodyAsJsonString(Exchange exchange)
-            throws InvalidProtocolBufferException, JsonProcessingException {
+    private String extractBodyAsJsonString(Exchange exchange) throws IOException {
         Object body = exchange.getMessage().getBody();
         if (body instanceof List<?> list) {
-            ArrayNode responses = objectMapper.createArrayNode();
+            List<String> responses = new ArrayList<>(list.size());
             for (Object response : list) {
-                String text = extractMessageAsJsonString(exchange, response);
-                responses.add(objectMapper.readTree(text));
+                responses.add(extractMessageAsJsonString(exchange, response));
             }
-            return objectMapper.writeValueAsString(responses);
+            return JsonStreamingUtils.concatenateToArray(objectMapper, responses);
         } else {
             return extractMessageAsJsonString(exchange, body);
         }
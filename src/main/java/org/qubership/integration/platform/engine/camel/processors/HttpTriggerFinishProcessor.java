@@ -18,8 +18,6 @@
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.camel.Exchange;
-import org.apache.camel.MessageHistory;
-import org.apache.camel.NamedNode;
 import org.apache.camel.Processor;
 import org.qubership.integration.platform.engine.model.constants.CamelConstants;
 import org.qubership.integration.platform.engine.model.deployment.properties.CamelDebuggerProperties;
@@ -33,8 +31,6 @@
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
-import java.util.List;
 import java.util.Set;
 
 @Slf4j
@@ -88,14 +84,7 @@ private void logHttpTriggerRequestFinished(Exchange exchange, CamelDebuggerPrope
                 Long.class);
         long duration = System.currentTimeMillis() - started;
 
-        List<MessageHistory> messageHistory = (List<MessageHistory>) exchange.getAllProperties()
-                .getOrDefault(Exchange.MESSAGE_HISTORY, Collections.emptyList());
-        String nodeId = messageHistory.stream()
-                .map(MessageHistory::getNode)
-                .filter(node -> "ref:httpTriggerProcessor".equals(node.getLabel()))
-                .findFirst()
-                .map(NamedNode::getId)
-                .orElse(null);
+        String nodeId = exchange.getProperty(CamelConstants.Properties.HTTP_TRIGGER_NODE_ID, String.class);
 
         String bodyForLogging = "<body not logged>";
         String headersForLogging = payloadExtractor.extractHeadersForLogging(exchange,
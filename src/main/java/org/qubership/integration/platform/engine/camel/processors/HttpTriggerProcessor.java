@@ -30,6 +30,7 @@
 import org.qubership.integration.platform.engine.service.debugger.util.DebuggerUtils;
 import org.qubership.integration.platform.engine.service.debugger.util.MessageHelper;
 import org.qubership.integration.platform.engine.service.debugger.util.PayloadExtractor;
+import org.qubership.integration.platform.engine.util.paths.PathVariablesTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
@@ -38,7 +39,8 @@
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Processor is used to parse path variables from uri of input http request
@@ -48,8 +50,6 @@
 @Component
 public class HttpTriggerProcessor implements Processor {
 
-    private static final Pattern URI_REGEXP = Pattern.compile("(\\/?\\{?[^\\/]*}?\\/?)");
-    private static final Pattern VARIABLE_REGEXP = Pattern.compile("^\\/?\\{[^\\/]*}\\/?$");
     private static final String RESPONSE_FILTER_EXCLUDE_QUERY_PARAM = "excludeFields";
     private static final String RESPONSE_FILTER_INCLUDE_QUERY_PARAM = "fields";
 
@@ -57,6 +57,10 @@ public class HttpTriggerProcessor implements Processor {
 
     private final JsonMessageValidator validator;
 
+    // trigger URI templates and allowed content types are compiled once and reused by all requests
+    private final Map<String, PathVariablesTemplate> uriTemplates = new ConcurrentHashMap<>();
+    private final Map<String, MimeType> allowedMimeTypes = new ConcurrentHashMap<>();
+
     @Autowired
     public HttpTriggerProcessor(CorrelationIdSetter correlationIdSetter, JsonMessageValidator validator) {
         this.correlationIdSetter = correlationIdSetter;
@@ -80,34 +84,16 @@ private void saveUriContextForLogging(Exchange exchange) {
         exchange.setProperty(Properties.SERVLET_REQUEST_URL, actualUrl);
         String stepId = DebuggerUtils.getStepChainElementId(exchange.getAllProperties().get(Exchange.STEP_ID).toString());
         exchange.setProperty(Properties.HTTP_TRIGGER_STEP_ID, stepId);
+        // id of the route node this processor is bound to, set by camel channel of the node
+        exchange.setProperty(Properties.HTTP_TRIGGER_NODE_ID, exchange.getExchangeExtension().getHistoryNodeId());
     }
 
     private void parsePathVariables(Exchange exchange) {
-        var uriTemplate = "routes/" + getHeader(exchange, Headers.URI_TEMPLATE);
-        var actualUri = getHeader(exchange, Exchange.HTTP_URI);
-
-        var templateMatcher = URI_REGEXP.matcher(uriTemplate);
-        var valuesMatcher = URI_REGEXP.matcher(actualUri);
-
-        while (templateMatcher.find()) {
-            var name = templateMatcher.group();
-
-            if (StringUtils.isNotBlank(name)) {
-                var matcher = VARIABLE_REGEXP.matcher(name);
-                var isParam = matcher.find();
-                var foundValue = valuesMatcher.find();
-
-                if (isParam && foundValue) {
-                    var value = valuesMatcher.group();
-
-                    if (StringUtils.isNotBlank(value)) {
-                        var variableName = removeServiceSymbols(name);
-                        var variableValue = removeServiceSymbols(value);
-
-                        exchange.setProperty(variableName, variableValue);
-                    }
-                }
-            }
+        var uriTemplate = getHeader(exchange, Headers.URI_TEMPLATE);
+        var template = uriTemplates.computeIfAbsent(uriTemplate,
+                key -> PathVariablesTemplate.compile("routes/" + key));
+        if (template.hasVariables()) {
+            template.extract(getHeader(exchange, Exchange.HTTP_URI), exchange::setProperty);
         }
 
         correlationIdSetter.setCorrelationId(exchange);
@@ -120,12 +106,6 @@ private String getHeader(Exchange exchange, String headerName) {
         return header == null ? StringUtils.EMPTY : header;
     }
 
-    private String removeServiceSymbols(String str) {
-        return str.replace("}", "")
-                .replace("{", "")
-                .replace("/", "");
-    }
-
     private void removeHeaders(Exchange exchange) {
         var message = exchange.getMessage();
         message.removeHeader(Exchange.HTTP_URI);
@@ -153,13 +133,7 @@ private void validateContentType(Exchange exchange) {
             }
 
             for (String allowedType : allowedContentTypes) {
-                MimeType allowedMimeType;
-                try {
-                    allowedMimeType = MimeType.valueOf(allowedType);
-                } catch (Exception e) {
-                    throw new RuntimeException(
-                        "Unsupported content type found in validation list: '" + allowedType + "', please fix it");
-                }
+                MimeType allowedMimeType = allowedMimeTypes.computeIfAbsent(allowedType, this::parseAllowedMimeType);
                 if (messageMimeType != null && messageMimeType.equalsTypeAndSubtype(allowedMimeType)) {
                     return;
                 }
@@ -170,14 +144,23 @@ private void validateContentType(Exchange exchange) {
         }
     }
 
+    private MimeType parseAllowedMimeType(String allowedType) {
+        try {
+            return MimeType.valueOf(allowedType);
+        } catch (Exception e) {
+            throw new RuntimeException(
+                "Unsupported content type found in validation list: '" + allowedType + "', please fix it");
+        }
+    }
+
     private void validateBodyWithGetDelete(Exchange exchange) throws IOException {
         // property is true by default, but for compatibility this is set to false here
         boolean rejectRequestIfBodyNullGetDelete = exchange.getProperty(
             Properties.REJECT_REQUEST_IF_NULL_BODY_GET_DELETE_PROP, false, Boolean.class);
         if (rejectRequestIfBodyNullGetDelete) {
             String method = exchange.getMessage().getHeader(Exchange.HTTP_METHOD, String.class);
-            if (StringUtils.isNotEmpty(MessageHelper.extractBody(exchange))
-                    && ("GET".equalsIgnoreCase(method) || "DELETE".equalsIgnoreCase(method))
+            if (("GET".equalsIgnoreCase(method) || "DELETE".equalsIgnoreCase(method))
+                    && MessageHelper.isBodyNotEmpty(exchange)
             ) {
                 throw new ValidationException(
                     "Not empty body is not allowed with [" + method + "] method, request rejected");
@@ -29,9 +29,11 @@
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class StdSchedulerProxy extends StdScheduler {
-    private final Object lock = new Object();
+    // not synchronized to avoid pinning of virtual threads while quartz accesses its job store
+    private final ReentrantLock lock = new ReentrantLock();
 
     private final ConcurrentMap<Thread, List<Pair<JobDetail, Trigger>>> delayedScheduledJobsMap = new ConcurrentHashMap<>();
 
@@ -50,19 +52,25 @@ public Date scheduleJob(JobDetail jobDetail, Trigger trigger) throws SchedulerEx
 
     @Override
     public void start() throws SchedulerException {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (!isSuspended) {
                 super.start();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override
     public void startDelayed(int seconds) throws SchedulerException {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (!isSuspended) {
                 super.startDelayed(seconds);
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -79,22 +87,28 @@ public void commitScheduledJobs() throws SchedulerException {
     }
 
     public void suspendScheduler() {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (!isSuspended) {
                 isSuspended = true;
                 if (!super.isInStandbyMode()) {
                     super.standby();
                 }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
     public void resumeScheduler() throws SchedulerException {
-        synchronized (lock) {
+        lock.lock();
+        try {
             if (isSuspended) {
                 startAndResumeJobs();
                 isSuspended = false;
             }
+        } finally {
+            lock.unlock();
         }
     }
 
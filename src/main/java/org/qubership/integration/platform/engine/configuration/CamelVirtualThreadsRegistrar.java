@@ -0,0 +1,36 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.configuration;
+
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Switches Camel thread pools to virtual threads when {@code spring.threads.virtual.enabled} is set.
+ * Camel reads the mode from a system property once, so it has to be set before any context is created.
+ */
+public class CamelVirtualThreadsRegistrar implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+    static final String CAMEL_VIRTUAL_THREADS_PROPERTY = "camel.threads.virtual.enabled";
+
+    @Override
+    public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+        boolean enabled = event.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        if (enabled && System.getProperty(CAMEL_VIRTUAL_THREADS_PROPERTY) == null) {
+            System.setProperty(CAMEL_VIRTUAL_THREADS_PROPERTY, "true");
+        }
+    }
+}
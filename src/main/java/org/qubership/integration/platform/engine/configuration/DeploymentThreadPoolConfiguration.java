@@ -30,11 +30,16 @@ public class DeploymentThreadPoolConfiguration {
     @Bean(name = "deploymentExecutor")
     Executor deploymentExecutor(
             @Value("${qip.deployments.thread-pool.core-size:3}") int corePoolSize,
-            @Value("${qip.deployments.thread-pool.max-size:3}") int maxPoolSize
+            @Value("${qip.deployments.thread-pool.max-size:3}") int maxPoolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
     ) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
+        if (virtualThreadsEnabled) {
+            // pool size still limits the number of concurrently processed deployments
+            executor.setThreadFactory(Thread.ofVirtual().name("deployment-", 0).factory());
+        }
         log.debug("Deployment task executor thread pool size: core = {}, max = {}", corePoolSize, maxPoolSize);
         return executor;
     }
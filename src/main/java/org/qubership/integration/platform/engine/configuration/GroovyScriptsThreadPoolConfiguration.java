@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@Slf4j
+public class GroovyScriptsThreadPoolConfiguration {
+    /**
+     * Compiles scripts of deployments, deployment threads compile scripts in this pool too.
+     */
+    @Bean(name = "groovyScriptsCompilationExecutor")
+    Executor groovyScriptsCompilationExecutor(
+            @Value("${qip.groovy.compilation.thread-pool.size}") int poolSize
+    ) {
+        return createExecutor("groovy-compile-",
+                poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Recompiles cached scripts after external libraries update, separate from deployments compilation.
+     */
+    @Bean(name = "groovyScriptsRecompilationExecutor")
+    Executor groovyScriptsRecompilationExecutor(
+            @Value("${qip.groovy.compilation.recompile-thread-pool.size}") int poolSize
+    ) {
+        return createExecutor("groovy-recompile-", poolSize);
+    }
+
+    private static Executor createExecutor(String threadNamePrefix, int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        log.debug("Groovy scripts thread pool {} size: {}", threadNamePrefix, poolSize);
+        return executor;
+    }
+}
@@ -30,6 +30,7 @@
 
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Optional;
 
 
@@ -68,14 +69,16 @@ public KubeOperator kubeOperator() {
         try {
             log.info("Creating KubernetesOperator bean in PROD mode");
 
-            ApiClient client = new ClientBuilder()
+            ClientBuilder clientBuilder = new ClientBuilder()
                     .setVerifyingSsl(false)
                     .setBasePath(uri)
                     .setCertificateAuthority(Files.readAllBytes(Paths.get(cert)))
-                    .setAuthentication(new TokenFileAuthentication(tokenFilePath))
-                    .build();
+                    .setAuthentication(new TokenFileAuthentication(tokenFilePath));
+            ApiClient client = clientBuilder.build();
+            // watch connections stay idle until something changes
+            ApiClient watchClient = clientBuilder.setReadTimeout(Duration.ZERO).build();
 
-            return new KubeOperator(client, namespace, false);
+            return new KubeOperator(client, watchClient, namespace, false);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
@@ -92,13 +95,15 @@ public KubeOperator kubeOperatorDev() {
         try {
             log.info("Creating KubernetesOperator bean in DEV mode");
 
-            ApiClient client = new ClientBuilder()
+            ClientBuilder clientBuilder = new ClientBuilder()
                     .setVerifyingSsl(false)
                     .setBasePath(uri)
-                    .setAuthentication(new AccessTokenAuthentication(devToken))
-                    .build();
+                    .setAuthentication(new AccessTokenAuthentication(devToken));
+            ApiClient client = clientBuilder.build();
+            // watch connections stay idle until something changes
+            ApiClient watchClient = clientBuilder.setReadTimeout(Duration.ZERO).build();
 
-            return new KubeOperator(client, namespace, true);
+            return new KubeOperator(client, watchClient, namespace, true);
         } catch (Exception e) {
             log.error("Invalid k8s cluster parameters, can't initialize k8s API. {}", e.getMessage());
             return new KubeOperator();
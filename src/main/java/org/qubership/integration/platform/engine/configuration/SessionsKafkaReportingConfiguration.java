@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.configuration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.qubership.integration.platform.engine.camel.components.kafka.SharedKafkaProducerRegistry;
+import org.qubership.integration.platform.engine.model.sessionsreporting.ReportingQueueOverflowPolicy;
+import org.qubership.integration.platform.engine.service.debugger.kafkareporting.InMemorySessionEventsSink;
+import org.qubership.integration.platform.engine.service.debugger.kafkareporting.KafkaSessionEventsSink;
+import org.qubership.integration.platform.engine.service.debugger.kafkareporting.QueuedSessionsKafkaReportingService;
+import org.qubership.integration.platform.engine.service.debugger.kafkareporting.SessionEventsSink;
+import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsStore;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Properties;
+
+@Configuration
+@ConditionalOnProperty(value = "qip.sessions.kafka-reporting.enabled", havingValue = "true")
+public class SessionsKafkaReportingConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(value = "qip.sessions.kafka-reporting.sink", havingValue = "kafka", matchIfMissing = true)
+    public SessionEventsSink kafkaSessionEventsSink(
+            SharedKafkaProducerRegistry producerRegistry,
+            @Value("${qip.sessions.kafka-reporting.topic}") String topic,
+            @Value("${qip.sessions.kafka-reporting.bootstrap-servers}") String bootstrapServers,
+            @Value("${qip.sessions.kafka-reporting.producer.linger-ms:50}") int lingerMs,
+            @Value("${qip.sessions.kafka-reporting.producer.batch-size-kb:256}") int batchSizeKb,
+            @Value("${qip.sessions.kafka-reporting.producer.compression-type:lz4}") String compressionType,
+            @Value("${qip.sessions.kafka-reporting.producer.acks:1}") String acks
+    ) {
+        Properties properties = new Properties();
+        properties.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        properties.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        properties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSizeKb * 1024);
+        properties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        properties.put(ProducerConfig.ACKS_CONFIG, acks);
+        return new KafkaSessionEventsSink(producerRegistry, properties, topic);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "qip.sessions.kafka-reporting.sink", havingValue = "memory")
+    public SessionEventsSink inMemorySessionEventsSink() {
+        return new InMemorySessionEventsSink();
+    }
+
+    @Bean
+    public QueuedSessionsKafkaReportingService sessionsKafkaReportingService(
+            SessionEventsSink sessionEventsSink,
+            @Qualifier("jsonMapper") ObjectMapper mapper,
+            ServerConfiguration serverConfiguration,
+            MetricsStore metricsStore,
+            @Value("${app.prefix}") String appPrefix,
+            @Value("${qip.sessions.kafka-reporting.queue.capacity:50000}") int capacity,
+            @Value("${qip.sessions.kafka-reporting.queue.overflow-policy:DROP_NEWEST}")
+            ReportingQueueOverflowPolicy overflowPolicy,
+            @Value("${qip.sessions.kafka-reporting.queue.block-timeout-ms:10}") long blockTimeoutMs,
+            @Value("${qip.sessions.kafka-reporting.queue.drain-batch-size:500}") int drainBatchSize
+    ) {
+        return new QueuedSessionsKafkaReportingService(
+                capacity,
+                overflowPolicy,
+                Duration.ofMillis(blockTimeoutMs),
+                drainBatchSize,
+                sessionEventsSink,
+                mapper,
+                serverConfiguration.getDomain(),
+                metricsStore.isMetricsEnabled() ? metricsStore.getMeterRegistry() : null,
+                appPrefix + ".engine.");
+    }
+}
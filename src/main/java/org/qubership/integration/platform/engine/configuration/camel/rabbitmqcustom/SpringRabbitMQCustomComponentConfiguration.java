@@ -0,0 +1,41 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.configuration.camel.rabbitmqcustom;
+
+import org.apache.camel.spi.ComponentCustomizer;
+import org.qubership.integration.platform.engine.camel.components.rabbitmq.RabbitMQConnectionFactoryRegistry;
+import org.qubership.integration.platform.engine.camel.components.rabbitmq.SpringRabbitMQCustomComponent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class SpringRabbitMQCustomComponentConfiguration {
+
+    private final RabbitMQConnectionFactoryRegistry connectionFactoryRegistry;
+
+    @Autowired
+    public SpringRabbitMQCustomComponentConfiguration(RabbitMQConnectionFactoryRegistry connectionFactoryRegistry) {
+        this.connectionFactoryRegistry = connectionFactoryRegistry;
+    }
+
+    @Bean
+    public ComponentCustomizer rabbitMQCustomComponentCustomizer() {
+        return ComponentCustomizer.builder(SpringRabbitMQCustomComponent.class)
+            .build((component) -> component.setConnectionFactoryRegistry(connectionFactoryRegistry));
+    }
+}
@@ -16,20 +16,25 @@
 
 package org.qubership.integration.platform.engine.configuration.opensearch;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.http.HttpStatus;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.ExpandWildcard;
+import org.opensearch.client.opensearch.generic.Response;
 import org.opensearch.client.opensearch.indices.GetIndexRequest;
 import org.opensearch.client.opensearch.indices.GetIndexResponse;
 import org.opensearch.client.opensearch.indices.IndexSettings;
 import org.opensearch.client.opensearch.indices.UpdateAliasesRequest;
 import org.opensearch.client.opensearch.indices.update_aliases.Action;
-import org.qubership.integration.platform.engine.IntegrationEngineApplication;
 import org.qubership.integration.platform.engine.model.opensearch.OpenSearchFieldType;
 import org.qubership.integration.platform.engine.opensearch.OpenSearchClientSupplier;
+import org.qubership.integration.platform.engine.opensearch.OpenSearchDocuments;
 import org.qubership.integration.platform.engine.opensearch.annotation.OpenSearchDocument;
 import org.qubership.integration.platform.engine.opensearch.annotation.OpenSearchField;
 import org.qubership.integration.platform.engine.opensearch.ism.IndexStateManagementClient;
@@ -40,17 +45,19 @@
 import org.qubership.integration.platform.engine.opensearch.ism.rest.ISMStatusResponse;
 import org.qubership.integration.platform.engine.opensearch.ism.rest.PolicyResponse;
 import org.qubership.integration.platform.engine.opensearch.ism.rest.RequestHelper;
-import org.reflections.Reflections;
-import org.reflections.util.ConfigurationBuilder;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
@@ -61,6 +68,8 @@
 @Component
 public class OpenSearchInitializer {
     public static final long TEMPLATE_VERSION = 4L;
+    private static final String META = "_meta";
+    private static final String CONTENT_HASH = "qip_content_hash";
 
     @Value("${qip.opensearch.index.elements.shards:3}")
     private int indexShardsAmount;
@@ -74,6 +83,9 @@ public class OpenSearchInitializer {
     @Value("${qip.opensearch.rollover.min_rollover_age_to_delete:14d}")
     private TimeValue minRolloverAgeToDelete;
 
+    @Value("${qip.opensearch.initialization.index-update-parallelism:4}")
+    private int indexUpdateParallelism;
+
 
     private final Environment environment;
     private final ObjectMapper jsonMapper;
@@ -96,12 +108,13 @@ public void initialize() {
         updateTemplateAndIndexes(openSearchClientSupplier.getClient());
     }
 
+    /**
+     * Policy, template and index mappings are updated only when their content hash differs from
+     * the one stored in the template metadata. Mappings of existing indices are updated in parallel
+     * in background, and the hash is stored after all of them are updated.
+     */
     private void updateTemplateAndIndexes(OpenSearchClient client) {
-        String packageRoot = IntegrationEngineApplication.class.getPackage().getName();
-        Set<Class<?>> indexClasses = new Reflections(
-            new ConfigurationBuilder().forPackages(packageRoot))
-            .getTypesAnnotatedWith(OpenSearchDocument.class);
-        for (Class<?> indexClass : indexClasses) {
+        for (Class<?> indexClass : OpenSearchDocuments.DOCUMENT_CLASSES) {
             OpenSearchDocument osd = indexClass.getAnnotation(OpenSearchDocument.class);
             String documentName = environment.getProperty(osd.documentNameProperty());
             if (documentName == null) {
@@ -109,14 +122,29 @@ private void updateTemplateAndIndexes(OpenSearchClient client) {
                         osd.documentNameProperty(), indexClass.getName());
                 continue;
             }
-            log.info("Creating policies, index template, and indices for {} - {}.", indexClass.getName(), documentName);
             try {
                 Map<String, Object> mapping = getIndexMapSource(indexClass);
                 if (!mapping.isEmpty()) {
                     String prefix = openSearchClientSupplier.normalize(documentName);
-                    createOrUpdatePolicy(client, buildRolloverPolicy(prefix));
-                    updateTemplate(client, prefix, mapping);
-                    updateIndices(client, prefix, mapping);
+                    Policy policy = buildRolloverPolicy(prefix);
+                    Map<String, Object> templateRequest = buildTemplateRequest(prefix, mapping);
+                    String contentHash = calculateContentHash(policy, templateRequest);
+                    if (contentHash.equals(getTemplateContentHash(client, prefix))) {
+                        log.info("Policies, index template, and indices for {} - {} are up to date.", indexClass.getName(), documentName);
+                        ensureRolloverIndexExists(client, prefix, mapping);
+                        continue;
+                    }
+                    log.info("Creating policies, index template, and indices for {} - {}.", indexClass.getName(), documentName);
+                    createOrUpdatePolicy(client, policy);
+                    if (updateTemplate(client, prefix, templateRequest)) {
+                        updateIndices(client, prefix, mapping)
+                                .thenAccept(updated -> {
+                                    if (updated) {
+                                        templateRequest.put(META, Map.of(CONTENT_HASH, contentHash));
+                                        updateTemplate(client, prefix, templateRequest);
+                                    }
+                                });
+                    }
                 }
             } catch (Exception exception) {
                 log.error("Failed to create or update index template, policies, and indices for {}.", documentName, exception);
@@ -124,58 +152,114 @@ private void updateTemplateAndIndexes(OpenSearchClient client) {
         }
     }
 
-    private void updateTemplate(OpenSearchClient client, String prefix, Map<String, Object> mapping) {
+    private Map<String, Object> buildTemplateRequest(String prefix, Map<String, Object> mapping) {
+        Map<String, Object> request = new HashMap<>();
+        request.put("index_patterns", getIndexPatterns(prefix));
+        request.put("priority", 1);
+        request.put("version", TEMPLATE_VERSION);
+
+        Map<String, Object> template = new HashMap<>();
+        template.put("settings", getIndexSettings(prefix));
+        template.put("mappings", mapping);
+
+        request.put("template", template);
+        return request;
+    }
+
+    private String calculateContentHash(Policy policy, Map<String, Object> templateRequest) throws IOException {
+        byte[] content = jsonMapper.writer()
+                .with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                .writeValueAsBytes(List.of(policy, templateRequest));
+        return DigestUtils.sha256Hex(content);
+    }
+
+    private String getTemplateContentHash(OpenSearchClient client, String prefix) {
+        String templateName = getIndexTemplateName(prefix);
+        try {
+            Response response = client.generic().execute(RequestHelper.buildGetIndexTemplateRequest(templateName));
+            if (response.getStatus() == HttpStatus.SC_NOT_FOUND || response.getBody().isEmpty()) {
+                return null;
+            }
+            processHttpResponse(response);
+            JsonNode hash = jsonMapper.readTree(response.getBody().get().body())
+                    .path("index_templates").path(0).path("index_template").path(META).path(CONTENT_HASH);
+            return hash.isTextual() ? hash.asText() : null;
+        } catch (Exception exception) {
+            log.warn("Failed to get OpenSearch template {}.", templateName, exception);
+            return null;
+        }
+    }
+
+    private boolean updateTemplate(OpenSearchClient client, String prefix, Map<String, Object> request) {
         String templateName = getIndexTemplateName(prefix);
         List<String> indexPatterns = getIndexPatterns(prefix);
         log.info("Updating index template {} for index pattern(s) {}.", templateName, String.join(", ", indexPatterns));
         try {
-            Map<String, Object> request = new HashMap<>();
-            request.put("index_patterns", indexPatterns);
-            request.put("priority", 1);
-            request.put("version", TEMPLATE_VERSION);
-
-            Map<String, Object> template = new HashMap<>();
-            template.put("settings", getIndexSettings(prefix));
-            template.put("mappings", mapping);
-
-            request.put("template", template);
-
             processHttpResponse(client.generic().execute(RequestHelper.buildPutIndexTemplateRequest(jsonMapper, templateName, request)));
+            return true;
         } catch (Exception e) {
             log.error("Failed to create or update OpenSearch template {} for index pattern(s) {}.",
                     templateName, String.join(", ", indexPatterns), e);
+            return false;
+        }
+    }
+
+    private void ensureRolloverIndexExists(OpenSearchClient client, String prefix, Map<String, Object> mapping) {
+        String aliasName = getAliasName(prefix);
+        try {
+            if (!client.indices().existsAlias(builder -> builder.name(aliasName)).value()) {
+                createRolloverIndex(client, prefix, mapping);
+            }
+        } catch (IOException exception) {
+            log.error("Failed to check that alias {} exists.", aliasName, exception);
         }
     }
 
-    private void updateIndices(OpenSearchClient client, String prefix, Map<String, Object> mapping) {
-        createOrUpdateRolloverIndices(client, prefix, mapping);
-        updateOldIndex(client, getOldIndexName(prefix), getAliasName(prefix), mapping);
+    /**
+     * Returns a future completed with {@code true} if all existing indices are updated successfully.
+     */
+    private CompletableFuture<Boolean> updateIndices(OpenSearchClient client, String prefix, Map<String, Object> mapping) {
+        List<String> indices = getRolloverIndices(client, prefix);
+        if (isNull(indices)) {
+            return CompletableFuture.completedFuture(false);
+        }
+        if (indices.isEmpty()) {
+            log.info("Indices that match mask {} not found.", getIndexNameMask(prefix));
+            createRolloverIndex(client, prefix, mapping);
+        } else {
+            log.info("Found {} indices that match mask: {}.", indices.size(), String.join(", ", indices));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(indexUpdateParallelism,
+                new CustomizableThreadFactory("opensearch-index-update-"));
+        List<CompletableFuture<Boolean>> updates = new ArrayList<>();
+        for (String indexName : indices) {
+            updates.add(CompletableFuture.supplyAsync(() -> {
+                boolean updated = updateIndexMapping(client, indexName, mapping);
+                tryToAddPolicyToIndex(client, indexName, getRolloverPolicyId(prefix));
+                return updated;
+            }, executor));
+        }
+        updates.add(CompletableFuture.supplyAsync(
+                () -> updateOldIndex(client, getOldIndexName(prefix), getAliasName(prefix), mapping), executor));
+        return CompletableFuture.allOf(updates.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> updates.stream().allMatch(CompletableFuture::join))
+                .whenComplete((updated, exception) -> executor.shutdown());
     }
 
-    private void createOrUpdateRolloverIndices(OpenSearchClient client, String prefix, Map<String, Object> mapping) {
-        List<String> indices;
+    private List<String> getRolloverIndices(OpenSearchClient client, String prefix) {
         String mask = getIndexNameMask(prefix);
         try {
             log.info("Requesting indices that match mask {}.", mask);
             GetIndexRequest request = new GetIndexRequest.Builder().index(mask).expandWildcards(ExpandWildcard.Open).build();
             GetIndexResponse response = client.indices().get(request);
-            indices = response.result().keySet().stream().filter(name -> !name.equals(getOldIndexName(prefix))).toList();
+            return response.result().keySet().stream().filter(name -> !name.equals(getOldIndexName(prefix))).toList();
         } catch (IOException exception) {
             log.error("Failed to get indices by mask {}.", mask, exception);
-            return;
-        }
-        if (indices.isEmpty()) {
-            log.info("Indices that match mask {} not found.", mask);
-            createRolloverIndex(client, prefix, mapping);
-        } else {
-            log.info("Found {} indices that match mask: {}.", indices.size(), String.join(", ", indices));
-            for (String indexName : indices) {
-                updateIndexMapping(client, indexName, mapping);
-                tryToAddPolicyToIndex(client, indexName, getRolloverPolicyId(prefix));
-            }
+            return null;
         }
     }
-    
+
     private void createRolloverIndex(OpenSearchClient client, String prefix, Map<String, Object> mapping) {
         String indexName = getFirstRolloverIndexName(prefix);
         log.info("Creating index {}.", indexName);
@@ -192,7 +276,7 @@ private void createRolloverIndex(OpenSearchClient client, String prefix, Map<Str
     }
 
     @Deprecated(since = "24.1")
-    private void updateOldIndex(
+    private boolean updateOldIndex(
             OpenSearchClient client,
             String indexName,
             String aliasName,
@@ -215,8 +299,10 @@ private void updateOldIndex(
                     tryToAddPolicyToIndex(client, indexName, policy.getPolicyId());
                 }
             }
+            return true;
         } catch (Exception exception) {
             log.error("Failed to update and add to alias index {}.", indexName, exception);
+            return false;
         }
     }
 
@@ -266,12 +352,14 @@ private boolean indexExists(OpenSearchClient client, String indexName) throws IO
         return client.indices().exists(builder -> builder.index(indexName)).value();
     }
 
-    private void updateIndexMapping(OpenSearchClient client, String indexName, Map<String, Object> mapping) {
+    private boolean updateIndexMapping(OpenSearchClient client, String indexName, Map<String, Object> mapping) {
         log.info("Updating index {}.", indexName);
         try {
             processHttpResponse(client.generic().execute(RequestHelper.buildPutIndexMapping(jsonMapper, indexName, mapping)));
+            return true;
         } catch (IOException exception) {
             log.error("Failed to update index {}.", indexName, exception);
+            return false;
         }
     }
 
@@ -22,6 +22,8 @@
 import org.qubership.integration.platform.engine.model.consul.CreateSessionRequest;
 import org.qubership.integration.platform.engine.model.consul.CreateSessionResponse;
 import org.qubership.integration.platform.engine.model.consul.KeyResponse;
+import org.qubership.integration.platform.engine.model.consul.TxnOperation;
+import org.qubership.integration.platform.engine.model.consul.TxnResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,6 +34,7 @@
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -44,6 +47,7 @@ public class ConsulClient {
     public static final String CREATE_SESSION_PATH = "/v1/session/create";
     public static final String DELETE_SESSION_PATH = "/v1/session/destroy/{sessionId}";
     public static final String RENEW_SESSION_PATH = "/v1/session/renew";
+    public static final String TXN_PATH = "/v1/txn";
     public static final String CONSUL_KV_QUERY_PARAMS = "?recurse={recurse}&index={index}&wait={wait}";
 
 
@@ -126,6 +130,41 @@ public void createOrUpdateKV(String key, Object value) {
         }
     }
 
+    /**
+     * Executes KV operations atomically, a transaction can contain up to 64 operations.
+     *
+     * @return [key, modify index] of keys written by the transaction
+     * @throws TxnConflictException if any check of the transaction failed
+     */
+    public Map<String, Long> executeTransaction(List<TxnOperation> operations) {
+        try {
+            HttpEntity<Object> entity = new HttpEntity<>(operations, buildCommonHeaders());
+            ResponseEntity<TxnResponse> response = restTemplate.exchange(consulUrl + TXN_PATH,
+                HttpMethod.PUT, entity, TxnResponse.class);
+
+            if (response.getStatusCode() != HttpStatus.OK) {
+                log.error("Failed to execute transaction in consul, code: {}, body: {}",
+                    response.getStatusCode(), response.getBody());
+                throw new RuntimeException("Failed to execute transaction in consul, response with non 200 code");
+            }
+
+            Map<String, Long> indexes = new HashMap<>();
+            if (response.getBody() != null && response.getBody().getResults() != null) {
+                for (TxnResponse.Result result : response.getBody().getResults()) {
+                    if (result.getKv() != null) {
+                        indexes.merge(result.getKv().getKey(), result.getKv().getModifyIndex(), Math::max);
+                    }
+                }
+            }
+            return indexes;
+        } catch (HttpClientErrorException hcee) {
+            if (hcee.getStatusCode() == HttpStatus.CONFLICT) {
+                throw new TxnConflictException("Consul transaction is rolled back: " + hcee.getResponseBodyAsString());
+            }
+            throw hcee;
+        }
+    }
+
     public Pair<Long, List<KeyResponse>> waitForKVChanges(String key, boolean recurse, long index, String waitTimeout) throws KVNotFoundException {
         try {
             HttpEntity<Object> entity = new HttpEntity<>(buildCommonHeaders());
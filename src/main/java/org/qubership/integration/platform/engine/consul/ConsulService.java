@@ -26,9 +26,12 @@
 import org.qubership.integration.platform.engine.configuration.ServerConfiguration;
 import org.qubership.integration.platform.engine.events.ConsulSessionCreatedEvent;
 import org.qubership.integration.platform.engine.model.consul.KeyResponse;
+import org.qubership.integration.platform.engine.model.consul.TxnOperation;
+import org.qubership.integration.platform.engine.model.deployment.engine.EngineDeployment;
 import org.qubership.integration.platform.engine.model.deployment.engine.EngineInfo;
 import org.qubership.integration.platform.engine.model.deployment.engine.EngineState;
 import org.qubership.integration.platform.engine.model.deployment.properties.DeploymentRuntimeProperties;
+import org.qubership.integration.platform.engine.model.deployment.properties.RuntimePropertiesDelta;
 import org.qubership.integration.platform.engine.model.kafka.systemmodel.CompiledLibraryUpdate;
 import org.qubership.integration.platform.engine.service.debugger.RuntimePropertiesException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +41,8 @@
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import javax.annotation.Nullable;
 
 @Slf4j
@@ -51,6 +56,8 @@ public class ConsulService {
     public static final String SESSION_BEHAVIOR = "delete";
     public static final String LOCALDEV_NODE_ID = "-" + UUID.randomUUID();
 
+    private static final int TXN_MAX_OPERATIONS = 64;
+
     public static final String DEFAULT_CONSUL_SETTING_KEY = "default-settings";
 
     @Value("${consul.keys.prefix}")
@@ -68,6 +75,12 @@ public class ConsulService {
     @Value("${consul.keys.engines-state}")
     private String keyEnginesState;
 
+    @Value("${consul.keys.engines-deployments-state}")
+    private String keyEnginesDeploymentsState;
+
+    @Value("${consul.engine-state.per-deployment-keys:false}")
+    private boolean perDeploymentStateKeys;
+
     @Value("${consul.keys.runtime-configurations}")
     private String keyRuntimeConfigurations;
 
@@ -91,6 +104,17 @@ public class ConsulService {
 
     private long chainsRuntimePropertiesPreviousIndex = 0;
     private long chainsRuntimePropertiesLastIndex = 0;
+    // <consul key, modify index> of applied chains runtime properties
+    private final Map<String, Long> chainsRuntimePropertiesIndexes = new HashMap<>();
+
+    // reported engine state, accessed by the engine state reporter thread only
+    private String engineStateSessionId = null;
+    private String reportedEngineInfo = null;
+    // <deployment id, serialized deployment>
+    private final Map<String, String> reportedDeployments = new HashMap<>();
+    // <deployment id, modify index> of deployments state keys
+    private final Map<String, Long> reportedDeploymentsIndexes = new HashMap<>();
+    private boolean engineStateResyncRequired = true;
 
     private long commonVariablesPreviousIndex = 0;
     private long commonVariablesLastIndex = 0;
@@ -102,6 +126,9 @@ public class ConsulService {
 
     private String previousSessionId = null;
 
+    // guards session renewal, consul is called under the lock so it must not pin virtual threads
+    private final ReentrantLock sessionLock = new ReentrantLock();
+
     private final ConsulClient client;
     private final ObjectMapper objectMapper;
 
@@ -119,7 +146,8 @@ public ConsulService(ConsulClient client, ServerConfiguration serverConfiguratio
                 + engineInfo.getDomain() + "-" + engineInfo.getHost();
     }
 
-    public synchronized void createOrRenewSession() {
+    public void createOrRenewSession() {
+        sessionLock.lock();
         try {
             if (activeSessionId == null) {
                 log.debug("Create consul session");
@@ -138,19 +166,159 @@ public synchronized void createOrRenewSession() {
             log.error("Failed to create/renew consul session", e);
             previousSessionId = activeSessionId;
             activeSessionId = null;
+        } finally {
+            sessionLock.unlock();
         }
     }
 
-    public void updateEnginesState(EngineState state) {
-        log.debug("Update engines state");
+    /**
+     * Writes the engine state to consul if it differs from the last written one.
+     * Deployments state may be written in several transactions, so each changed deployment
+     * is passed to the listener as soon as its state is written, even if a later write fails.
+     *
+     * @param onDeploymentReported receives ids of written deployments whose state is changed
+     */
+    public void updateEnginesState(EngineState state, Consumer<String> onDeploymentReported)
+        throws JsonProcessingException {
         String sessionId = activeSessionId;
-        if (sessionId != null) {
-            String name = keyEngineName + (dynamicStateKeys ? LOCALDEV_NODE_ID : "");
+        if (sessionId == null) {
+            throw new RuntimeException("Active consul session is not present");
+        }
+
+        // keys of the previous session are deleted together with it
+        if (!sessionId.equals(engineStateSessionId)) {
+            reportedEngineInfo = null;
+            reportedDeployments.clear();
+            reportedDeploymentsIndexes.clear();
+            engineStateResyncRequired = true;
+            engineStateSessionId = sessionId;
+        }
+
+        String engineInfo = objectMapper.writeValueAsString(state.getEngine());
+        Map<String, String> deployments = new HashMap<>();
+        for (Map.Entry<String, EngineDeployment> entry : state.getDeployments().entrySet()) {
+            deployments.put(entry.getKey(), objectMapper.writeValueAsString(entry.getValue()));
+        }
+        Set<String> changed = new HashSet<>();
+        deployments.forEach((id, deployment) -> {
+            if (!deployment.equals(reportedDeployments.get(id))) {
+                changed.add(id);
+            }
+        });
+
+        String name = keyEngineName + (dynamicStateKeys ? LOCALDEV_NODE_ID : "");
+        if (perDeploymentStateKeys) {
+            if (!engineInfo.equals(reportedEngineInfo)) {
+                client.createOrUpdateKVWithSession(keyPrefix + keyEngineConfigRoot + keyEnginesState + name,
+                    EngineState.builder().engine(state.getEngine()).build(), sessionId);
+                reportedEngineInfo = engineInfo;
+            }
+            updateDeploymentsState(name, deployments, changed, sessionId, onDeploymentReported);
+        } else if (!engineInfo.equals(reportedEngineInfo) || !changed.isEmpty()
+                || !reportedDeployments.keySet().equals(deployments.keySet())) {
+            log.debug("Update engines state");
             client.createOrUpdateKVWithSession(
                 keyPrefix + keyEngineConfigRoot + keyEnginesState + name, state, sessionId);
-        } else {
-            throw new RuntimeException("Active consul session is not present");
+            reportedEngineInfo = engineInfo;
+            reportedDeployments.clear();
+            reportedDeployments.putAll(deployments);
+            changed.forEach(onDeploymentReported);
+        }
+    }
+
+    /**
+     * Writes changed deployments and deletes removed ones under their own keys,
+     * each key is checked against its last written index.
+     */
+    private void updateDeploymentsState(
+        String engineName,
+        Map<String, String> deployments,
+        Set<String> changed,
+        String sessionId,
+        Consumer<String> onDeploymentReported
+    ) {
+        String deploymentsPrefix = StringUtils.stripStart(
+            keyPrefix + keyEngineConfigRoot + keyEnginesDeploymentsState + engineName + "/", "/");
+        if (engineStateResyncRequired) {
+            resyncDeploymentsStateIndexes(deploymentsPrefix);
+        }
+
+        List<String> removed = reportedDeploymentsIndexes.keySet().stream()
+            .filter(id -> !deployments.containsKey(id))
+            .toList();
+        if (!changed.isEmpty() || !removed.isEmpty()) {
+            log.debug("Update engine deployments state, changed: {}, removed: {}", changed.size(), removed.size());
+        }
+
+        List<TxnOperation> operations = new ArrayList<>();
+        Map<String, String> written = new HashMap<>();
+        for (String id : changed) {
+            String key = deploymentsPrefix + id;
+            Long index = reportedDeploymentsIndexes.get(id);
+            operations.add(index == null ? TxnOperation.checkNotExists(key) : TxnOperation.checkIndex(key, index));
+            operations.add(TxnOperation.lock(key, deployments.get(id), sessionId));
+            written.put(id, deployments.get(id));
+            if (operations.size() >= TXN_MAX_OPERATIONS - 1) {
+                commitDeploymentsState(deploymentsPrefix, operations, written, onDeploymentReported);
+            }
+        }
+        for (String id : removed) {
+            operations.add(TxnOperation.deleteCas(deploymentsPrefix + id, reportedDeploymentsIndexes.get(id)));
+            written.put(id, null);
+            if (operations.size() >= TXN_MAX_OPERATIONS) {
+                commitDeploymentsState(deploymentsPrefix, operations, written, onDeploymentReported);
+            }
+        }
+        if (!operations.isEmpty()) {
+            commitDeploymentsState(deploymentsPrefix, operations, written, onDeploymentReported);
+        }
+    }
+
+    private void commitDeploymentsState(
+        String deploymentsPrefix,
+        List<TxnOperation> operations,
+        Map<String, String> written,
+        Consumer<String> onDeploymentReported
+    ) {
+        Map<String, Long> indexes;
+        try {
+            indexes = client.executeTransaction(operations);
+        } catch (TxnConflictException e) {
+            // state in consul is not the one written before, reread indexes and write everything again
+            reportedDeployments.clear();
+            engineStateResyncRequired = true;
+            throw e;
+        }
+        written.forEach((id, deployment) -> {
+            if (deployment == null) {
+                reportedDeployments.remove(id);
+                reportedDeploymentsIndexes.remove(id);
+            } else {
+                reportedDeployments.put(id, deployment);
+                reportedDeploymentsIndexes.put(id, indexes.get(deploymentsPrefix + id));
+            }
+        });
+        written.forEach((id, deployment) -> {
+            if (deployment != null) {
+                onDeploymentReported.accept(id);
+            }
+        });
+        operations.clear();
+        written.clear();
+    }
+
+    private void resyncDeploymentsStateIndexes(String deploymentsPrefix) {
+        reportedDeploymentsIndexes.clear();
+        try {
+            List<KeyResponse> keys = client.waitForKVChanges("/" + deploymentsPrefix, true, 0, "0s").getRight();
+            for (KeyResponse key : keys) {
+                reportedDeploymentsIndexes.put(
+                    key.getKey().substring(deploymentsPrefix.length()), key.getModifyIndex());
+            }
+        } catch (KVNotFoundException ignored) {
+            // there are no deployments state keys yet
         }
+        engineStateResyncRequired = false;
     }
 
     // return <index, timestamp>
@@ -215,10 +383,13 @@ private List<CompiledLibraryUpdate> parseLibrariesUpdate(Pair<Long, List<KeyResp
     }
 
     /**
-     * @return [changes_detected, [chainId, properties]] map
+     * Waits for changes of chains runtime properties. Only the keys with changed modify index
+     * are parsed, keys that failed to parse are retried on the next call.
+     *
+     * @return changes since the previous call, empty if nothing is changed
      */
-    public Pair<Boolean, Map<String, DeploymentRuntimeProperties>> waitForChainRuntimeConfig()
-        throws KVNotFoundException {
+    public RuntimePropertiesDelta waitForChainRuntimeConfig()
+        throws KVNotFoundException, RuntimePropertiesException {
         Pair<Long, List<KeyResponse>> pair =
             client.waitForKVChanges(keyPrefix + keyEngineConfigRoot + keyRuntimeConfigurations + keyChains,
                 false, chainsRuntimePropertiesLastIndex, WAIT_TIMEOUT_STRING);
@@ -227,41 +398,67 @@ public Pair<Boolean, Map<String, DeploymentRuntimeProperties>> waitForChainRunti
         chainsRuntimePropertiesPreviousIndex = chainsRuntimePropertiesLastIndex;
         chainsRuntimePropertiesLastIndex = pair.getLeft();
 
-        return Pair.of(changesDetected, parseChainsRuntimeConfig(pair));
+        return changesDetected
+            ? collectChainsRuntimeConfigChanges(pair)
+            : RuntimePropertiesDelta.empty(pair.getLeft());
     }
 
-    // return Map<chainId, props>
-    private Map<String, DeploymentRuntimeProperties> parseChainsRuntimeConfig(Pair<Long, List<KeyResponse>> pair)
+    private RuntimePropertiesDelta collectChainsRuntimeConfigChanges(Pair<Long, List<KeyResponse>> pair)
         throws RuntimePropertiesException {
-        List<KeyResponse> response = pair.getRight();
-        if (response.isEmpty()) {
-            return Collections.emptyMap();
-        }
-
-        Map<String, DeploymentRuntimeProperties> result = new HashMap<>();
+        Map<String, DeploymentRuntimeProperties> changed = new HashMap<>();
+        Set<String> presentKeys = new HashSet<>();
         boolean exception = false;
-        for (KeyResponse keyResponse : response) {
-           String chainId = parseChainId(keyResponse);
+        for (KeyResponse keyResponse : pair.getRight()) {
+            String chainId = parseChainId(keyResponse.getKey());
             if (chainId == null) {
                 throw new RuntimePropertiesException("Failed to parse response, invalid 'key' field: "
                     + keyResponse.getKey());
             }
+            presentKeys.add(keyResponse.getKey());
+
+            Long appliedIndex = chainsRuntimePropertiesIndexes.get(keyResponse.getKey());
+            if (appliedIndex != null && appliedIndex == keyResponse.getModifyIndex()) {
+                continue;
+            }
 
             String value = keyResponse.getDecodedValue();
             try {
-                result.put(chainId, objectMapper.readValue(value, DeploymentRuntimeProperties.class));
+                changed.put(chainId, objectMapper.readValue(value, DeploymentRuntimeProperties.class));
+                chainsRuntimePropertiesIndexes.put(keyResponse.getKey(), keyResponse.getModifyIndex());
             } catch (Exception e) {
                 log.warn("Failed to deserialize runtime properties update for chain: {}, error: {}", chainId, e.getMessage());
                 exception = true;
             }
         }
 
+        Set<String> removed = new HashSet<>();
+        Iterator<String> appliedKeys = chainsRuntimePropertiesIndexes.keySet().iterator();
+        while (appliedKeys.hasNext()) {
+            String key = appliedKeys.next();
+            if (!presentKeys.contains(key)) {
+                appliedKeys.remove();
+                removed.add(parseChainId(key));
+            }
+        }
+
         if (exception) {
-            throw new RuntimePropertiesException("Failed to deserialize consul response"
-                + " for one or more chains");
+            // successfully parsed chains are applied, the failed ones are retried immediately
+            rollbackChainsRuntimeConfigLastIndex();
         }
 
-        return result;
+        return new RuntimePropertiesDelta(pair.getLeft(), changed, removed);
+    }
+
+    /**
+     * Forgets all applied chains runtime properties, used when the properties are removed from consul.
+     *
+     * @return delta removing properties of all previously applied chains
+     */
+    public RuntimePropertiesDelta resetChainsRuntimeConfig() {
+        Set<String> removed = new HashSet<>();
+        chainsRuntimePropertiesIndexes.keySet().forEach(key -> removed.add(parseChainId(key)));
+        chainsRuntimePropertiesIndexes.clear();
+        return new RuntimePropertiesDelta(chainsRuntimePropertiesLastIndex, Collections.emptyMap(), removed);
     }
 
     public void rollbackChainsRuntimeConfigLastIndex() {
@@ -316,8 +513,8 @@ private Pair<String, String> parseCommonVariable(KeyResponse k) {
         return split.length > 0 ? Pair.of(split[split.length - 1], k.getDecodedValue()) : null;
     }
 
-    private String parseChainId(KeyResponse k) {
-        String[] keys = k.getKey().split("/");
+    private String parseChainId(String key) {
+        String[] keys = key.split("/");
         int keyIndex = getKeyIndex(keys, keyRuntimeConfigurations);
         int chainIdTargetIndex = keyIndex + 2;
         boolean keyIsValid = keyIndex != -1 && keys.length > chainIdTargetIndex && StringUtils.isNotEmpty(keys[chainIdTargetIndex]);
@@ -17,13 +17,11 @@
 package org.qubership.integration.platform.engine.consul;
 
 import lombok.extern.slf4j.Slf4j;
-import org.qubership.integration.platform.engine.model.deployment.engine.EngineDeployment;
 import org.qubership.integration.platform.engine.model.deployment.engine.EngineState;
 import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -58,9 +56,12 @@ public void run() {
             try {
                 EngineState state = statesQueue.take();
                 while (true) {
+                    // only the latest state is reported, intermediate ones are outdated
+                    state = takeLatestState(state);
                     try {
-                        consulService.updateEnginesState(state);
-                        updateDeploymentMetrics(state);
+                        EngineState reportedState = state;
+                        consulService.updateEnginesState(state,
+                            deploymentId -> updateDeploymentMetrics(reportedState, deploymentId));
 
                         break;
                     } catch (Exception ex) {
@@ -77,9 +78,19 @@ public void run() {
         }
     }
 
-    private void updateDeploymentMetrics(EngineState state) {
-        for (Map.Entry<String, EngineDeployment> deploymentsEntry : state.getDeployments().entrySet()) {
-            metricsService.processChainsDeployments(deploymentsEntry.getValue());
+    private EngineState takeLatestState(EngineState state) {
+        EngineState next;
+        while ((next = statesQueue.poll()) != null) {
+            state = next;
+        }
+        return state;
+    }
+
+    private void updateDeploymentMetrics(EngineState state, String deploymentId) {
+        try {
+            metricsService.processChainsDeployments(state.getDeployments().get(deploymentId));
+        } catch (Exception e) {
+            log.error("Failed to update metrics of deployment {}", deploymentId, e);
         }
     }
 }
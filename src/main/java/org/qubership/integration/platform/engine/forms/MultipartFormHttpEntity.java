@@ -0,0 +1,189 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.forms;
+
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Multipart form request entity that writes parts directly to the request output stream.
+ * Part bodies are serialized with the same part converters and in the same format as
+ * {@link org.springframework.http.converter.FormHttpMessageConverter} does, but the whole
+ * form is never buffered in memory.
+ */
+public class MultipartFormHttpEntity extends AbstractHttpEntity {
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] BOUNDARY_DELIMITER = {'-', '-'};
+
+    private final MultiValueMap<String, HttpEntity<?>> parts;
+    private final byte[] boundary;
+    private final List<HttpMessageConverter<?>> partConverters;
+    private final boolean repeatable;
+
+    public MultipartFormHttpEntity(
+            MultiValueMap<String, HttpEntity<?>> parts,
+            MediaType contentType,
+            List<HttpMessageConverter<?>> partConverters,
+            boolean repeatable
+    ) {
+        super(contentType.toString(), null, true);
+        this.parts = parts;
+        this.boundary = contentType.getParameter("boundary").getBytes(StandardCharsets.US_ASCII);
+        this.partConverters = partConverters;
+        this.repeatable = repeatable;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return repeatable;
+    }
+
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return !repeatable;
+    }
+
+    /**
+     * Buffers the whole form, intended only for consumers that can not write the entity to a stream.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writeTo(outputStream);
+        return new ByteArrayInputStream(outputStream.toByteArray());
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        for (Map.Entry<String, List<HttpEntity<?>>> entry : parts.entrySet()) {
+            for (HttpEntity<?> part : entry.getValue()) {
+                outputStream.write(BOUNDARY_DELIMITER);
+                outputStream.write(boundary);
+                outputStream.write(CRLF);
+                writePart(entry.getKey(), part, outputStream);
+                outputStream.write(CRLF);
+            }
+        }
+        outputStream.write(BOUNDARY_DELIMITER);
+        outputStream.write(boundary);
+        outputStream.write(BOUNDARY_DELIMITER);
+        outputStream.write(CRLF);
+        outputStream.flush();
+    }
+
+    @Override
+    public void close() {
+        // part streams are closed by the resource converter when the part is written
+    }
+
+    @Override
+    public String toString() {
+        return "[Multipart form body: " + parts.keySet() + "]";
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writePart(String name, HttpEntity<?> part, OutputStream outputStream) throws IOException {
+        Object partBody = part.getBody();
+        if (isNull(partBody)) {
+            throw new IllegalStateException("Empty body for part '" + name + "': " + part);
+        }
+        Class<?> partType = partBody.getClass();
+        HttpHeaders partHeaders = part.getHeaders();
+        MediaType partContentType = partHeaders.getContentType();
+        for (HttpMessageConverter<?> converter : partConverters) {
+            if (converter.canWrite(partType, partContentType)) {
+                PartOutputMessage partMessage = new PartOutputMessage(outputStream);
+                String contentDisposition = partHeaders.getFirst(HttpHeaders.CONTENT_DISPOSITION);
+                if (isNull(contentDisposition)) {
+                    ContentDisposition.Builder disposition = ContentDisposition.formData().name(name);
+                    if (partBody instanceof Resource resource && nonNull(resource.getFilename())) {
+                        disposition.filename(resource.getFilename());
+                    }
+                    partMessage.getHeaders().setContentDisposition(disposition.build());
+                } else {
+                    partMessage.getHeaders().set(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+                }
+                partMessage.getHeaders().putAll(partHeaders);
+                ((HttpMessageConverter<Object>) converter).write(partBody, partContentType, partMessage);
+                partMessage.getBody();
+                return;
+            }
+        }
+        throw new HttpMessageNotWritableException("Could not write request: "
+                + "no suitable HttpMessageConverter found for request type [" + partType.getName() + "]");
+    }
+
+    private static class PartOutputMessage implements HttpOutputMessage {
+        private final OutputStream outputStream;
+        private final HttpHeaders headers = new HttpHeaders();
+        private boolean headersWritten = false;
+
+        PartOutputMessage(OutputStream outputStream) {
+            this.outputStream = StreamUtils.nonClosing(outputStream);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headersWritten ? HttpHeaders.readOnlyHttpHeaders(headers) : headers;
+        }
+
+        @Override
+        public OutputStream getBody() throws IOException {
+            if (!headersWritten) {
+                for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                    byte[] headerName = header.getKey().getBytes(StandardCharsets.UTF_8);
+                    for (String headerValue : header.getValue()) {
+                        outputStream.write(headerName);
+                        outputStream.write(':');
+                        outputStream.write(' ');
+                        outputStream.write(headerValue.getBytes(StandardCharsets.UTF_8));
+                        outputStream.write(CRLF);
+                    }
+                }
+                outputStream.write(CRLF);
+                headersWritten = true;
+            }
+            return outputStream;
+        }
+    }
+}
@@ -16,6 +16,9 @@
 
 package org.qubership.integration.platform.engine.kubernetes;
 
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
@@ -32,6 +35,7 @@
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
 
 @Slf4j
 public class KubeOperator {
@@ -39,6 +43,7 @@ public class KubeOperator {
     private static final String DEFAULT_ERR_MESSAGE = "Invalid k8s cluster parameters or API error. ";
 
     private final CoreV1Api coreApi;
+    private final CoreV1Api watchApi;
     private final AppsV1Api appsApi;
 
     private final String namespace;
@@ -46,6 +51,7 @@ public class KubeOperator {
 
     public KubeOperator() {
         coreApi = new CoreV1Api();
+        watchApi = coreApi;
         appsApi = new AppsV1Api();
         namespace = null;
         devmode = null;
@@ -54,10 +60,23 @@ public KubeOperator() {
     public KubeOperator(ApiClient client,
         String namespace,
         Boolean devmode) {
+        this(client, client, namespace, devmode);
+    }
+
+    /**
+     * @param watchClient client used for watches, must not have read timeout
+     */
+    public KubeOperator(ApiClient client,
+        ApiClient watchClient,
+        String namespace,
+        Boolean devmode) {
 
         coreApi = new CoreV1Api();
         coreApi.setApiClient(client);
 
+        watchApi = new CoreV1Api();
+        watchApi.setApiClient(watchClient);
+
         appsApi = new AppsV1Api();
         appsApi.setApiClient(client);
 
@@ -91,11 +110,7 @@ public Map<String, Map<String, String>> getAllSecretsWithLabel(Pair<String, Stri
                     continue;
                 }
 
-                ConcurrentMap<String, String> dataMap = new ConcurrentHashMap<>();
-                if (secret.getData() != null) {
-                    secret.getData().forEach((k, v) -> dataMap.put(k, new String(v)));
-                }
-                secrets.put(metadata.getName(), dataMap);
+                secrets.put(metadata.getName(), getSecretData(secret));
             }
         } catch (ApiException e) {
             if (e.getCode() != 404) {
@@ -114,6 +129,59 @@ public Map<String, Map<String, String>> getAllSecretsWithLabel(Pair<String, Stri
         return secrets;
     }
 
+    /**
+     * Starts an informer of secrets with the label. Secrets are listed once and then watched
+     * from the last seen resource version, so the handler receives only changed secrets.
+     * The informer relists secrets by itself if the watch can not be resumed.
+     *
+     * @return factory of the started informer, used to stop it
+     */
+    public SharedInformerFactory watchSecretsWithLabel(
+        Pair<String, String> label,
+        long resyncPeriodMillis,
+        ResourceEventHandler<V1Secret> handler,
+        BiConsumer<Class<V1Secret>, Throwable> exceptionHandler
+    ) {
+        if (namespace == null) {
+            throw new KubeApiException(DEFAULT_ERR_MESSAGE + "Namespace is not defined");
+        }
+
+        String labelSelector = label.getKey() + "=" + label.getValue();
+        SharedInformerFactory informerFactory = new SharedInformerFactory(watchApi.getApiClient());
+        SharedIndexInformer<V1Secret> informer = informerFactory.sharedIndexInformerFor(
+            params -> watchApi.listNamespacedSecretCall(
+                namespace,
+                null,
+                null,
+                null,
+                null,
+                labelSelector,
+                null,
+                params.resourceVersion,
+                null,
+                null,
+                params.timeoutSeconds,
+                params.watch,
+                null
+            ),
+            V1Secret.class,
+            V1SecretList.class,
+            resyncPeriodMillis,
+            exceptionHandler
+        );
+        informer.addEventHandler(handler);
+        informerFactory.startAllRegisteredInformers();
+        return informerFactory;
+    }
+
+    public static Map<String, String> getSecretData(V1Secret secret) {
+        ConcurrentMap<String, String> dataMap = new ConcurrentHashMap<>();
+        if (secret.getData() != null) {
+            secret.getData().forEach((k, v) -> dataMap.put(k, new String(v)));
+        }
+        return dataMap;
+    }
+
     public Boolean isDevmode() {
         return devmode;
     }
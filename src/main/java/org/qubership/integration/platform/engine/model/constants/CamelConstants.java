@@ -150,6 +150,7 @@ public static final class Properties {
         public static final String RESPONSE_FILTER_INCLUDE_FIELDS = INTERNAL_PROPERTY_PREFIX + "responseFilterInclude";
         public static final String HTTP_TRIGGER_CHAIN_FAILED = INTERNAL_PROPERTY_PREFIX + "httpThreadFailed";
         public static final String HTTP_TRIGGER_EXTERNAL_ERROR_CODE = INTERNAL_PROPERTY_PREFIX + "httpTriggerErrorCode";
+        public static final String HTTP_TRIGGER_NODE_ID = INTERNAL_PROPERTY_PREFIX + "httpTriggerNodeId";
         public static final String CORRELATION_ID_POSITION = "correlationIdPosition";
         public static final String CORRELATION_ID_NAME =  "correlationIdName";
         public static final String IS_CHECKPOINT_TRIGGER_STEP =  INTERNAL_PROPERTY_PREFIX + "isCheckpointTriggerStep";
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.model.consul;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * KV operation of a consul transaction.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TxnOperation {
+    @JsonProperty("KV")
+    private KVOperation kv;
+
+    public static TxnOperation lock(String key, String value, String sessionId) {
+        return of(KVOperation.builder()
+                .verb("lock")
+                .key(key)
+                .value(Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)))
+                .session(sessionId)
+                .build());
+    }
+
+    public static TxnOperation checkIndex(String key, long index) {
+        return of(KVOperation.builder().verb("check-index").key(key).index(index).build());
+    }
+
+    public static TxnOperation checkNotExists(String key) {
+        return of(KVOperation.builder().verb("check-not-exists").key(key).build());
+    }
+
+    public static TxnOperation deleteCas(String key, long index) {
+        return of(KVOperation.builder().verb("delete-cas").key(key).index(index).build());
+    }
+
+    private static TxnOperation of(KVOperation operation) {
+        return TxnOperation.builder().kv(operation).build();
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class KVOperation {
+        @JsonProperty("Verb")
+        private String verb;
+
+        @JsonProperty("Key")
+        private String key;
+
+        // base64 encoded
+        @JsonProperty("Value")
+        private String value;
+
+        @JsonProperty("Index")
+        private Long index;
+
+        @JsonProperty("Session")
+        private String session;
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.model.deployment.properties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes of chains runtime properties since the previously applied version.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RuntimePropertiesDelta {
+    private final long version;
+    // <chain_id, properties>
+    private final Map<String, DeploymentRuntimeProperties> changed;
+    private final Set<String> removed;
+
+    public static RuntimePropertiesDelta empty(long version) {
+        return new RuntimePropertiesDelta(version, Collections.emptyMap(), Collections.emptySet());
+    }
+
+    public boolean isEmpty() {
+        return changed.isEmpty() && removed.isEmpty();
+    }
+}
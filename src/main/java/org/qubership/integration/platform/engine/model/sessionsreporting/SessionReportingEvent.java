@@ -0,0 +1,45 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.model.sessionsreporting;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import org.qubership.integration.platform.engine.service.ExecutionStatus;
+
+/**
+ * Immutable session event captured on the exchange thread and serialized by the reporting worker.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SessionReportingEvent {
+    private final EventSourceType eventType;
+    private final long timestamp;
+    private final String sessionId;
+    private final String originalSessionId;
+    private final String parentSessionId;
+    private final Long sessionStartTime;
+    private final String chainId;
+    private final String chainName;
+    private final String snapshotId;
+    private final String deploymentId;
+    private final String checkpointElementId;
+    private final ExecutionStatus executionStatus;
+    private final String engineDomain;
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.opensearch;
+
+import org.qubership.integration.platform.engine.model.opensearch.SessionElementElastic;
+
+import java.util.List;
+
+/**
+ * Registry of classes annotated with {@link org.qubership.integration.platform.engine.opensearch.annotation.OpenSearchDocument}.
+ * Indices, templates and policies are created for these classes on startup.
+ * Completeness of the registry is verified by tests.
+ */
+public final class OpenSearchDocuments {
+    public static final List<Class<?>> DOCUMENT_CLASSES = List.of(
+            SessionElementElastic.class
+    );
+
+    private OpenSearchDocuments() {
+    }
+}
@@ -100,6 +100,14 @@ public static Request buildPutIndexTemplateRequest(ObjectMapper objectMapper, St
         return new GenericRequest(HttpPut.METHOD_NAME, endpoint, Collections.emptyList(), Collections.emptyMap(), Body.from(requestText.getBytes(), String.valueOf(ContentType.APPLICATION_JSON)));
     }
 
+    public static Request buildGetIndexTemplateRequest(String templateName) {
+        String endpoint = new EndpointBuilder()
+                .addPathPartAsIs("_index_template")
+                .addPathPart(templateName)
+                .build();
+        return new GenericRequest(HttpGet.METHOD_NAME, endpoint, Collections.emptyList());
+    }
+
     public static Request buildCreateIndexRequest(ObjectMapper objectMapper, String indexName, Map<String, Object> request) throws JsonProcessingException {
         String endpoint = new EndpointBuilder()
                 .addPathPart(indexName)
@@ -24,7 +24,6 @@
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +39,17 @@ public interface ContextStorageRespository extends JpaRepository<ContextSystemRe
                     + " WHERE record.context_service_id = :contextServiceId AND record.context_Id = :contextId")
     void deleteRecordByContextServiceIdAndContextId(@Param("contextServiceId") String contextServiceId, @Param("contextId") String contextId);
 
-    @Transactional
-    List<ContextSystemRecords> findAllByExpiresAtBefore(Timestamp expiresAt);
+    @Query(
+            nativeQuery = true,
+            value = """
+                select record.id
+                    from engine.context_system_records record
+                    where record.id > :afterId
+                        and record.expires_at < now()
+                    order by record.id
+                    limit :limit
+                    for update skip locked
+            """
+    )
+    List<String> findExpiredIds(String afterId, int limit);
 }
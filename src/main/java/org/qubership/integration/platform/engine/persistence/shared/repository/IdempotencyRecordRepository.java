@@ -5,6 +5,8 @@
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
+
 public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
     @Query(
             nativeQuery = true,
@@ -44,14 +46,19 @@ r.expires_at < now()
     )
     int insertIfNotExistsOrUpdateIfExpired(String key, String data, int ttl);
 
-    @Modifying
     @Query(
             nativeQuery = true,
             value = """
-                delete from engine.idempotency_records r where r.expires_at < now()
+                select r.key
+                    from engine.idempotency_records r
+                    where r.key > :afterKey
+                        and r.expires_at < now()
+                    order by r.key
+                    limit :limit
+                    for update skip locked
             """
     )
-    void deleteExpired();
+    List<String> findExpiredKeys(String afterKey, int limit);
 
     @Modifying
     @Query(
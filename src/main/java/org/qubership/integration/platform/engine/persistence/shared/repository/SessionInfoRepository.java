@@ -22,6 +22,7 @@
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,15 +69,59 @@ with recursive session_info as (
 
 
     /**
-     * Remove old records for scheduled cleanup task
+     * Find root sessions for scheduled cleanup task, ordered by primary key
      *
      * @param olderThan interval string, for example: '1 hour', '7 days', '2 years 3 month'
+     * @param afterId primary key to continue from, empty string for the first batch
+     */
+    @Query(
+            nativeQuery = true,
+            value = """
+                select s.id
+                    from engine.sessions_info s
+                    where s.id > :afterId
+                        and s.started < now() - cast(:olderThan as interval)
+                        and s.original_session_id is null
+                    order by s.id
+                    limit :limit
+                    for update skip locked
+            """
+    )
+    List<String> findOldRootSessionIds(String olderThan, String afterId, int limit);
+
+    /**
+     * Unlink large objects left in the deprecated oid columns of checkpoints
+     * belonging to the given sessions and the sessions retried from them.
      */
-    @Modifying
     @Query(
-        nativeQuery = true,
-        value = "DELETE FROM engine.sessions_info s1 "
-              + "WHERE s1.started < now() - ( :olderThan )\\:\\:interval AND s1.original_session_id IS NULL"
+            nativeQuery = true,
+            value = """
+                with recursive related_sessions as (
+                    select s1.id
+                        from engine.sessions_info s1
+                        where s1.id in (:sessionIds)
+                    union all
+                    select s2.id
+                        from engine.sessions_info s2
+                        join related_sessions rs on s2.original_session_id = rs.id
+                ), related_checkpoints as (
+                    select c.id, c.body
+                        from engine.checkpoints c
+                        where c.session_id in (select id from related_sessions)
+                ), large_objects as (
+                    select rc.body as lo_oid
+                        from related_checkpoints rc
+                        where rc.body is not null
+                    union
+                    select p.value
+                        from engine.properties p
+                        where p.checkpoint_id in (select id from related_checkpoints)
+                            and p.value is not null
+                )
+                select count(lo_unlink(lo.lo_oid))
+                    from large_objects lo
+                    where exists (select 1 from pg_catalog.pg_largeobject_metadata m where m.oid = lo.lo_oid)
+            """
     )
-    void deleteOldRecordsByInterval(String olderThan);
+    long unlinkDeprecatedLargeObjects(Collection<String> sessionIds);
 }
@@ -21,11 +21,11 @@
 import org.qubership.integration.platform.engine.consul.ConsulService;
 import org.qubership.integration.platform.engine.consul.DeploymentReadinessService;
 import org.qubership.integration.platform.engine.consul.KVNotFoundException;
-import org.qubership.integration.platform.engine.model.deployment.properties.DeploymentRuntimeProperties;
 import org.qubership.integration.platform.engine.model.kafka.systemmodel.CompiledLibraryUpdate;
 import org.qubership.integration.platform.engine.service.CheckpointSessionService;
 import org.qubership.integration.platform.engine.service.DeploymentsUpdateService;
 import org.qubership.integration.platform.engine.service.IntegrationRuntimeService;
+import org.qubership.integration.platform.engine.service.SecuredVariablesWatcher;
 import org.qubership.integration.platform.engine.service.VariablesService;
 import org.qubership.integration.platform.engine.service.contextstorage.ContextStorageService;
 import org.qubership.integration.platform.engine.service.debugger.CamelDebuggerPropertiesService;
@@ -52,12 +52,20 @@ public class TasksScheduler {
     private final DeploymentsUpdateService deploymentsUpdateService;
     private final Optional<ExternalLibraryService> externalLibraryService;
     private final CamelDebuggerPropertiesService debuggerPropertiesService;
+    private final Optional<SecuredVariablesWatcher> securedVariablesWatcher;
 
     @Value("${qip.sessions.checkpoints.cleanup.interval}")
     private String checkpointsInterval;
 
+    @Value("${kubernetes.variables-secret.resync-interval}")
+    private long securedVariablesResyncInterval;
+
+    private long lastSecuredVariablesRefreshTime = 0;
+
     private final ContextStorageService contextStorageService;
 
+    private boolean snapshotReconciliationRequired = false;
+
     @Autowired
     public TasksScheduler(VariablesService variableService,
                           IntegrationRuntimeService runtimeService,
@@ -66,7 +74,8 @@ public TasksScheduler(VariablesService variableService,
                           ConsulService consulService,
                           DeploymentsUpdateService deploymentsUpdateService,
                           Optional<ExternalLibraryService> externalLibraryService,
-                          CamelDebuggerPropertiesService debuggerPropertiesService, ContextStorageService contextStorageService) {
+                          CamelDebuggerPropertiesService debuggerPropertiesService, ContextStorageService contextStorageService,
+                          Optional<SecuredVariablesWatcher> securedVariablesWatcher) {
         this.variableService = variableService;
         this.runtimeService = runtimeService;
         this.checkpointSessionService = checkpointSessionService;
@@ -76,6 +85,7 @@ public TasksScheduler(VariablesService variableService,
         this.externalLibraryService = externalLibraryService;
         this.debuggerPropertiesService = debuggerPropertiesService;
         this.contextStorageService = contextStorageService;
+        this.securedVariablesWatcher = securedVariablesWatcher;
     }
 
 
@@ -96,9 +106,18 @@ public void refreshCommonVariables() {
         }
     }
 
-    @Scheduled(fixedDelay = 5000)
+    /**
+     * Full refresh of secured variables, runs rarely while the secrets watch is healthy
+     */
+    @Scheduled(fixedDelayString = "${kubernetes.variables-secret.refresh-interval}")
     public void refreshSecuredVariables() {
+        long now = System.currentTimeMillis();
+        boolean watching = securedVariablesWatcher.map(SecuredVariablesWatcher::isWatching).orElse(false);
+        if (watching && now - lastSecuredVariablesRefreshTime < securedVariablesResyncInterval) {
+            return;
+        }
         variableService.refreshSecuredVariables();
+        lastSecuredVariablesRefreshTime = now;
     }
 
     @Scheduled(fixedDelayString = "${qip.deployments.retry-delay}", initialDelayString = "${qip.deployments.retry-delay}")
@@ -135,9 +154,16 @@ public void checkDeploymentUpdates() {
                 boolean firstDeploy = !deploymentReadinessService.isInitialized();
 
                 if (firstDeploy) {
-                    deploymentsUpdateService.getAndProcess();
+                    // deployments restored from the local snapshot are reconciled with runtime catalog on the next run
+                    snapshotReconciliationRequired = deploymentsUpdateService.restoreFromSnapshot();
+                    if (!snapshotReconciliationRequired) {
+                        deploymentsUpdateService.getAndProcess();
+                    }
                     runtimeService.startAllRoutesOnInit();
                     deploymentReadinessService.setInitialized(true);
+                } else if (snapshotReconciliationRequired) {
+                    deploymentsUpdateService.getAndProcess();
+                    snapshotReconciliationRequired = false;
                 } else {
                     try {
                         // block thread and wait for update (until the timeout is exceeded)
@@ -179,13 +205,10 @@ public void checkLibrariesUpdates() {
     @Scheduled(fixedDelay = 1000)
     public void checkRuntimeDeploymentProperties() {
         try {
-            Pair<Boolean, Map<String, DeploymentRuntimeProperties>> response = consulService.waitForChainRuntimeConfig();
-            if (response.getLeft()) { // changes detected
-                debuggerPropertiesService.updateRuntimeProperties(response.getRight());
-            }
+            debuggerPropertiesService.applyRuntimePropertiesDelta(consulService.waitForChainRuntimeConfig());
         } catch (KVNotFoundException kvnfe) {
             log.debug("Runtime deployments properties KV is empty. {}", kvnfe.getMessage());
-            debuggerPropertiesService.updateRuntimeProperties(Collections.emptyMap());
+            debuggerPropertiesService.applyRuntimePropertiesDelta(consulService.resetChainsRuntimeConfig());
         } catch (Exception e) {
             log.error("Failed to get runtime deployments properties from consul", e);
             consulService.rollbackChainsRuntimeConfigLastIndex();
@@ -52,15 +52,18 @@ public class CheckpointSessionService {
     private final CheckpointRepository checkpointRepository;
     private final WebClient localhostWebclient;
     private final ObjectMapper jsonMapper;
+    private final DatabaseCleanupService databaseCleanupService;
 
     @Autowired
     public CheckpointSessionService(SessionInfoRepository sessionInfoRepository,
         CheckpointRepository checkpointRepository, WebClient localhostWebclient,
-        @Qualifier("jsonMapper") ObjectMapper jsonMapper) {
+        @Qualifier("jsonMapper") ObjectMapper jsonMapper,
+        DatabaseCleanupService databaseCleanupService) {
         this.sessionInfoRepository = sessionInfoRepository;
         this.checkpointRepository = checkpointRepository;
         this.localhostWebclient = localhostWebclient;
         this.jsonMapper = jsonMapper;
+        this.databaseCleanupService = databaseCleanupService;
     }
 
     @Transactional("checkpointTransactionManager")
@@ -201,8 +204,16 @@ public void removeAllRelatedCheckpoints(String sessionId, boolean isRootSession)
         }
     }
 
-    @Transactional("checkpointTransactionManager")
     public void deleteOldRecordsByInterval(String checkpointsInterval) {
-        sessionInfoRepository.deleteOldRecordsByInterval(checkpointsInterval);
+        long deleted = databaseCleanupService.deleteInBatches("checkpoints", (afterId, batchSize) -> {
+            List<String> sessionIds = sessionInfoRepository.findOldRootSessionIds(checkpointsInterval, afterId, batchSize);
+            if (!sessionIds.isEmpty()) {
+                // large objects of deprecated oid columns are no longer removed by triggers
+                sessionInfoRepository.unlinkDeprecatedLargeObjects(sessionIds);
+                sessionInfoRepository.deleteAllByIdInBatch(sessionIds);
+            }
+            return sessionIds;
+        });
+        log.debug("Deleted {} checkpoint sessions older than {}", deleted, checkpointsInterval);
     }
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.engine.persistence.TransactionHandler;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+import java.util.function.LongPredicate;
+import javax.sql.DataSource;
+
+/**
+ * Runs cleanup of the checkpoints database in small batches, each in its own transaction,
+ * so that long deletes do not hold locks or saturate the database.
+ * Only one pod runs a given cleanup task at a time, it is guarded by a postgres advisory lock.
+ */
+@Slf4j
+@Service
+public class DatabaseCleanupService {
+    private static final String LOCK_PREFIX = "qip-engine-cleanup-";
+
+    private final DataSource dataSource;
+    private final TransactionHandler transactionHandler;
+    private final int batchSize;
+    private final double pauseFactor;
+    private final long maxPause;
+    private final Clock clock;
+    // sleeps for the given number of milliseconds, returns false if interrupted
+    private final LongPredicate pause;
+
+    @Autowired
+    public DatabaseCleanupService(
+            @Qualifier("checkpointDataSource") DataSource dataSource,
+            TransactionHandler transactionHandler,
+            @Value("${qip.cleanup.batch-size:1000}") int batchSize,
+            @Value("${qip.cleanup.pause-factor:1.0}") double pauseFactor,
+            @Value("${qip.cleanup.max-pause:5000}") long maxPause
+    ) {
+        this(dataSource, transactionHandler, batchSize, pauseFactor, maxPause,
+                Clock.systemUTC(), DatabaseCleanupService::sleep);
+    }
+
+    DatabaseCleanupService(
+            DataSource dataSource,
+            TransactionHandler transactionHandler,
+            int batchSize,
+            double pauseFactor,
+            long maxPause,
+            Clock clock,
+            LongPredicate pause
+    ) {
+        this.dataSource = dataSource;
+        this.transactionHandler = transactionHandler;
+        this.batchSize = batchSize;
+        this.pauseFactor = pauseFactor;
+        this.maxPause = maxPause;
+        this.clock = clock;
+        this.pause = pause;
+    }
+
+    /**
+     * Deletes records in batches until a batch smaller than the batch size is returned.
+     * After each batch the task pauses for the batch duration multiplied by the pause factor.
+     *
+     * @param task task name, used for the advisory lock and logging
+     * @param batchDeleter deletes up to the given number of records with primary key greater
+     *                     than the given one (empty string for the first batch)
+     *                     and returns deleted primary keys in ascending order
+     * @return number of deleted records, zero if the task is running on another pod
+     */
+    public long deleteInBatches(String task, BiFunction<String, Integer, List<String>> batchDeleter) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!tryLock(connection, task)) {
+                log.info("Cleanup task {} is running on another pod, skipping", task);
+                return 0;
+            }
+            try {
+                return runBatches(task, batchDeleter);
+            } finally {
+                unlock(connection, task);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Failed to acquire lock for cleanup task " + task, e);
+        }
+    }
+
+    private long runBatches(String task, BiFunction<String, Integer, List<String>> batchDeleter) {
+        long deleted = 0;
+        String lastId = "";
+        AtomicReference<List<String>> batch = new AtomicReference<>(Collections.emptyList());
+        while (true) {
+            long start = clock.millis();
+            String afterId = lastId;
+            transactionHandler.runInNewCheckpointTransaction(() -> batch.set(batchDeleter.apply(afterId, batchSize)));
+            long elapsed = clock.millis() - start;
+
+            List<String> ids = batch.get();
+            deleted += ids.size();
+            log.debug("Cleanup task {} deleted {} records in {} ms", task, ids.size(), elapsed);
+            if (ids.size() < batchSize) {
+                break;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            if (!pause.test(Math.min(maxPause, Math.round(elapsed * pauseFactor)))) {
+                log.warn("Cleanup task {} is interrupted", task);
+                break;
+            }
+        }
+        log.debug("Cleanup task {} completed, {} records deleted", task, deleted);
+        return deleted;
+    }
+
+    private static boolean sleep(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean tryLock(Connection connection, String task) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select pg_try_advisory_lock(hashtext(?))")) {
+            statement.setString(1, LOCK_PREFIX + task);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static void unlock(Connection connection, String task) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select pg_advisory_unlock(hashtext(?))")) {
+            statement.setString(1, LOCK_PREFIX + task);
+            statement.execute();
+        } catch (SQLException e) {
+            // the lock is held by the session, pooled connection must not be reused with it
+            log.warn("Failed to release lock of cleanup task {}, discarding connection", task, e);
+            connection.abort(Runnable::run);
+        }
+    }
+}
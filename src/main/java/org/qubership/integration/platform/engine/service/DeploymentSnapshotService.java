@@ -0,0 +1,155 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.qubership.integration.platform.engine.model.deployment.update.DeploymentUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Local snapshot of successfully deployed chains, one file per deployment.
+ * Deployments from the snapshot are restored on engine restart without waiting for runtime catalog.
+ * Deployments contain secured properties, so the snapshot is readable by the owner only.
+ */
+@Slf4j
+@Component
+public class DeploymentSnapshotService {
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final String SNAPSHOT_FILE_EXTENSION = ".json";
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Path directory;
+    private final boolean posix;
+
+    @Autowired
+    public DeploymentSnapshotService(
+            @Qualifier("jsonMapper") ObjectMapper objectMapper,
+            @Value("${qip.deployments.snapshot.enabled}") boolean enabled,
+            @Value("${qip.deployments.snapshot.path}") String path
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.directory = Paths.get(path);
+        this.posix = directory.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void save(DeploymentUpdate deployment) {
+        if (!enabled) {
+            return;
+        }
+        String deploymentId = deployment.getDeploymentInfo().getDeploymentId();
+        try {
+            String content = objectMapper.writeValueAsString(deployment);
+            DeploymentSnapshot snapshot = new DeploymentSnapshot(SNAPSHOT_VERSION, DigestUtils.sha256Hex(content), content);
+            createDirectory();
+            Path tempFile = posix
+                    ? Files.createTempFile(directory, deploymentId, ".tmp", PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE))
+                    : Files.createTempFile(directory, deploymentId, ".tmp");
+            objectMapper.writeValue(tempFile.toFile(), snapshot);
+            Files.move(tempFile, getFile(deploymentId), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to save snapshot of deployment {}", deploymentId, e);
+        }
+    }
+
+    public void delete(String deploymentId) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(getFile(deploymentId));
+        } catch (IOException e) {
+            log.warn("Failed to delete snapshot of deployment {}", deploymentId, e);
+        }
+    }
+
+    /**
+     * Reads deployments from the snapshot, files of other snapshot versions and corrupted ones are skipped.
+     */
+    public List<DeploymentUpdate> load() {
+        List<DeploymentUpdate> deployments = new ArrayList<>();
+        if (!enabled || !Files.isDirectory(directory)) {
+            return deployments;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(SNAPSHOT_FILE_EXTENSION)).toList()) {
+                try {
+                    DeploymentSnapshot snapshot = objectMapper.readValue(file.toFile(), DeploymentSnapshot.class);
+                    if (snapshot.version() != SNAPSHOT_VERSION
+                            || !DigestUtils.sha256Hex(snapshot.deployment()).equals(snapshot.hash())) {
+                        log.warn("Snapshot {} is outdated or corrupted, skipping", file.getFileName());
+                        Files.deleteIfExists(file);
+                        continue;
+                    }
+                    deployments.add(objectMapper.readValue(snapshot.deployment(), DeploymentUpdate.class));
+                } catch (IOException e) {
+                    log.warn("Failed to read deployment snapshot {}", file.getFileName(), e);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to read deployments snapshot from {}", directory, e);
+        }
+        return deployments;
+    }
+
+    private void createDirectory() throws IOException {
+        if (!posix) {
+            Files.createDirectories(directory);
+            return;
+        }
+        Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+        // the directory may be created before with default permissions
+        if (!OWNER_ONLY_DIRECTORY.equals(Files.getPosixFilePermissions(directory))) {
+            Files.setPosixFilePermissions(directory, OWNER_ONLY_DIRECTORY);
+        }
+    }
+
+    private Path getFile(String deploymentId) {
+        return directory.resolve(deploymentId + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    /**
+     * @param deployment serialized {@link DeploymentUpdate}
+     * @param hash       sha-256 of the serialized deployment
+     */
+    record DeploymentSnapshot(int version, String hash, String deployment) {
+    }
+}
@@ -20,6 +20,7 @@
 import org.qubership.integration.platform.engine.configuration.ServerConfiguration;
 import org.qubership.integration.platform.engine.model.deployment.engine.EngineDeploymentsDTO;
 import org.qubership.integration.platform.engine.model.deployment.update.DeploymentInfo;
+import org.qubership.integration.platform.engine.model.deployment.update.DeploymentUpdate;
 import org.qubership.integration.platform.engine.model.deployment.update.DeploymentsUpdate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -41,6 +42,7 @@ public class DeploymentsUpdateService {
     private final IntegrationRuntimeService integrationRuntimeService;
     private final ServerConfiguration serverConfiguration;
     private final RestTemplate restTemplate;
+    private final DeploymentSnapshotService deploymentSnapshotService;
 
     @Value("${qip.internal-services.runtime-catalog.url}")
     private String runtimeCatalogUrl;
@@ -48,10 +50,30 @@ public class DeploymentsUpdateService {
     @Autowired
     public DeploymentsUpdateService(IntegrationRuntimeService integrationRuntimeService,
                                     ServerConfiguration serverConfiguration,
-                                    @Qualifier("restTemplateMS") RestTemplate restTemplate) {
+                                    @Qualifier("restTemplateMS") RestTemplate restTemplate,
+                                    DeploymentSnapshotService deploymentSnapshotService) {
         this.integrationRuntimeService = integrationRuntimeService;
         this.serverConfiguration = serverConfiguration;
         this.restTemplate = restTemplate;
+        this.deploymentSnapshotService = deploymentSnapshotService;
+    }
+
+    /**
+     * Deploys chains from the local snapshot. Restored deployments are excluded from
+     * the next runtime catalog request, so catalog returns only changes made since the snapshot.
+     *
+     * @return true if any deployment was restored
+     */
+    public boolean restoreFromSnapshot() throws ExecutionException, InterruptedException {
+        List<DeploymentUpdate> deployments = deploymentSnapshotService.load();
+        if (deployments.isEmpty()) {
+            return false;
+        }
+
+        log.info("Restoring {} deployments from local snapshot", deployments.size());
+        integrationRuntimeService.processAndUpdateState(DeploymentsUpdate.builder().update(deployments).build(), false);
+        log.info("Restoring deployments from local snapshot completed");
+        return true;
     }
 
 
@@ -11,19 +11,24 @@
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 public class IdempotencyRecordService {
     private final ObjectMapper objectMapper;
     private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final DatabaseCleanupService databaseCleanupService;
 
     @Autowired
     public IdempotencyRecordService(
             ObjectMapper objectMapper,
-            IdempotencyRecordRepository idempotencyRecordRepository
+            IdempotencyRecordRepository idempotencyRecordRepository,
+            DatabaseCleanupService databaseCleanupService
     ) {
         this.objectMapper = objectMapper;
         this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.databaseCleanupService = databaseCleanupService;
     }
 
     @Transactional("checkpointTransactionManager")
@@ -44,10 +49,15 @@ public boolean delete(String key) {
     }
 
     @Scheduled(cron = "${qip.idempotency.expired-records-cleanup-cron:0 */5 * ? * *}")
-    @Transactional("checkpointTransactionManager")
     public void deleteExpired() {
         log.debug("Deleting expired idempotency records.");
-        idempotencyRecordRepository.deleteExpired();
+        databaseCleanupService.deleteInBatches("idempotency-records", (afterKey, batchSize) -> {
+            List<String> keys = idempotencyRecordRepository.findExpiredKeys(afterKey, batchSize);
+            if (!keys.isEmpty()) {
+                idempotencyRecordRepository.deleteAllByIdInBatch(keys);
+            }
+            return keys;
+        });
     }
 
     private String buildIdempotencyRecordData() {
@@ -26,9 +26,9 @@
 import org.apache.camel.observation.MicrometerObservationTracer;
 import org.apache.camel.reifier.ProcessorReifier;
 import org.apache.camel.spi.ClassResolver;
-import org.apache.camel.spi.MessageHistoryFactory;
 import org.apache.camel.spring.SpringCamelContext;
 import org.apache.camel.tracing.Tracer;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.jetbrains.annotations.NotNull;
@@ -37,8 +37,6 @@
 import org.qubership.integration.platform.engine.camel.context.propagation.constant.BusinessIds;
 import org.qubership.integration.platform.engine.camel.converters.FormDataConverter;
 import org.qubership.integration.platform.engine.camel.converters.SecurityAccessPolicyConverter;
-import org.qubership.integration.platform.engine.camel.history.FilteringMessageHistoryFactory;
-import org.qubership.integration.platform.engine.camel.history.FilteringMessageHistoryFactory.FilteringEntity;
 import org.qubership.integration.platform.engine.configuration.ServerConfiguration;
 import org.qubership.integration.platform.engine.configuration.TracingConfiguration;
 import org.qubership.integration.platform.engine.consul.DeploymentReadinessService;
@@ -48,6 +46,7 @@
 import org.qubership.integration.platform.engine.errorhandling.errorcode.ErrorCode;
 import org.qubership.integration.platform.engine.events.ConsulSessionCreatedEvent;
 import org.qubership.integration.platform.engine.forms.FormData;
+import org.qubership.integration.platform.engine.model.ChainElementType;
 import org.qubership.integration.platform.engine.model.RuntimeIntegrationCache;
 import org.qubership.integration.platform.engine.model.constants.CamelConstants.ChainProperties;
 import org.qubership.integration.platform.engine.model.deployment.DeploymentOperation;
@@ -59,7 +58,9 @@
 import org.qubership.integration.platform.engine.security.QipSecurityAccessPolicy;
 import org.qubership.integration.platform.engine.service.debugger.CamelDebugger;
 import org.qubership.integration.platform.engine.service.debugger.CamelDebuggerPropertiesService;
+import org.qubership.integration.platform.engine.service.debugger.LiveExchangesRegistry;
 import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsStore;
+import org.qubership.integration.platform.engine.service.deployment.ChangedRoutesRedeployer;
 import org.qubership.integration.platform.engine.service.deployment.processing.DeploymentProcessingService;
 import org.qubership.integration.platform.engine.service.deployment.processing.actions.context.before.RegisterRoutesInControlPlaneAction;
 import org.qubership.integration.platform.engine.service.externallibrary.ExternalLibraryGroovyShellFactory;
@@ -69,6 +70,7 @@
 import org.qubership.integration.platform.engine.util.MDCUtil;
 import org.qubership.integration.platform.engine.util.log.ExtendedErrorLogger;
 import org.qubership.integration.platform.engine.util.log.ExtendedErrorLoggerFactory;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -79,18 +81,34 @@
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
 import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
 import java.net.URISyntaxException;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
@@ -116,13 +134,16 @@ public class IntegrationRuntimeService implements ApplicationContextAware {
     private final DeploymentReadinessService deploymentReadinessService;
     private final FormDataConverter formDataConverter;
     private final SecurityAccessPolicyConverter securityAccessPolicyConverter;
-    private final Predicate<FilteringEntity> camelMessageHistoryFilter;
     private final RuntimeIntegrationCache deploymentCache = new RuntimeIntegrationCache();
     private final ReadWriteLock processLock = new ReentrantReadWriteLock();
     private final DeploymentProcessingService deploymentProcessingService;
     private final Executor deploymentExecutor;
     private final ObjectFactory<CamelDebugger> camelDebuggerFactory;
     private final ObjectFactory<MicrometerObservationTracer> tracerFactory;
+    private final LiveExchangesRegistry liveExchangesRegistry;
+    private final DeploymentSnapshotService deploymentSnapshotService;
+    private final Executor groovyScriptsCompilationExecutor;
+    private final ChangedRoutesRedeployer changedRoutesRedeployer;
 
     private ApplicationContext applicationContext;
 
@@ -136,6 +157,12 @@ public class IntegrationRuntimeService implements ApplicationContextAware {
     @Value("${qip.camel.stream-caching.enabled}")
     private boolean enableStreamCaching;
 
+    @Value("${qip.deployments.incremental-redeploy.enabled}")
+    private boolean incrementalRedeployEnabled;
+
+    // <deployment id, routes>, contexts of these deployments can be updated in place
+    private final Map<String, DeployedRoutes> deployedRoutes = new ConcurrentHashMap<>();
+
     private final int streamCachingBufferSize;
 
     @Autowired
@@ -153,14 +180,16 @@ public IntegrationRuntimeService(ServerConfiguration serverConfiguration,
         @Qualifier("deploymentExecutor") Executor deploymentExecutor,
         CamelDebuggerPropertiesService propertiesService,
         @Value("${qip.camel.stream-caching.buffer.size-kb}") int streamCachingBufferSizeKb,
-        Predicate<FilteringEntity> camelMessageHistoryFilter,
         DeploymentReadinessService deploymentReadinessService,
         DeploymentProcessingService deploymentProcessingService,
         FormDataConverter formDataConverter,
         SecurityAccessPolicyConverter securityAccessPolicyConverter,
         ObjectFactory<CamelDebugger> camelDebuggerFactory,
-        @Qualifier("camelObservationTracer") ObjectFactory<MicrometerObservationTracer> tracerFactory
-
+        @Qualifier("camelObservationTracer") ObjectFactory<MicrometerObservationTracer> tracerFactory,
+        LiveExchangesRegistry liveExchangesRegistry,
+        DeploymentSnapshotService deploymentSnapshotService,
+        @Qualifier("groovyScriptsCompilationExecutor") Executor groovyScriptsCompilationExecutor,
+        ChangedRoutesRedeployer changedRoutesRedeployer
     ) {
         this.serverConfiguration = serverConfiguration;
         this.quartzSchedulerService = quartzSchedulerService;
@@ -176,13 +205,16 @@ public IntegrationRuntimeService(ServerConfiguration serverConfiguration,
         this.deploymentExecutor = deploymentExecutor;
         this.propertiesService = propertiesService;
         this.streamCachingBufferSize = streamCachingBufferSizeKb * 1024;
-        this.camelMessageHistoryFilter = camelMessageHistoryFilter;
         this.deploymentReadinessService = deploymentReadinessService;
         this.deploymentProcessingService = deploymentProcessingService;
         this.formDataConverter = formDataConverter;
         this.securityAccessPolicyConverter = securityAccessPolicyConverter;
         this.camelDebuggerFactory = camelDebuggerFactory;
         this.tracerFactory = tracerFactory;
+        this.liveExchangesRegistry = liveExchangesRegistry;
+        this.deploymentSnapshotService = deploymentSnapshotService;
+        this.groovyScriptsCompilationExecutor = groovyScriptsCompilationExecutor;
+        this.changedRoutesRedeployer = changedRoutesRedeployer;
     }
 
     @Override
@@ -374,9 +406,16 @@ private void processDeploymentUpdate(DeploymentUpdate deployment,
 
                         EngineDeployment deploymentState = stateBuilder.build();
                         getCache().getDeployments().put(deploymentId, deploymentState);
+
+                        if (status == DeploymentStatus.DEPLOYED) {
+                            deploymentSnapshotService.save(deployment);
+                        } else {
+                            deploymentSnapshotService.delete(deploymentId);
+                        }
                     }
                     case REMOVED -> {
                         getCache().getDeployments().remove(deploymentId);
+                        deploymentSnapshotService.delete(deploymentId);
                         removeRetryingDeployment(deploymentId);
                         propertiesService.removeDeployProperties(deploymentId);
                         metricsStore.removeChainsDeployments(deploymentId);
@@ -421,6 +460,16 @@ private DeploymentStatus update(DeploymentUpdate deployment) throws Exception {
             .properties(configuration.getProperties())
             .build());
 
+        Map<String, String> routeHashes = incrementalRedeployEnabled && isIncrementalRedeployAllowed(deployment)
+            ? hashRoutes(configurationXml)
+            : null;
+        if (nonNull(routeHashes)) {
+            Optional<Pair<DeploymentInfo, SpringCamelContext>> previous = findContextForIncrementalRedeploy(deployment);
+            if (previous.isPresent() && redeployChangedRoutes(previous.get(), deployment, configurationXml, routeHashes)) {
+                return DeploymentStatus.DEPLOYED;
+            }
+        }
+
         SpringCamelContext context = getCache().getContexts().get(deploymentId);
         if (context != null) {
             if (log.isDebugEnabled()) {
@@ -448,6 +497,10 @@ private DeploymentStatus update(DeploymentUpdate deployment) throws Exception {
         }
 
         contextsToStop.stream().forEach(p -> stopDeploymentContext(p.getRight(), p.getLeft()));
+        if (nonNull(routeHashes)) {
+            deployedRoutes.put(deploymentId, new DeployedRoutes(routeHashes, getSystemModelIds(configuration),
+                changedRoutesRedeployer.hashBoundElements(configuration)));
+        }
 
         quartzSchedulerService.commitScheduledJobs();
         if (log.isDebugEnabled()) {
@@ -456,6 +509,134 @@ private DeploymentStatus update(DeploymentUpdate deployment) throws Exception {
         return DeploymentStatus.DEPLOYED;
     }
 
+    private boolean isIncrementalRedeployAllowed(DeploymentUpdate deployment) {
+        // scheduler jobs are bound to a context as a whole
+        return !deployment.getDeploymentInfo().isContainsSchedulerElements()
+            && deployment.getConfiguration().getProperties().stream()
+                .map(properties -> ChainElementType.fromString(properties.getProperties().get(ChainProperties.ELEMENT_TYPE)))
+                .noneMatch(ChainElementType::isSdsTriggerElement);
+    }
+
+    /**
+     * Returns the only running context of the chain if it can be updated in place.
+     */
+    private Optional<Pair<DeploymentInfo, SpringCamelContext>> findContextForIncrementalRedeploy(DeploymentUpdate deployment) {
+        if (isDeploymentsSuspended()) {
+            return Optional.empty();
+        }
+        String deploymentId = deployment.getDeploymentInfo().getDeploymentId();
+        List<Pair<DeploymentInfo, SpringCamelContext>> related = getContextsRelatedToDeployment(
+            deployment,
+            state -> state.getStatus() == DeploymentStatus.DEPLOYED
+                && !state.isSuspended()
+                && !state.getDeploymentInfo().getDeploymentId().equals(deploymentId)
+        );
+        if (related.size() != 1) {
+            return Optional.empty();
+        }
+        Pair<DeploymentInfo, SpringCamelContext> previous = related.get(0);
+        return nonNull(previous.getRight())
+                && previous.getRight().isStarted()
+                && deployedRoutes.containsKey(previous.getLeft().getDeploymentId())
+            ? Optional.of(previous)
+            : Optional.empty();
+    }
+
+    /**
+     * Replaces changed routes in the context of the previous deployment and rebinds the context to the new one.
+     * Unchanged routes keep their endpoints, connections and compiled scripts.
+     *
+     * @return false if the context can't be updated in place and must be rebuilt,
+     *         in this case the context keeps running the routes of the previous deployment
+     */
+    private boolean redeployChangedRoutes(
+        Pair<DeploymentInfo, SpringCamelContext> previous,
+        DeploymentUpdate deployment,
+        String configurationXml,
+        Map<String, String> routeHashes
+    ) throws Exception {
+        DeploymentInfo previousInfo = previous.getLeft();
+        String previousId = previousInfo.getDeploymentId();
+        SpringCamelContext context = previous.getRight();
+        DeploymentInfo deploymentInfo = deployment.getDeploymentInfo();
+        String deploymentId = deploymentInfo.getDeploymentId();
+        DeploymentConfiguration configuration = deployment.getConfiguration();
+
+        DeployedRoutes previousRoutes = deployedRoutes.get(previousId);
+        Set<String> systemModelIds = getSystemModelIds(configuration);
+        Map<String, String> boundElementHashes = changedRoutesRedeployer.hashBoundElements(configuration);
+        // element dependencies are bound to the context on its creation and tagged with the chain name
+        if (isNull(previousRoutes)
+            || !previousRoutes.systemModelIds().equals(systemModelIds)
+            || !previousRoutes.boundElementHashes().equals(boundElementHashes)
+            || !Objects.equals(previousInfo.getChainName(), deploymentInfo.getChainName())) {
+            return false;
+        }
+
+        List<RouteDefinition> changedRoutes = loadRoutesDefinition(context,
+                new ByteArrayInputStream(configurationXml.getBytes())).getRoutes().stream()
+            .filter(route -> !routeHashes.get(route.getRouteId()).equals(
+                previousRoutes.routeHashes().get(route.getRouteId())))
+            .toList();
+        List<RouteDefinition> replacedRoutes = previousRoutes.routeHashes().entrySet().stream()
+            .filter(entry -> !entry.getValue().equals(routeHashes.get(entry.getKey())))
+            .map(entry -> context.getRouteDefinition(entry.getKey()))
+            .filter(Objects::nonNull)
+            .toList();
+        log.info("Redeploying chain in context of deployment {}, routes to remove: {}, routes to add: {}",
+            previousId, replacedRoutes.size(), changedRoutes.size());
+
+        try {
+            prepareRoutes(context, changedRoutes);
+            compileGroovyScripts(changedRoutes);
+        } catch (Exception e) {
+            log.warn("Failed to prepare changed routes of deployment {}, context will be rebuilt", deploymentId, e);
+            return false;
+        }
+
+        CamelDebugger debugger = (CamelDebugger) context.getDebugger();
+        debugger.setDeploymentId(deploymentId);
+        if (!changedRoutesRedeployer.replaceRoutes(context, replacedRoutes, changedRoutes)) {
+            // the previous context keeps running until the rebuilt one is started
+            debugger.setDeploymentId(previousId);
+            return false;
+        }
+
+        liveExchangesRegistry.moveDeployment(previousId, deploymentId);
+        getCache().getContexts().remove(previousId);
+        getCache().getContexts().put(deploymentId, context);
+        deployedRoutes.remove(previousId);
+        deployedRoutes.put(deploymentId, new DeployedRoutes(routeHashes, systemModelIds, boundElementHashes));
+        return true;
+    }
+
+    /**
+     * @return [route id, hash of route xml] or null if any route has no id
+     */
+    private Map<String, String> hashRoutes(String configurationXml) throws Exception {
+        DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+        documentBuilderFactory.setNamespaceAware(true);
+        documentBuilderFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        Document document = documentBuilderFactory.newDocumentBuilder()
+            .parse(new ByteArrayInputStream(configurationXml.getBytes()));
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+
+        Map<String, String> hashes = new HashMap<>();
+        NodeList routes = document.getElementsByTagNameNS("*", "route");
+        for (int i = 0; i < routes.getLength(); i++) {
+            Element route = (Element) routes.item(i);
+            String routeId = route.getAttribute("id");
+            if (routeId.isEmpty()) {
+                return null;
+            }
+            StringWriter writer = new StringWriter();
+            transformer.transform(new DOMSource(route), new StreamResult(writer));
+            hashes.put(routeId, DigestUtils.sha256Hex(writer.toString()));
+        }
+        return hashes;
+    }
+
     private String preprocessDeploymentConfigurationXml(DeploymentConfiguration configuration) throws URISyntaxException {
         String configurationXml = configuration.getXml();
 
@@ -517,6 +698,7 @@ private void removeOldDeployments(
                 removeRetryingDeployment(depInfo.getDeploymentId());
 
                 metricsStore.removeChainsDeployments(depInfo.getDeploymentId());
+                deploymentSnapshotService.delete(depInfo.getDeploymentId());
 
                 iterator.remove();
                 propertiesService.removeDeployProperties(entry.getKey());
@@ -579,8 +761,6 @@ private SpringCamelContext buildContext(
         context.setDebugger(debugger);
         context.setDebugging(true);
 
-        configureMessageHistoryFactory(context);
-
         context.setStreamCaching(enableStreamCaching);
         if (enableStreamCaching) {
             DefaultStreamCachingStrategy streamCachingStrategy = new DefaultStreamCachingStrategy();
@@ -598,17 +778,21 @@ private ClassResolver getClassResolver(
         SpringCamelContext context,
         DeploymentConfiguration deploymentConfiguration
     ) {
-        Collection<String> systemModelIds = deploymentConfiguration.getProperties().stream()
+        Collection<String> systemModelIds = getSystemModelIds(deploymentConfiguration);
+        ClassLoader classLoader = externalLibraryService.isPresent()
+                ? externalLibraryService.get().getClassLoaderForSystemModels(systemModelIds, context.getApplicationContextClassLoader())
+                : getClass().getClassLoader();
+        return new QipCustomClassResolver(classLoader);
+    }
+
+    private static Set<String> getSystemModelIds(DeploymentConfiguration deploymentConfiguration) {
+        return deploymentConfiguration.getProperties().stream()
             .map(ElementProperties::getProperties)
             .filter(properties -> ChainProperties.SERVICE_CALL_ELEMENT.equals(properties.get(
                 ChainProperties.ELEMENT_TYPE)))
             .map(properties -> properties.get(ChainProperties.OPERATION_SPECIFICATION_ID))
             .filter(Objects::nonNull)
-            .toList();
-        ClassLoader classLoader = externalLibraryService.isPresent()
-                ? externalLibraryService.get().getClassLoaderForSystemModels(systemModelIds, context.getApplicationContextClassLoader())
-                : getClass().getClassLoader();
-        return new QipCustomClassResolver(classLoader);
+            .collect(Collectors.toSet());
     }
 
     private void startContext(SpringCamelContext context) {
@@ -620,14 +804,6 @@ private void startContext(SpringCamelContext context) {
         context.start();
     }
 
-    private void configureMessageHistoryFactory(SpringCamelContext context) {
-        context.setMessageHistory(true);
-        MessageHistoryFactory defaultFactory = context.getMessageHistoryFactory();
-        FilteringMessageHistoryFactory factory = new FilteringMessageHistoryFactory(
-            camelMessageHistoryFilter, defaultFactory);
-        context.setMessageHistoryFactory(factory);
-    }
-
     /**
      * Upload routes to a new context from provided configuration
      */
@@ -640,32 +816,79 @@ private void loadRoutes(SpringCamelContext context, String xmlConfiguration) thr
         ByteArrayInputStream configInputStream = new ByteArrayInputStream(configurationBytes);
         RoutesDefinition routesDefinition = loadRoutesDefinition(context, configInputStream);
 
+        prepareRoutes(context, routesDefinition.getRoutes());
+        compileGroovyScripts(routesDefinition.getRoutes());
+
+        context.addRouteDefinitions(routesDefinition.getRoutes());
+    }
+
+    private void prepareRoutes(SpringCamelContext context, List<RouteDefinition> routes) {
         // xml routes must be marked as un-prepared as camel-core
         // must do special handling for XML DSL
-        for (RouteDefinition route : routesDefinition.getRoutes()) {
+        for (RouteDefinition route : routes) {
             RouteDefinitionHelper.prepareRoute(context, route);
             route.markPrepared();
         }
-        routesDefinition.getRoutes().forEach(RouteDefinition::markUnprepared);
-
-        compileGroovyScripts(routesDefinition);
-
-        context.addRouteDefinitions(routesDefinition.getRoutes());
+        routes.forEach(RouteDefinition::markUnprepared);
     }
 
-    private void compileGroovyScripts(RoutesDefinition routesDefinition) {
-        for (RouteDefinition route : routesDefinition.getRoutes()) {
+    /**
+     * Compiles scripts of the routes in parallel, scripts found in bytecode cache are loaded without compilation.
+     * The calling thread compiles scripts too, so a busy pool does not stall the deployment.
+     */
+    private void compileGroovyScripts(List<RouteDefinition> routes) {
+        Queue<Pair<String, ExpressionDefinition>> scripts = new ConcurrentLinkedQueue<>();
+        for (RouteDefinition route : routes) {
             for (ProcessorDefinition<?> processor : route.getOutputs()) {
                 if (!(processor instanceof ExpressionNode)) {
                     continue;
                 }
                 ExpressionDefinition expression = ((ExpressionNode) processor).getExpression();
-                if (!expression.getLanguage().equals("groovy")) {
-                    continue;
+                if (expression.getLanguage().equals("groovy")) {
+                    scripts.add(Pair.of(processor.getId(), expression));
                 }
+            }
+        }
 
-                log.debug("Compiling groovy script for processor {}", processor.getId());
-                compileGroovyScript(expression);
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        int helpers = Math.min(scripts.size(), Runtime.getRuntime().availableProcessors()) - 1;
+        List<CompletableFuture<Void>> compilations = new ArrayList<>();
+        try {
+            for (int i = 0; i < helpers; i++) {
+                compilations.add(CompletableFuture.runAsync(() -> {
+                    if (nonNull(mdc)) {
+                        MDC.setContextMap(mdc);
+                    }
+                    try {
+                        compileQueuedGroovyScripts(scripts, failure);
+                    } finally {
+                        MDCUtil.clear();
+                    }
+                }, groovyScriptsCompilationExecutor));
+            }
+        } catch (RejectedExecutionException exception) {
+            log.debug("Groovy scripts compilation pool rejected a task, compiling on the deployment thread");
+        }
+
+        compileQueuedGroovyScripts(scripts, failure);
+        CompletableFuture.allOf(compilations.toArray(CompletableFuture[]::new)).join();
+        if (nonNull(failure.get())) {
+            throw failure.get();
+        }
+    }
+
+    private void compileQueuedGroovyScripts(
+        Queue<Pair<String, ExpressionDefinition>> scripts,
+        AtomicReference<RuntimeException> failure
+    ) {
+        Pair<String, ExpressionDefinition> script;
+        while (isNull(failure.get()) && nonNull(script = scripts.poll())) {
+            try {
+                log.debug("Compiling groovy script for processor {}", script.getKey());
+                compileGroovyScript(script.getValue());
+            } catch (RuntimeException exception) {
+                failure.compareAndSet(null, exception);
             }
         }
     }
@@ -706,6 +929,7 @@ private DeploymentStatus stop(DeploymentInfo deploymentInfo) {
     }
 
     private void stopDeploymentContext(SpringCamelContext context, DeploymentInfo deploymentInfo) {
+        deployedRoutes.remove(deploymentInfo.getDeploymentId());
         deploymentProcessingService.processStopContext(context, deploymentInfo, null);
         if (nonNull(context)) {
             quartzSchedulerService.removeSchedulerJobsFromContexts(
@@ -714,6 +938,7 @@ private void stopDeploymentContext(SpringCamelContext context, DeploymentInfo de
                 log.debug("Stopping context for deployment: {}", deploymentInfo.getDeploymentId());
                 context.stop();
             }
+            liveExchangesRegistry.unregisterDeployment(deploymentInfo.getDeploymentId());
         }
     }
 
@@ -780,4 +1005,16 @@ public void suspendAllSchedulers() {
     public void resumeAllSchedulers() {
         runInProcessLock(quartzSchedulerService::resumeAllSchedulers);
     }
+
+    /**
+     * @param routeHashes    [route id, hash of route xml]
+     * @param systemModelIds system models of the context class loader
+     * @param boundElementHashes [element id, hash of properties] of elements with dependencies bound to the context
+     */
+    private record DeployedRoutes(
+        Map<String, String> routeHashes,
+        Set<String> systemModelIds,
+        Map<String, String> boundElementHashes
+    ) {
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service;
+
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.models.V1Secret;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.qubership.integration.platform.engine.kubernetes.KubeOperator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Watches secrets with secured variables and applies changes of each secret as soon as they happen.
+ * Periodic full refresh in {@link VariablesService#refreshSecuredVariables()} remains as a fallback
+ * and runs more often while the watch is not healthy, see {@link #isWatching()}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "kubernetes.variables-secret.watch.enabled", havingValue = "true", matchIfMissing = true)
+public class SecuredVariablesWatcher implements ResourceEventHandler<V1Secret> {
+    // watch is considered unhealthy for this period after the last list/watch error
+    private static final long WATCH_RECOVERY_PERIOD = 60000;
+
+    private final KubeOperator operator;
+    private final VariablesService variablesService;
+    private final long resyncPeriod;
+
+    private volatile SharedInformerFactory informerFactory;
+    private volatile long lastWatchErrorTime;
+
+    @Autowired
+    public SecuredVariablesWatcher(KubeOperator operator,
+                                   VariablesService variablesService,
+                                   @Value("${kubernetes.variables-secret.resync-interval}") long resyncPeriod) {
+        this.operator = operator;
+        this.variablesService = variablesService;
+        this.resyncPeriod = resyncPeriod;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            informerFactory = operator.watchSecretsWithLabel(
+                    variablesService.getSecuredVariablesLabel(), resyncPeriod, this, this::onWatchError);
+            log.info("Started watching secured variables secrets");
+        } catch (RuntimeException e) {
+            log.warn("Failed to start watching secured variables secrets, only periodic refresh is used. {}",
+                    e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (nonNull(informerFactory)) {
+            informerFactory.stopAllRegisteredInformers();
+            informerFactory = null;
+        }
+    }
+
+    /**
+     * @return true if the watch has listed the secrets and has not failed recently
+     */
+    public boolean isWatching() {
+        SharedInformerFactory factory = informerFactory;
+        if (isNull(factory)) {
+            return false;
+        }
+        SharedIndexInformer<V1Secret> informer = factory.getExistingSharedIndexInformer(V1Secret.class);
+        return nonNull(informer) && informer.hasSynced()
+                && System.currentTimeMillis() - lastWatchErrorTime > WATCH_RECOVERY_PERIOD;
+    }
+
+    private void onWatchError(Class<V1Secret> type, Throwable error) {
+        lastWatchErrorTime = System.currentTimeMillis();
+        log.warn("Failed to watch secured variables secrets, periodic refresh is used until it recovers. {}",
+                error.getMessage());
+    }
+
+    @Override
+    public void onAdd(V1Secret secret) {
+        updateSecret(secret);
+    }
+
+    @Override
+    public void onUpdate(V1Secret oldSecret, V1Secret newSecret) {
+        updateSecret(newSecret);
+    }
+
+    @Override
+    public void onDelete(V1Secret secret, boolean deletedFinalStateUnknown) {
+        String name = getName(secret);
+        if (nonNull(name)) {
+            variablesService.updateSecret(name, null);
+        }
+    }
+
+    private void updateSecret(V1Secret secret) {
+        String name = getName(secret);
+        if (nonNull(name)) {
+            variablesService.updateSecret(name, KubeOperator.getSecretData(secret));
+        }
+    }
+
+    private static String getName(V1Secret secret) {
+        return isNull(secret) || isNull(secret.getMetadata()) ? null : secret.getMetadata().getName();
+    }
+}
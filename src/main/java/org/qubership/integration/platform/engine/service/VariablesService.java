@@ -36,12 +36,18 @@
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 @Component
@@ -61,6 +67,13 @@ public class VariablesService {
     private Map<String, String> commonVariables = Collections.emptyMap();
     private Map<String, String> securedVariables = Collections.emptyMap();
     private Map<String, String> mergedVariables = Collections.emptyMap();
+    private Map<String, String> escapedVariables = Collections.emptyMap();
+
+    // <secret_name, secret_data> of the secrets secured variables are taken from
+    private final Map<String, Map<String, String>> secrets = new HashMap<>();
+    // <secret_name, update_number> of the secrets changed by single secret updates, guarded by the lock
+    private final Map<String, Long> secretUpdates = new HashMap<>();
+    private long secretUpdatesCount = 0;
 
     private StringSubstitutor substitutor;
     private StringSubstitutor substitutorEscaped;
@@ -126,15 +139,94 @@ public void injectVariablesToExchangeProperties(Map<String, Object> properties)
                 .putAll(mergedVariables);
     }
 
+    public Pair<String, String> getSecuredVariablesLabel() {
+        return kubeSecretsLabel;
+    }
+
+    /**
+     * Reads all labelled secrets and replaces secured variables if anything is changed.
+     * Secrets updated by {@link #updateSecret} while the list was being read keep their newer data.
+     */
     public void refreshSecuredVariables() {
-        securedVariables = pollSecuredVariables();
-        mergeVariables();
-        applicationEventPublisher.publishEvent(new SecuredVariablesUpdatedEvent(this, isInitialSecuredEvent));
-        if (isInitialSecuredEvent) {
+        long pollStartUpdatesCount;
+        lock.readLock().lock();
+        try {
+            pollStartUpdatesCount = secretUpdatesCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+        Map<String, Map<String, String>> actualSecrets = new HashMap<>(pollSecrets());
+        boolean changed;
+        lock.writeLock().lock();
+        try {
+            secretUpdates.forEach((secretName, updateNumber) -> {
+                if (updateNumber > pollStartUpdatesCount) {
+                    Map<String, String> data = secrets.get(secretName);
+                    if (isNull(data)) {
+                        actualSecrets.remove(secretName);
+                    } else {
+                        actualSecrets.put(secretName, data);
+                    }
+                }
+            });
+            secretUpdates.values().removeIf(updateNumber -> updateNumber <= pollStartUpdatesCount);
+
+            changed = !secrets.equals(actualSecrets);
+            if (changed) {
+                secrets.clear();
+                secrets.putAll(actualSecrets);
+                securedVariables = buildSecuredVariables();
+                mergeVariables();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (changed || isInitialSecuredEvent) {
+            applicationEventPublisher.publishEvent(new SecuredVariablesUpdatedEvent(this, isInitialSecuredEvent));
             isInitialSecuredEvent = false;
         }
     }
 
+    /**
+     * Applies a change of one secret, only variables of this secret are updated.
+     *
+     * @param data secret data, {@code null} if the secret is deleted
+     */
+    public void updateSecret(@NonNull String secretName, @Nullable Map<String, String> data) {
+        lock.writeLock().lock();
+        try {
+            secretUpdates.put(secretName, ++secretUpdatesCount);
+            Map<String, String> previous = isNull(data) ? secrets.remove(secretName) : secrets.put(secretName, data);
+            if (Objects.equals(previous, data)) {
+                return;
+            }
+
+            Map<String, String> changed = new HashMap<>();
+            Set<String> removed = new HashSet<>();
+            if (nonNull(previous)) {
+                previous.keySet().forEach(key -> removed.add(buildSecuredVariableName(secretName, key)));
+            }
+            if (nonNull(data)) {
+                data.forEach((key, value) -> {
+                    String name = buildSecuredVariableName(secretName, key);
+                    removed.remove(name);
+                    changed.put(name, value);
+                });
+            }
+
+            Map<String, String> variables = new HashMap<>(securedVariables);
+            removed.forEach(variables::remove);
+            variables.putAll(changed);
+            securedVariables = variables;
+            applyMergedVariablesDelta(changed, removed);
+            log.debug("Secured variables of secret {} updated", secretName);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        applicationEventPublisher.publishEvent(new SecuredVariablesUpdatedEvent(this, false));
+    }
+
     public void updateCommonVariables(@NonNull Map<String, String> variables) {
         variables = patchNamespaceValue(variables);
         this.commonVariables = variables;
@@ -155,31 +247,32 @@ private Map<String, String> patchNamespaceValue(@NotNull Map<String, String> var
         }
     }
 
-    private Map<String, String> pollSecuredVariables() {
-        Map<String, String> securedVariables = new ConcurrentHashMap<>();
+    private Map<String, Map<String, String>> pollSecrets() {
         try {
-            for (Map.Entry<String, Map<String, String>> secretEntry : operator.getAllSecretsWithLabel(
-                kubeSecretsLabel).entrySet()) {
-                String secretName = secretEntry.getKey();
-                Map<String, String> variables = secretEntry.getValue();
-
-                for (Map.Entry<String, String> variablesEntry : variables.entrySet()) {
-                    String key = kubeSecretV2Name.equals(secretName) ? variablesEntry.getKey()
-                        : secretName + SECRET_VARIABLE_SEPARATOR + variablesEntry.getKey();
-
-                    // merge all variables to common map
-                    securedVariables.put(key, variablesEntry.getValue());
-                }
-            }
+            return operator.getAllSecretsWithLabel(kubeSecretsLabel);
         } catch (KubeApiException e) {
             if (operator.isDevmode()) {
                 log.debug("Can't to get secured variables from k8s");
+                return Collections.emptyMap();
             } else {
                 log.warn("Failed to get secured variables from k8s", e);
                 throw e;
             }
         }
-        return securedVariables;
+    }
+
+    private Map<String, String> buildSecuredVariables() {
+        Map<String, String> variables = new HashMap<>();
+        for (Map.Entry<String, Map<String, String>> secretEntry : secrets.entrySet()) {
+            String secretName = secretEntry.getKey();
+            // merge all variables to common map
+            secretEntry.getValue().forEach((key, value) -> variables.put(buildSecuredVariableName(secretName, key), value));
+        }
+        return variables;
+    }
+
+    private String buildSecuredVariableName(String secretName, String key) {
+        return kubeSecretV2Name.equals(secretName) ? key : secretName + SECRET_VARIABLE_SEPARATOR + key;
     }
 
     private void mergeVariables() {
@@ -194,12 +287,42 @@ private void mergeVariables() {
             substitutor = buildSubst(mergedVariables, "#{");
             Map<String, String> variablesToEscape = new HashMap<>(mergedVariables);
             variablesToEscape.forEach((k, v) -> variablesToEscape.replace(k, StringEscapeUtils.escapeXml10(v)));
+            escapedVariables = variablesToEscape;
             substitutorEscaped = buildSubst(variablesToEscape, "#{");
         } finally {
             lock.writeLock().unlock();
         }
     }
 
+    /**
+     * Applies changed secured variables to the merged variables, must be called under the write lock.
+     * Values of other variables are neither copied from sources nor escaped again.
+     */
+    private void applyMergedVariablesDelta(Map<String, String> changed, Set<String> removed) {
+        Map<String, String> merged = new MergedVariablesMap<>();
+        merged.putAll(mergedVariables);
+        Map<String, String> escaped = new HashMap<>(escapedVariables);
+        for (String name : removed) {
+            String commonValue = commonVariables.get(name);
+            if (nonNull(commonValue)) {
+                merged.put(name, commonValue);
+                escaped.put(name, StringEscapeUtils.escapeXml10(commonValue));
+            } else {
+                merged.remove(name);
+                escaped.remove(name);
+            }
+        }
+        changed.forEach((name, value) -> {
+            merged.put(name, value);
+            escaped.put(name, StringEscapeUtils.escapeXml10(value));
+        });
+
+        mergedVariables = merged;
+        escapedVariables = escaped;
+        substitutor = buildSubst(merged, "#{");
+        substitutorEscaped = buildSubst(escaped, "#{");
+    }
+
     private StringSubstitutor buildSubst(Map<String, String> variables, String prefix) {
         StringSubstitutor substitutor = new StringSubstitutor(variables);
         substitutor.setVariablePrefix(prefix).setVariableSuffix("}")
@@ -23,6 +23,7 @@
 import org.qubership.integration.platform.engine.errorhandling.ContextStorageException;
 import org.qubership.integration.platform.engine.persistence.shared.entity.ContextSystemRecords;
 import org.qubership.integration.platform.engine.persistence.shared.repository.ContextStorageRespository;
+import org.qubership.integration.platform.engine.service.DatabaseCleanupService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -40,10 +41,14 @@ public class ContextStorageService {
 
     private final ObjectMapper objectMapper;
 
+    private final DatabaseCleanupService databaseCleanupService;
+
     @Autowired
-    public ContextStorageService(ContextStorageRespository contextStorageRepository, ObjectMapper objectMapper) {
+    public ContextStorageService(ContextStorageRespository contextStorageRepository, ObjectMapper objectMapper,
+                                 DatabaseCleanupService databaseCleanupService) {
         this.contextStorageRepository = contextStorageRepository;
         this.objectMapper = objectMapper;
+        this.databaseCleanupService = databaseCleanupService;
     }
 
     public void storeValue(String contextKey, String contextValue, String contextServiceId, String contextId, long ttl) {
@@ -91,13 +96,14 @@ public void deleteValue(String contextServiceID, String contextId) {
 
     public void deleteOldRecords() {
         try {
-            List<ContextSystemRecords> oldRecords  = contextStorageRepository.findAllByExpiresAtBefore(Timestamp.from(Instant.now()));
-            if (oldRecords != null && !oldRecords.isEmpty()) {
-                contextStorageRepository.deleteAll(oldRecords);
-                log.debug("Deleted old records from context storage");
-            } else {
-                log.debug("No old records found to delete");
-            }
+            long deleted = databaseCleanupService.deleteInBatches("context-storage", (afterId, batchSize) -> {
+                List<String> ids = contextStorageRepository.findExpiredIds(afterId, batchSize);
+                if (!ids.isEmpty()) {
+                    contextStorageRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids;
+            });
+            log.debug("Deleted {} old records from context storage", deleted);
         } catch (Exception e) {
             throw new ContextStorageException("Error occurred while deleting old records from context storage", e);
         }
@@ -88,6 +88,7 @@ public class CamelDebugger extends DefaultDebugger {
     private final CamelDebuggerPropertiesService propertiesService;
     private final Optional<CamelExchangeContextPropagation> exchangeContextPropagation;
     private final ExchangePropertyService exchangePropertyService;
+    private final LiveExchangesRegistry liveExchangesRegistry;
     @Setter
     @Getter
     private String deploymentId;
@@ -105,7 +106,8 @@ public CamelDebugger(
             VariablesService variablesService,
             CamelDebuggerPropertiesService propertiesService,
             Optional<CamelExchangeContextPropagation> exchangeContextPropagation,
-            ExchangePropertyService exchangePropertyService
+            ExchangePropertyService exchangePropertyService,
+            LiveExchangesRegistry liveExchangesRegistry
     ) {
         this.serverConfiguration = serverConfiguration;
         this.tracingService = tracingService;
@@ -119,6 +121,7 @@ public CamelDebugger(
         this.propertiesService = propertiesService;
         this.exchangeContextPropagation = exchangeContextPropagation;
         this.exchangePropertyService = exchangePropertyService;
+        this.liveExchangesRegistry = liveExchangesRegistry;
     }
 
     @Override
@@ -209,14 +212,18 @@ public boolean beforeProcess(Exchange exchange, Processor processor, NamedNode d
                 String sessionElementId = UUID.randomUUID().toString();
                 switch (sessionLevel) {
                     case ERROR:
-                        putElementToSingleElCache(exchange, dbgProperties, sessionId,
-                                sessionElementId, nodeId,
-                                bodyForLogging, headersForLogging, exchangePropertiesForLogging);
+                        if (sessionShouldBeLogged) {
+                            putElementToSingleElCache(exchange, dbgProperties, sessionId,
+                                    sessionElementId, nodeId,
+                                    bodyForLogging, headersForLogging, exchangePropertiesForLogging);
+                        }
                         break;
                     case INFO:
-                        putElementToSingleElCache(exchange, dbgProperties, sessionId,
-                                sessionElementId, nodeId,
-                                bodyForLogging, headersForLogging, exchangePropertiesForLogging);
+                        if (sessionShouldBeLogged) {
+                            putElementToSingleElCache(exchange, dbgProperties, sessionId,
+                                    sessionElementId, nodeId,
+                                    bodyForLogging, headersForLogging, exchangePropertiesForLogging);
+                        }
                         if (!isElementForSessionsLevel) {
                             break;
                         }
@@ -377,7 +384,7 @@ private void exchangeStarted(Exchange exchange, CamelDebuggerProperties dbgPrope
 
             exchange.setProperty(CamelConstants.Properties.SESSION_ID, sessionId);
             exchange.setProperty(CamelConstants.Properties.SESSION_SHOULD_BE_LOGGED,
-                    sessionsService.sessionShouldBeLogged());
+                    sessionsService.sessionShouldBeLogged(exchange, sessionId));
             exchange.setProperty(IS_MAIN_EXCHANGE, true);
             exchange.setProperty(CamelConstants.Properties.START_TIME, started);
             exchange.setProperty(CamelConstants.Properties.START_TIME_MS, startedMillis);
@@ -424,6 +431,7 @@ private void exchangeStarted(Exchange exchange, CamelDebuggerProperties dbgPrope
         if (exchanges != null) {
             exchanges.put(exchange.getExchangeId(), exchange);
         }
+        liveExchangesRegistry.register(deploymentId, exchange);
 
         // Duplicating SET_FULL_SESSION_LOGGING_LEVEL_HTTP_HEADER value to corresponding property.
         exchange.setProperty(CamelConstants.Properties.TRACE_ME,
@@ -432,6 +440,7 @@ private void exchangeStarted(Exchange exchange, CamelDebuggerProperties dbgPrope
     }
 
     private void exchangeFinished(Exchange exchange) {
+        liveExchangesRegistry.unregister(deploymentId, exchange);
         String sessionId = exchange.getProperty(CamelConstants.Properties.SESSION_ID).toString();
         Map<String, Exchange> exchanges = (Map<String, Exchange>) exchange.getProperty(
                 CamelConstants.Properties.EXCHANGES, Map.class).get(sessionId);
@@ -464,8 +473,10 @@ private void stepStarted(Exchange exchange,
 
         switch (dbgProperties.getRuntimeProperties(exchange).calculateSessionLevel(exchange)) {
             case ERROR:
-                sessionsService.putStepElementToSingleElCache(exchange, dbgProperties, sessionId,
-                        sessionElementId, stepName, stepChainElementId);
+                if (sessionShouldBeLogged) {
+                    sessionsService.putStepElementToSingleElCache(exchange, dbgProperties, sessionId,
+                            sessionElementId, stepName, stepChainElementId);
+                }
                 break;
             case INFO:
                 if (!ChainElementType.isElementForInfoSessionsLevel(elementType)) {
@@ -21,9 +21,11 @@
 import org.qubership.integration.platform.engine.model.constants.CamelConstants.Properties;
 import org.qubership.integration.platform.engine.model.deployment.properties.CamelDebuggerProperties;
 import org.qubership.integration.platform.engine.model.deployment.properties.DeploymentRuntimeProperties;
+import org.qubership.integration.platform.engine.model.deployment.properties.RuntimePropertiesDelta;
 import org.springframework.stereotype.Component;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
@@ -70,8 +72,22 @@ public void mergeWithRuntimeProperties(CamelDebuggerProperties deployProperties)
             .build());
     }
 
-    public void updateRuntimeProperties(Map<String, DeploymentRuntimeProperties> propertiesMap) {
-        runtimePropertiesCacheRef.set(propertiesMap);
+    /**
+     * Applies the delta to the runtime properties, properties of unchanged chains are kept as is.
+     * Deployments read the properties through the shared reference, so no further refresh is needed.
+     */
+    public void applyRuntimePropertiesDelta(RuntimePropertiesDelta delta) {
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        Map<String, DeploymentRuntimeProperties> properties = new HashMap<>(runtimePropertiesCacheRef.get());
+        properties.putAll(delta.getChanged());
+        delta.getRemoved().forEach(properties::remove);
+        runtimePropertiesCacheRef.set(Collections.unmodifiableMap(properties));
+
+        log.debug("Runtime properties version {} applied, changed chains: {}, removed chains: {}",
+            delta.getVersion(), delta.getChanged().keySet(), delta.getRemoved());
     }
 
     public void removeDeployProperties(String deploymentId) {
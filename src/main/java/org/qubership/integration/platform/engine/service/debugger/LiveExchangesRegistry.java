@@ -0,0 +1,111 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.debugger;
+
+import org.apache.camel.Exchange;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Engine-wide registry of exchanges running in deployed chains.
+ * Exchanges are indexed by id and ordered by start, the longest running ones go first.
+ */
+@Component
+public class LiveExchangesRegistry {
+    private final AtomicLong sequence = new AtomicLong();
+    // <start sequence, exchange>
+    private final ConcurrentSkipListMap<Long, LiveExchange> exchangesByStart = new ConcurrentSkipListMap<>();
+    // <deployment id and exchange id, exchange>
+    private final Map<String, LiveExchange> exchangesById = new ConcurrentHashMap<>();
+
+    public void register(String deploymentId, Exchange exchange) {
+        LiveExchange liveExchange = new LiveExchange(sequence.incrementAndGet(), deploymentId, exchange);
+        LiveExchange previous = exchangesById.put(buildKey(deploymentId, exchange.getExchangeId()), liveExchange);
+        if (nonNull(previous)) {
+            exchangesByStart.remove(previous.sequence());
+        }
+        exchangesByStart.put(liveExchange.sequence(), liveExchange);
+    }
+
+    public void unregister(String deploymentId, Exchange exchange) {
+        LiveExchange liveExchange = exchangesById.remove(buildKey(deploymentId, exchange.getExchangeId()));
+        if (nonNull(liveExchange)) {
+            exchangesByStart.remove(liveExchange.sequence());
+        }
+    }
+
+    /**
+     * Removes exchanges of a stopped deployment that didn't report their completion.
+     */
+    public void unregisterDeployment(String deploymentId) {
+        Iterator<LiveExchange> iterator = exchangesByStart.values().iterator();
+        while (iterator.hasNext()) {
+            LiveExchange liveExchange = iterator.next();
+            if (deploymentId.equals(liveExchange.deploymentId())) {
+                iterator.remove();
+                exchangesById.remove(buildKey(deploymentId, liveExchange.exchange().getExchangeId()), liveExchange);
+            }
+        }
+    }
+
+    /**
+     * Rebinds exchanges to a deployment that took over the context of the given one.
+     */
+    public void moveDeployment(String deploymentId, String newDeploymentId) {
+        for (LiveExchange liveExchange : exchangesByStart.values()) {
+            if (deploymentId.equals(liveExchange.deploymentId())
+                    && exchangesById.remove(buildKey(deploymentId, liveExchange.exchange().getExchangeId()), liveExchange)) {
+                LiveExchange moved = new LiveExchange(liveExchange.sequence(), newDeploymentId, liveExchange.exchange());
+                exchangesById.put(buildKey(newDeploymentId, moved.exchange().getExchangeId()), moved);
+                exchangesByStart.replace(moved.sequence(), liveExchange, moved);
+            }
+        }
+    }
+
+    /**
+     * @return up to amount of the longest running exchanges
+     */
+    public List<LiveExchange> getLongestRunning(int amount) {
+        List<LiveExchange> result = new ArrayList<>(Math.min(amount, exchangesByStart.size()));
+        Iterator<LiveExchange> iterator = exchangesByStart.values().iterator();
+        while (result.size() < amount && iterator.hasNext()) {
+            result.add(iterator.next());
+        }
+        return result;
+    }
+
+    public Optional<LiveExchange> find(String deploymentId, String exchangeId) {
+        return Optional.ofNullable(exchangesById.get(buildKey(deploymentId, exchangeId)));
+    }
+
+    private static String buildKey(String deploymentId, String exchangeId) {
+        return deploymentId + "/" + exchangeId;
+    }
+
+    public record LiveExchange(long sequence, String deploymentId, Exchange exchange) {
+    }
+}
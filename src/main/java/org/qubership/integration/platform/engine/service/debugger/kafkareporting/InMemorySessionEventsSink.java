@@ -0,0 +1,43 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.service.debugger.kafkareporting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Keeps sent records in memory, intended for tests and local runs without a broker.
+ */
+public class InMemorySessionEventsSink implements SessionEventsSink {
+    private final List<SinkRecord> records = new ArrayList<>();
+
+    @Override
+    public synchronized void send(String key, byte[] value, Consumer<Exception> errorHandler) {
+        records.add(new SinkRecord(key, value));
+    }
+
+    public synchronized List<SinkRecord> getRecords() {
+        return new ArrayList<>(records);
+    }
+
+    public synchronized void clear() {
+        records.clear();
+    }
+
+    public record SinkRecord(String key, byte[] value) {
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.service.debugger.kafkareporting;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.qubership.integration.platform.engine.camel.components.kafka.SharedKafkaProducerRegistry;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Sends session events to a Kafka topic through a producer from {@link SharedKafkaProducerRegistry}.
+ * Records are batched by the producer according to its linger and compression settings.
+ */
+public class KafkaSessionEventsSink implements SessionEventsSink {
+    private final String topic;
+    private final Producer<Object, Object> producer;
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    public KafkaSessionEventsSink(SharedKafkaProducerRegistry producerRegistry, Properties producerProperties, String topic) {
+        Properties properties = new Properties();
+        properties.putAll(producerProperties);
+        properties.put("key.serializer", StringSerializer.class.getName());
+        properties.put("value.serializer", ByteArraySerializer.class.getName());
+        this.topic = topic;
+        this.producer = producerRegistry.acquire(properties, KafkaProducer::new, null);
+    }
+
+    @Override
+    public void send(String key, byte[] value, Consumer<Exception> errorHandler) {
+        producer.send(new ProducerRecord<>(topic, key, value), (metadata, exception) -> {
+            if (nonNull(exception)) {
+                errorHandler.accept(exception);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        // closed by the reporting service and then by the container as an AutoCloseable bean
+        if (closed.compareAndSet(false, true)) {
+            producer.flush();
+            producer.close();
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.service.debugger.kafkareporting;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.camel.Exchange;
+import org.qubership.integration.platform.engine.model.constants.CamelConstants.Properties;
+import org.qubership.integration.platform.engine.model.deployment.properties.CamelDebuggerProperties;
+import org.qubership.integration.platform.engine.model.deployment.update.DeploymentInfo;
+import org.qubership.integration.platform.engine.model.sessionsreporting.EventSourceType;
+import org.qubership.integration.platform.engine.model.sessionsreporting.ReportingQueueOverflowPolicy;
+import org.qubership.integration.platform.engine.model.sessionsreporting.SessionReportingEvent;
+import org.qubership.integration.platform.engine.service.ExecutionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Reports session events through a bounded lock-free queue. Exchange threads only capture
+ * event fields, serialization and sending are done by a single worker thread that drains
+ * the queue in batches into the {@link SessionEventsSink}.
+ */
+@Slf4j
+public class QueuedSessionsKafkaReportingService implements SessionsKafkaReportingService {
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SHUTDOWN_TIMEOUT_MS = 10000;
+    private static final int FAILURE_LOG_INTERVAL = 1000;
+
+    private static final String QUEUE_SIZE_NAME = "sessions.reporting.queue.size";
+    private static final String QUEUE_LAG_NAME = "sessions.reporting.queue.lag";
+    private static final String EVENTS_SENT_NAME = "sessions.reporting.events.sent";
+    private static final String EVENTS_DROPPED_NAME = "sessions.reporting.events.dropped";
+    private static final String EVENTS_FAILED_NAME = "sessions.reporting.events.failed";
+
+    private final Queue<SessionReportingEvent> queue = new ConcurrentLinkedQueue<>();
+    // upper bound of the queue size, reserved before an event is added and released after it is polled
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final int capacity;
+    private final ReportingQueueOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int drainBatchSize;
+    private final SessionEventsSink sink;
+    private final ObjectWriter writer;
+    private final String engineDomain;
+    private final Thread worker;
+
+    private volatile boolean running = true;
+    private volatile boolean workerParked = false;
+
+    public QueuedSessionsKafkaReportingService(
+            int capacity,
+            ReportingQueueOverflowPolicy overflowPolicy,
+            Duration blockTimeout,
+            int drainBatchSize,
+            SessionEventsSink sink,
+            ObjectMapper mapper,
+            String engineDomain,
+            @Nullable MeterRegistry meterRegistry,
+            String metricsPrefix
+    ) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = blockTimeout.toNanos();
+        this.drainBatchSize = drainBatchSize;
+        this.sink = sink;
+        this.writer = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.engineDomain = engineDomain;
+
+        if (nonNull(meterRegistry)) {
+            registerMetrics(meterRegistry, metricsPrefix);
+        }
+
+        worker = new Thread(this::processEvents, "sessions-reporting");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void addToQueue(
+            Exchange exchange,
+            CamelDebuggerProperties dbgProperties,
+            String sessionId,
+            String originalSessionId,
+            String parentSessionId,
+            EventSourceType sourceType
+    ) {
+        enqueue(buildEvent(exchange, dbgProperties, sessionId, originalSessionId, parentSessionId,
+                sourceType, null));
+    }
+
+    @Override
+    public void sendFinishedEvent(
+            Exchange exchange,
+            CamelDebuggerProperties dbgProperties,
+            String sessionId,
+            String originalSessionId,
+            String parentSessionId,
+            ExecutionStatus executionStatus
+    ) {
+        enqueue(buildEvent(exchange, dbgProperties, sessionId, originalSessionId, parentSessionId,
+                EventSourceType.SESSION_FINISHED, executionStatus));
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public int getQueueSize() {
+        return queueSize.get();
+    }
+
+    /**
+     * Stops accepting events, waits for the queued ones to be sent and closes the sink.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private SessionReportingEvent buildEvent(
+            Exchange exchange,
+            CamelDebuggerProperties dbgProperties,
+            String sessionId,
+            String originalSessionId,
+            String parentSessionId,
+            EventSourceType eventType,
+            ExecutionStatus executionStatus
+    ) {
+        DeploymentInfo deploymentInfo = dbgProperties.getDeploymentInfo();
+        return SessionReportingEvent.builder()
+                .eventType(eventType)
+                .timestamp(System.currentTimeMillis())
+                .sessionId(sessionId)
+                .originalSessionId(originalSessionId)
+                .parentSessionId(parentSessionId)
+                .sessionStartTime(exchange.getProperty(Properties.START_TIME_MS, Long.class))
+                .chainId(deploymentInfo.getChainId())
+                .chainName(deploymentInfo.getChainName())
+                .snapshotId(deploymentInfo.getSnapshotId())
+                .deploymentId(deploymentInfo.getDeploymentId())
+                .checkpointElementId(eventType == EventSourceType.SESSION_CHECKPOINT_PASSED
+                        ? exchange.getProperty(Properties.CHECKPOINT_ELEMENT_ID, String.class)
+                        : null)
+                .executionStatus(executionStatus)
+                .engineDomain(engineDomain)
+                .build();
+    }
+
+    private void enqueue(SessionReportingEvent event) {
+        if (!running || !reserve()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        queue.offer(event);
+        if (workerParked) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    private boolean reserve() {
+        if (tryReserve()) {
+            return true;
+        }
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                do {
+                    if (nonNull(queue.poll())) {
+                        queueSize.decrementAndGet();
+                        droppedCount.incrementAndGet();
+                    }
+                } while (!tryReserve());
+                return true;
+            }
+            case BLOCK -> {
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                do {
+                    if (System.nanoTime() - deadline >= 0 || !running) {
+                        return false;
+                    }
+                    LockSupport.unpark(worker);
+                    LockSupport.parkNanos(this, BLOCK_WAIT_NANOS);
+                } while (!tryReserve());
+                return true;
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    private boolean tryReserve() {
+        int size;
+        do {
+            size = queueSize.get();
+            if (size >= capacity) {
+                return false;
+            }
+        } while (!queueSize.compareAndSet(size, size + 1));
+        return true;
+    }
+
+    private void processEvents() {
+        List<SessionReportingEvent> batch = new ArrayList<>(drainBatchSize);
+        boolean flushed = true;
+        while (true) {
+            SessionReportingEvent event;
+            while (batch.size() < drainBatchSize && nonNull(event = queue.poll())) {
+                batch.add(event);
+            }
+
+            if (batch.isEmpty()) {
+                if (!flushed) {
+                    flush();
+                    flushed = true;
+                }
+                if (!running) {
+                    break;
+                }
+                workerParked = true;
+                if (queue.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+                }
+                workerParked = false;
+                continue;
+            }
+
+            queueSize.addAndGet(-batch.size());
+            batch.forEach(this::send);
+            batch.clear();
+            flushed = false;
+        }
+
+        try {
+            sink.close();
+        } catch (Exception e) {
+            log.warn("Failed to close sessions reporting sink", e);
+        }
+    }
+
+    private void send(SessionReportingEvent event) {
+        try {
+            sink.send(event.getSessionId(), writer.writeValueAsBytes(event), this::onSendFailure);
+            sentCount.incrementAndGet();
+        } catch (JsonProcessingException | RuntimeException e) {
+            onSendFailure(e);
+        }
+    }
+
+    private void flush() {
+        try {
+            sink.flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush sessions reporting sink", e);
+        }
+    }
+
+    private void onSendFailure(Exception exception) {
+        if (failedCount.incrementAndGet() % FAILURE_LOG_INTERVAL == 1) {
+            log.warn("Failed to send session event, total failures: {}", failedCount.get(), exception);
+        }
+    }
+
+    private void registerMetrics(MeterRegistry meterRegistry, String metricsPrefix) {
+        Gauge.builder(metricsPrefix + QUEUE_SIZE_NAME, queueSize, AtomicInteger::get)
+                .description("Number of session events waiting to be sent")
+                .register(meterRegistry);
+        TimeGauge.builder(metricsPrefix + QUEUE_LAG_NAME, this, TimeUnit.MILLISECONDS,
+                        service -> service.getQueueLagMillis())
+                .description("Age of the oldest session event waiting to be sent")
+                .register(meterRegistry);
+        FunctionCounter.builder(metricsPrefix + EVENTS_SENT_NAME, sentCount, AtomicLong::get)
+                .register(meterRegistry);
+        FunctionCounter.builder(metricsPrefix + EVENTS_DROPPED_NAME, droppedCount, AtomicLong::get)
+                .tag("policy", overflowPolicy.name())
+                .register(meterRegistry);
+        FunctionCounter.builder(metricsPrefix + EVENTS_FAILED_NAME, failedCount, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    private double getQueueLagMillis() {
+        SessionReportingEvent oldest = queue.peek();
+        return isNull(oldest) ? 0 : Math.max(0, System.currentTimeMillis() - oldest.getTimestamp());
+    }
+}
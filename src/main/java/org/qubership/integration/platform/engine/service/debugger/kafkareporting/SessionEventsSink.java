@@ -13,20 +13,27 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
+package org.qubership.integration.platform.engine.service.debugger.kafkareporting;
 
-package org.qubership.integration.platform.engine.camel.history;
+import java.util.function.Consumer;
 
+/**
+ * Destination of serialized session events, called only from the reporting worker thread.
+ */
+public interface SessionEventsSink extends AutoCloseable {
 
-import org.springframework.stereotype.Component;
-
-import java.util.function.Predicate;
+    /**
+     * Sends the record asynchronously, delivery errors are passed to the error handler.
+     */
+    void send(String key, byte[] value, Consumer<Exception> errorHandler);
 
-@Component("camelMessageHistoryFilter")
-public class CamelMessageHistoryFilter implements Predicate<FilteringMessageHistoryFactory.FilteringEntity> {
-    private static final String HTTP_TRIGGER_PROCESSOR = "ref:httpTriggerProcessor";
+    /**
+     * Called when the queue has been drained.
+     */
+    default void flush() {
+    }
 
     @Override
-    public boolean test(FilteringMessageHistoryFactory.FilteringEntity filteringEntity) {
-        return HTTP_TRIGGER_PROCESSOR.equals(filteringEntity.node().getLabel());
+    default void close() {
     }
 }
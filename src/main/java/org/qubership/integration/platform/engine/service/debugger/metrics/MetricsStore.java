@@ -19,6 +19,7 @@
 import com.google.common.collect.Maps;
 import io.micrometer.core.instrument.*;
 import io.micrometer.core.instrument.binder.BaseUnits;
+import jakarta.annotation.PreDestroy;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -36,9 +37,11 @@
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Stores metrics
@@ -78,6 +81,7 @@ public class MetricsStore {
 
     public static final String MAAS_CLASSIFIER = "maas_classifier";
 
+    @Getter
     private final String namePrefix;
 
     private static final int CHAINS_DEPLOYMENTS_NUMBER = 1;
@@ -132,6 +136,13 @@ public class MetricsStore {
 
     private final ServerConfiguration serverConfiguration;
 
+    // commits counters values accumulated during the initial lag, one thread for all counters
+    private final ScheduledExecutorService counterCommitScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "metrics-counters-commit");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     @Autowired
     public MetricsStore(ServerConfiguration serverConfiguration, MeterRegistry meterRegistry,
                         @Value("${app.prefix}") String appPrefix) {
@@ -159,7 +170,7 @@ public void processSessionFinish(String chainId, String chainName, String status
             ConcurrentMap<String, CounterWrapper> counterMap = sessionsCounters.computeIfAbsent(buildChainMapKey(chainId, chainName), id -> Maps.newConcurrentMap());
             CounterWrapper sessionsCounter = counterMap.computeIfAbsent(status, executionStatus -> {
                 CounterWrapper counterWrapper = new CounterWrapper(newCounter(chainId, chainName, executionStatus));
-                Executors.newSingleThreadScheduledExecutor().schedule(counterWrapper::commitAndUnlock, lagDelay, TimeUnit.SECONDS);
+                scheduleCommit(counterWrapper);
                 return counterWrapper;
             });
 
@@ -173,7 +184,7 @@ public void processChainFailure(String chainId, String chainName, ErrorCode erro
                     .computeIfAbsent(buildChainMapKey(chainId, chainName), id -> Maps.newConcurrentMap());
             CounterWrapper chainFailureCounter = chainFailuresCounterMap.computeIfAbsent(errorCode, currentErrorCode -> {
                 CounterWrapper counterWrapper = new CounterWrapper(newChainsFailuresCounter(chainId, chainName, currentErrorCode));
-                Executors.newSingleThreadScheduledExecutor().schedule(counterWrapper::commitAndUnlock, lagDelay, TimeUnit.SECONDS);
+                scheduleCommit(counterWrapper);
                 return counterWrapper;
             });
             chainFailureCounter.increment();
@@ -189,7 +200,7 @@ public void processHttpResponseCode(String chainId, String chainName, String res
             CounterWrapper responseCounter = chainResponseCodeMap.computeIfAbsent(responseCode, executionStatus -> {
                 CounterWrapper counterWrapper =
                         new CounterWrapper(newResponseCodeCounter(chainId, chainName, responseCode));
-                Executors.newSingleThreadScheduledExecutor().schedule(counterWrapper::commitAndUnlock, lagDelay, TimeUnit.SECONDS);
+                scheduleCommit(counterWrapper);
                 return counterWrapper;
             });
 
@@ -206,7 +217,7 @@ public void processCircuitBreakerExecution(String chainId, String chainName, Str
             CounterWrapper responseCounter = cbExecutionMap.computeIfAbsent(elementId, executionStatus -> {
                 CounterWrapper counterWrapper =
                         new CounterWrapper(newCircuitBreakerExecutionCounter(chainId, chainName, elementId, elementName));
-                Executors.newSingleThreadScheduledExecutor().schedule(counterWrapper::commitAndUnlock, lagDelay, TimeUnit.SECONDS);
+                scheduleCommit(counterWrapper);
                 return counterWrapper;
             });
 
@@ -223,7 +234,7 @@ public void processCircuitBreakerExecutionFallback(String chainId, String chainN
             CounterWrapper responseCounter = cbExecutionFallbackMap.computeIfAbsent(elementId, executionStatus -> {
                 CounterWrapper counterWrapper =
                         new CounterWrapper(newCircuitBreakerExecutionFallbackCounter(chainId, chainName, elementId, elementName));
-                Executors.newSingleThreadScheduledExecutor().schedule(counterWrapper::commitAndUnlock, lagDelay, TimeUnit.SECONDS);
+                scheduleCommit(counterWrapper);
                 return counterWrapper;
             });
 
@@ -424,11 +435,22 @@ private String buildChainMapKey(String chainId, String chainName) {
         return chainId + "__" + chainName;
     }
 
+    private void scheduleCommit(CounterWrapper counterWrapper) {
+        counterCommitScheduler.schedule(counterWrapper::commitAndUnlock, lagDelay, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        counterCommitScheduler.shutdownNow();
+    }
+
     @Getter
     @Setter
     private static class CounterWrapper {
         private Counter counter;
         private final AtomicBoolean lock;
+        // not synchronized to avoid pinning of virtual threads
+        private final ReentrantLock mutex = new ReentrantLock();
         private int count;
 
         public CounterWrapper(Counter counter) {
@@ -439,19 +461,25 @@ public CounterWrapper(Counter counter) {
         }
 
         public void commitAndUnlock() {
-            synchronized (lock) {
+            mutex.lock();
+            try {
                 counter.increment(count);
                 lock.set(false);
+            } finally {
+                mutex.unlock();
             }
         }
 
         public void increment() {
-            synchronized (lock) {
+            mutex.lock();
+            try {
                 if (lock.get()) {
                     count++;
                 } else {
                     counter.increment();
                 }
+            } finally {
+                mutex.unlock();
             }
         }
     }
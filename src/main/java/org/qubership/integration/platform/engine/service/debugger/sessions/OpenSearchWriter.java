@@ -31,22 +31,21 @@
 import org.qubership.integration.platform.engine.model.opensearch.SessionElementElastic;
 import org.qubership.integration.platform.engine.opensearch.OpenSearchClientSupplier;
 import org.qubership.integration.platform.engine.service.ExecutionStatus;
+import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
 import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.annotation.Nullable;
 
 @Slf4j
@@ -64,12 +63,8 @@ public class OpenSearchWriter implements Runnable {
     private final BlockingQueue<QueueElement> sessionElementsQueue;
     // total queue bodyBefore+bodyAfter size in bytes
     private final AtomicLong queueTotalPayloadSize = new AtomicLong(0);
-    // <sessionId, session>
-    private final ConcurrentMap<String, Pair<ReadWriteLock, Session>> sessionsCache = new ConcurrentHashMap<>();
-    // <sessionId, <elementId, Element>>
-    private final ConcurrentMap<String, ConcurrentMap<String, SessionElementElastic>> sessionElementsCache = new ConcurrentHashMap<>();
-    // <sessionId, last_element>
-    private final ConcurrentMap<String, SessionElementElastic> singleElementCache = new ConcurrentHashMap<>();
+    // in-flight sessions with their elements and last elements
+    private final SessionsCache sessionsCache;
     private long currentWriteTimeout = 0;
 
     @Value("${qip.opensearch.write.batch.count}")
@@ -82,6 +77,7 @@ public class OpenSearchWriter implements Runnable {
     private String indexName;
 
     private static final int EXCEPTION_COOLDOWN_DELAY = 10000;
+    private static final long IDLE_SESSIONS_CHECK_INTERVAL = 60000;
 
     private static final int WRITE_TIMEOUT_MULTIPLIER = 2;
     private static final int ERROR_MESSAGE_COUNT_THRESHOLD = 3;
@@ -95,8 +91,11 @@ public OpenSearchWriter(@Value("${qip.sessions.queue.capacity}") int sessionBuff
                             @Value("${qip.sessions.bulk-request.max-size-kb}") int bulkRequestMaxSizeKb,
                             @Value("${qip.sessions.bulk-request.payload-size-threshold-kb}") int bulkRequestPayloadSizeThresholdKb,
                             @Value("${qip.sessions.bulk-request.elements-count-threshold}") int bulkRequestElementsCountThreshold,
+                            @Value("${qip.sessions.cache.max-size-mb}") int cacheMaxSizeMb,
+                            @Value("${qip.sessions.cache.idle-timeout}") long cacheIdleTimeout,
                             OpenSearchClientSupplier openSearchClientSupplier,
-                            @Qualifier("jsonMapper") ObjectMapper mapper) {
+                            @Qualifier("jsonMapper") ObjectMapper mapper,
+                            MetricsStore metricsStore) {
         sessionElementsQueue = new LinkedBlockingQueue<>(sessionBufferCapacity);
         this.queueMaxSizeBytes = (int) (queueMaxSizeMb * 1024 * 1024 * REPEATED_ELEMENTS_RATIO);
 
@@ -107,6 +106,11 @@ public OpenSearchWriter(@Value("${qip.sessions.queue.capacity}") int sessionBuff
         this.openSearchClientSupplier = openSearchClientSupplier;
         this.mapper = mapper;
 
+        this.sessionsCache = new SessionsCache(cacheMaxSizeMb * 1024L * 1024L, cacheIdleTimeout, this::scheduleElementToLog);
+        if (metricsStore.isMetricsEnabled()) {
+            sessionsCache.registerMetrics(metricsStore.getMeterRegistry(), metricsStore.getNamePrefix());
+        }
+
         // start permanent writer thread
         new Thread(this).start();
     }
@@ -304,11 +308,11 @@ private void scheduleElementToLog(SessionElementElastic element, boolean addToCa
     }
 
     public void scheduleElementToLogAndCache(SessionElementElastic element) {
-        Pair<ReadWriteLock, Session> sessionPair = sessionsCache.get(element.getSessionId());
+        Pair<ReadWriteLock, Session> sessionPair = sessionsCache.getSession(element.getSessionId());
         if (sessionPair != null) {
             sessionPair.getLeft().readLock().lock();
             try {
-                if (sessionsCache.containsKey(element.getSessionId())) {
+                if (sessionsCache.containsSession(element.getSessionId())) {
                     scheduleElementToLog(element, true);
                 } else {
                     element.setExecutionStatus(ExecutionStatus.CANCELLED_OR_UNKNOWN);
@@ -324,13 +328,12 @@ public void scheduleElementToLogAndCache(SessionElementElastic element) {
     }
 
     public void putSessionToCache(Session session) {
-        String sessionId = session.getId();
-        sessionsCache.put(sessionId, Pair.of(new ReentrantReadWriteLock(), session));
+        sessionsCache.putSession(session);
     }
 
     @Nullable
     public Pair<ReadWriteLock, Session> getSessionFromCache(String sessionId) {
-        Pair<ReadWriteLock, Session> sessionPair = sessionsCache.get(sessionId);
+        Pair<ReadWriteLock, Session> sessionPair = sessionsCache.getSession(sessionId);
         if (sessionPair == null || sessionPair.getRight() == null) {
             log.warn("Unable to get session from cache {}", sessionId);
         }
@@ -338,34 +341,27 @@ public Pair<ReadWriteLock, Session> getSessionFromCache(String sessionId) {
     }
 
     private void putSessionElementToCache(SessionElementElastic sessionElement) {
-        String sessionId = sessionElement.getSessionId();
-
-        if (!sessionElementsCache.containsKey(sessionId)) {
-            sessionElementsCache.put(sessionId, new ConcurrentHashMap<>());
-        }
-        sessionElementsCache.get(sessionId).put(sessionElement.getId(), sessionElement);
+        sessionsCache.putElement(sessionElement);
     }
 
     @Nullable
     public SessionElementElastic getSessionElementFromCache(String sessionId, String elementId) {
-        Map<String, SessionElementElastic> elements = sessionElementsCache.get(sessionId);
-        return elements != null ? elements.get(elementId) : null;
+        return sessionsCache.getElement(sessionId, elementId);
     }
 
     public Collection<SessionElementElastic> getSessionElementsFromCache(String sessionId) {
-        Map<String, SessionElementElastic> elements = sessionElementsCache.get(sessionId);
-        return elements != null ? elements.values() : Collections.emptyList();
+        return sessionsCache.getElements(sessionId);
     }
 
     public void putToSingleElementCache(String sessionId, SessionElementElastic sessionElement) {
-        runWithSessionReadLock(sessionId, () -> singleElementCache.put(sessionId, sessionElement));
+        runWithSessionReadLock(sessionId, () -> sessionsCache.putSingleElement(sessionId, sessionElement));
     }
 
     public SessionElementElastic moveFromSingleElementCacheToElementCache(String sessionId) {
         AtomicReference<SessionElementElastic> elementRef = new AtomicReference<>();
 
         runWithSessionReadLock(sessionId, () -> {
-            elementRef.set(singleElementCache.remove(sessionId));
+            elementRef.set(sessionsCache.removeSingleElement(sessionId));
 
             if (elementRef.get() != null) {
                 putSessionElementToCache(elementRef.get());
@@ -377,16 +373,19 @@ public SessionElementElastic moveFromSingleElementCacheToElementCache(String ses
 
     public void clearSessionCache(String sessionId) {
         sessionsCache.remove(sessionId);
-        sessionElementsCache.remove(sessionId);
-        singleElementCache.remove(sessionId);
+    }
+
+    @Scheduled(fixedDelay = IDLE_SESSIONS_CHECK_INTERVAL)
+    public void expireIdleSessions() {
+        sessionsCache.expireIdleSessions();
     }
 
     private void runWithSessionReadLock(String sessionId, Runnable runnable) {
-        Pair<ReadWriteLock, Session> sessionPair = sessionsCache.get(sessionId);
+        Pair<ReadWriteLock, Session> sessionPair = sessionsCache.getSession(sessionId);
         if (sessionPair != null) {
             sessionPair.getLeft().readLock().lock();
             try {
-                if (sessionsCache.containsKey(sessionId)) {
+                if (sessionsCache.containsSession(sessionId)) {
                     runnable.run();
                     return;
                 }
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.debugger.sessions;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
+import org.qubership.integration.platform.engine.model.Session;
+import org.qubership.integration.platform.engine.model.opensearch.SessionElementElastic;
+import org.qubership.integration.platform.engine.service.ExecutionStatus;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import javax.annotation.Nullable;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Cache of in-flight sessions and their elements with a global memory budget.
+ * When the estimated size exceeds the budget, least recently used sessions are evicted
+ * and their cached elements are flushed as partial documents. Sessions idle longer
+ * than the timeout are expired the same way by {@link #expireIdleSessions()}.
+ */
+@Slf4j
+public class SessionsCache {
+    private static final String CACHE_SIZE_NAME = "sessions.cache.size.bytes";
+    private static final String CACHE_SESSIONS_NAME = "sessions.cache.sessions";
+    private static final String CACHE_EVICTIONS_NAME = "sessions.cache.evictions";
+
+    // rough size of element fields except payload strings and of a session object
+    static final long ELEMENT_OVERHEAD_BYTES = 1024;
+    static final long SESSION_OVERHEAD_BYTES = 512;
+    // eviction frees the cache down to this part of the budget to not run on every put
+    private static final double EVICTION_TARGET_RATIO = 0.8;
+
+    private final long maxSizeBytes;
+    private final long idleTimeoutMillis;
+    private final Consumer<SessionElementElastic> flusher;
+    private final Clock clock;
+
+    private final ConcurrentMap<String, CachedSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong sizeBytes = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * @param flusher schedules a partial element document of an evicted session to be written
+     */
+    public SessionsCache(long maxSizeBytes, long idleTimeoutMillis, Consumer<SessionElementElastic> flusher) {
+        this(maxSizeBytes, idleTimeoutMillis, flusher, Clock.systemUTC());
+    }
+
+    SessionsCache(long maxSizeBytes, long idleTimeoutMillis, Consumer<SessionElementElastic> flusher, Clock clock) {
+        this.maxSizeBytes = maxSizeBytes;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.flusher = flusher;
+        this.clock = clock;
+    }
+
+    public void putSession(Session session) {
+        sizeBytes.addAndGet(SESSION_OVERHEAD_BYTES);
+        CachedSession previous = sessions.put(session.getId(), new CachedSession(session, clock.millis()));
+        if (nonNull(previous)) {
+            detach(previous);
+        }
+        evictIfRequired();
+    }
+
+    @Nullable
+    public Pair<ReadWriteLock, Session> getSession(String sessionId) {
+        CachedSession cachedSession = touch(sessionId);
+        return isNull(cachedSession) ? null : cachedSession.sessionPair;
+    }
+
+    public boolean containsSession(String sessionId) {
+        return sessions.containsKey(sessionId);
+    }
+
+    /**
+     * Caches the element if its session is cached, elements are mutable
+     * so a repeated put of the same element updates its estimated size.
+     */
+    public void putElement(SessionElementElastic element) {
+        CachedSession cachedSession = touch(element.getSessionId());
+        if (isNull(cachedSession)) {
+            return;
+        }
+        CachedElement current = new CachedElement(element, estimateSizeBytes(element));
+        CachedElement previous = cachedSession.elements.put(element.getId(), current);
+        updateSize(cachedSession, previous, current);
+        evictIfRequired();
+    }
+
+    @Nullable
+    public SessionElementElastic getElement(String sessionId, String elementId) {
+        CachedSession cachedSession = touch(sessionId);
+        CachedElement cachedElement = isNull(cachedSession) ? null : cachedSession.elements.get(elementId);
+        return isNull(cachedElement) ? null : cachedElement.element();
+    }
+
+    public Collection<SessionElementElastic> getElements(String sessionId) {
+        CachedSession cachedSession = touch(sessionId);
+        return isNull(cachedSession)
+                ? Collections.emptyList()
+                : cachedSession.elements.values().stream().map(CachedElement::element).toList();
+    }
+
+    public void putSingleElement(String sessionId, SessionElementElastic element) {
+        CachedSession cachedSession = touch(sessionId);
+        if (isNull(cachedSession)) {
+            return;
+        }
+        CachedElement current = new CachedElement(element, estimateSizeBytes(element));
+        CachedElement previous;
+        synchronized (cachedSession) {
+            previous = cachedSession.singleElement;
+            cachedSession.singleElement = current;
+        }
+        updateSize(cachedSession, previous, current);
+        evictIfRequired();
+    }
+
+    @Nullable
+    public SessionElementElastic removeSingleElement(String sessionId) {
+        CachedSession cachedSession = sessions.get(sessionId);
+        if (isNull(cachedSession)) {
+            return null;
+        }
+        CachedElement previous;
+        synchronized (cachedSession) {
+            previous = cachedSession.singleElement;
+            cachedSession.singleElement = null;
+        }
+        updateSize(cachedSession, previous, null);
+        return isNull(previous) ? null : previous.element();
+    }
+
+    public void remove(String sessionId) {
+        CachedSession cachedSession = sessions.remove(sessionId);
+        if (nonNull(cachedSession)) {
+            detach(cachedSession);
+        }
+    }
+
+    /**
+     * Flushes and removes sessions without any activity during the idle timeout.
+     */
+    public void expireIdleSessions() {
+        long idleSince = clock.millis() - idleTimeoutMillis;
+        for (CachedSession cachedSession : List.copyOf(sessions.values())) {
+            if (cachedSession.lastAccessMillis < idleSince && evict(cachedSession)) {
+                expiredCount.incrementAndGet();
+                log.warn("Session {} is idle for more than {} ms, removed from cache",
+                        cachedSession.session.getId(), idleTimeoutMillis);
+            }
+        }
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes.get();
+    }
+
+    public int getSessionsCount() {
+        return sessions.size();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    public long getExpiredCount() {
+        return expiredCount.get();
+    }
+
+    public void registerMetrics(MeterRegistry meterRegistry, String metricsPrefix) {
+        Gauge.builder(metricsPrefix + CACHE_SIZE_NAME, sizeBytes, AtomicLong::get)
+                .description("Estimated size of in-flight sessions cache")
+                .register(meterRegistry);
+        Gauge.builder(metricsPrefix + CACHE_SESSIONS_NAME, sessions, ConcurrentMap::size)
+                .register(meterRegistry);
+        FunctionCounter.builder(metricsPrefix + CACHE_EVICTIONS_NAME, evictedCount, AtomicLong::get)
+                .tag("reason", "size")
+                .register(meterRegistry);
+        FunctionCounter.builder(metricsPrefix + CACHE_EVICTIONS_NAME, expiredCount, AtomicLong::get)
+                .tag("reason", "idle")
+                .register(meterRegistry);
+    }
+
+    static long estimateSizeBytes(SessionElementElastic element) {
+        return ELEMENT_OVERHEAD_BYTES
+                + length(element.getBodyBefore()) + length(element.getBodyAfter())
+                + length(element.getHeadersBefore()) + length(element.getHeadersAfter())
+                + length(element.getPropertiesBefore()) + length(element.getPropertiesAfter())
+                + length(element.getContextBefore()) + length(element.getContextAfter());
+    }
+
+    private static long length(String value) {
+        return isNull(value) ? 0 : value.length();
+    }
+
+    private CachedSession touch(String sessionId) {
+        CachedSession cachedSession = sessions.get(sessionId);
+        if (nonNull(cachedSession)) {
+            cachedSession.lastAccessMillis = clock.millis();
+        }
+        return cachedSession;
+    }
+
+    private void updateSize(CachedSession cachedSession, CachedElement previous, CachedElement current) {
+        long delta = (isNull(current) ? 0 : current.sizeBytes()) - (isNull(previous) ? 0 : previous.sizeBytes());
+        synchronized (cachedSession) {
+            cachedSession.sizeBytes += delta;
+            // size of a removed session is already subtracted
+            if (!cachedSession.removed) {
+                sizeBytes.addAndGet(delta);
+            }
+        }
+    }
+
+    private void detach(CachedSession cachedSession) {
+        synchronized (cachedSession) {
+            if (!cachedSession.removed) {
+                cachedSession.removed = true;
+                sizeBytes.addAndGet(-cachedSession.sizeBytes);
+            }
+        }
+    }
+
+    private void evictIfRequired() {
+        if (sizeBytes.get() <= maxSizeBytes || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long targetSizeBytes = (long) (maxSizeBytes * EVICTION_TARGET_RATIO);
+            List<CachedSession> candidates = sessions.values().stream()
+                    .sorted(Comparator.comparingLong(cachedSession -> cachedSession.lastAccessMillis))
+                    .toList();
+            for (CachedSession cachedSession : candidates) {
+                if (sizeBytes.get() <= targetSizeBytes) {
+                    break;
+                }
+                if (evict(cachedSession)) {
+                    evictedCount.incrementAndGet();
+                    log.warn("Sessions cache exceeds {} bytes, session {} is written partially",
+                            maxSizeBytes, cachedSession.session.getId());
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Sessions being updated by other threads are skipped.
+     */
+    private boolean evict(CachedSession cachedSession) {
+        ReadWriteLock lock = cachedSession.sessionPair.getLeft();
+        if (!lock.writeLock().tryLock()) {
+            return false;
+        }
+        try {
+            if (!sessions.remove(cachedSession.session.getId(), cachedSession)) {
+                return false;
+            }
+            detach(cachedSession);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (CachedElement cachedElement : cachedSession.elements.values()) {
+            SessionElementElastic element = cachedElement.element();
+            if (element.getExecutionStatus() == ExecutionStatus.IN_PROGRESS) {
+                element.setExecutionStatus(ExecutionStatus.CANCELLED_OR_UNKNOWN);
+            }
+            flusher.accept(element);
+        }
+        return true;
+    }
+
+    private static class CachedSession {
+        private final Session session;
+        private final Pair<ReadWriteLock, Session> sessionPair;
+        private final ConcurrentMap<String, CachedElement> elements = new ConcurrentHashMap<>();
+        // guarded by the session monitor
+        private long sizeBytes = SESSION_OVERHEAD_BYTES;
+        private boolean removed;
+        private CachedElement singleElement;
+        private volatile long lastAccessMillis;
+
+        CachedSession(Session session, long createdMillis) {
+            this.session = session;
+            this.sessionPair = Pair.of(new ReentrantReadWriteLock(), session);
+            this.lastAccessMillis = createdMillis;
+        }
+    }
+
+    private record CachedElement(SessionElementElastic element, long sizeBytes) {
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.debugger.sessions;
+
+import org.apache.camel.Exchange;
+import org.qubership.integration.platform.engine.model.constants.CamelConstants.Headers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Decides whether a session is logged by the hash of its trace id, so that every engine
+ * and chain taking part in a trace makes the same decision. Sessions without an incoming
+ * trace are sampled by the session id.
+ */
+@Component
+public class SessionsSampler {
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final String B3_TRACE_ID_HEADER = "X-B3-TraceId";
+    private static final int TRACEPARENT_TRACE_ID_START = 3;
+    private static final int TRACE_ID_LENGTH = 32;
+    private static final int HASH_BITS = 53;
+
+    private final double probability;
+    private final long threshold;
+
+    @Autowired
+    public SessionsSampler(@Value("${qip.sessions.sampler.probabilistic}") double probability) {
+        this.probability = probability;
+        this.threshold = (long) (probability * (1L << HASH_BITS));
+    }
+
+    /**
+     * Sessions requested with the {@link Headers#TRACE_ME} header are always sampled.
+     */
+    public boolean isSampled(Exchange exchange, String sessionId) {
+        if (probability >= 1.0 || Boolean.parseBoolean(exchange.getMessage().getHeader(Headers.TRACE_ME, String.class))) {
+            return true;
+        }
+        if (probability <= 0.0) {
+            return false;
+        }
+        String traceId = extractTraceId(exchange);
+        return (hash(isNull(traceId) ? sessionId : traceId) >>> (Long.SIZE - HASH_BITS)) < threshold;
+    }
+
+    private static String extractTraceId(Exchange exchange) {
+        // version-traceid-parentid-flags
+        String traceparent = exchange.getMessage().getHeader(TRACEPARENT_HEADER, String.class);
+        if (nonNull(traceparent) && traceparent.length() >= TRACEPARENT_TRACE_ID_START + TRACE_ID_LENGTH) {
+            return traceparent.substring(TRACEPARENT_TRACE_ID_START, TRACEPARENT_TRACE_ID_START + TRACE_ID_LENGTH);
+        }
+        return exchange.getMessage().getHeader(B3_TRACE_ID_HEADER, String.class);
+    }
+
+    /**
+     * 64-bit FNV-1a with murmur3 finalizer to spread bits of similar ids.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
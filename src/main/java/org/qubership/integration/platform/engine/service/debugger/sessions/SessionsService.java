@@ -36,7 +36,6 @@
 import org.qubership.integration.platform.engine.service.debugger.util.PayloadExtractor;
 import org.qubership.integration.platform.engine.util.IdentifierUtils;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
@@ -57,15 +56,13 @@ public class SessionsService {
 
     private final OpenSearchWriter writer;
 
-    private final Random random = new Random();
-
-    @Value("${qip.sessions.sampler.probabilistic}")
-    private double samplerProbabilistic;
+    private final SessionsSampler sampler;
 
     @Autowired
-    public SessionsService(PayloadExtractor extractor, OpenSearchWriter writer) {
+    public SessionsService(PayloadExtractor extractor, OpenSearchWriter writer, SessionsSampler sampler) {
         this.extractor = extractor;
         this.writer = writer;
+        this.sampler = sampler;
     }
 
     public Session startSession(
@@ -94,7 +91,8 @@ public Session startSession(
             .parentSessionId(parentSessionId)
             .build();
 
-        if (sessionLevel != SessionsLoggingLevel.OFF) {
+        if (sessionLevel != SessionsLoggingLevel.OFF
+                && exchange.getProperty(Properties.SESSION_SHOULD_BE_LOGGED, true, Boolean.class)) {
             writer.putSessionToCache(session);
         }
         return session;
@@ -465,8 +463,12 @@ public String moveFromSingleElCacheToCommonCache(String sessionId) {
         return element == null ? null : element.getId();
     }
 
-    public Boolean sessionShouldBeLogged() {
-        return random.nextDouble() <= samplerProbabilistic;
+    /**
+     * Sampling decision for a new session, exchanges derived from the main one
+     * and linked chains inherit it through {@link Properties#SESSION_SHOULD_BE_LOGGED}.
+     */
+    public boolean sessionShouldBeLogged(Exchange exchange, String sessionId) {
+        return sampler.isSampled(exchange, sessionId);
     }
 
     private void updateSessionInfoForElements(Exchange exchange,
@@ -74,6 +74,44 @@ public static String extractBody(Exchange exchange) {
         return stringBody;
     }
 
+    /**
+     * Checks that message body is not empty without converting it to a string when possible.
+     * Result is the same as checking the string returned by {@link #extractBody(Exchange)}.
+     */
+    public static boolean isBodyNotEmpty(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+
+        if (body == null) {
+            return false;
+        }
+        if (body instanceof String stringBody) {
+            return !stringBody.isEmpty();
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes.length > 0;
+        }
+        if (body instanceof WrappedFile || body instanceof File) {
+            return true;
+        }
+        // stream cache may report zero length when it is unknown
+        if (body instanceof StreamCache sc && sc.length() > 0) {
+            return true;
+        }
+        if (body instanceof InputStream is && !(body instanceof StreamCache) && is.markSupported()) {
+            try {
+                is.mark(1);
+                boolean notEmpty = is.read() != -1;
+                is.reset();
+                return notEmpty;
+            } catch (IOException e) {
+                log.debug("Failed to peek message body stream", e);
+            }
+        }
+
+        String stringBody = extractBody(exchange);
+        return stringBody != null && !stringBody.isEmpty();
+    }
+
     @SuppressWarnings("checkstyle:EmptyCatchBlock")
     private static void resetCache(StreamCache sc, InputStream is) {
         if (sc != null) {
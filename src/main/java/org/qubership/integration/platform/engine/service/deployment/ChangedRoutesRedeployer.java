@@ -0,0 +1,98 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.deployment;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.qubership.integration.platform.engine.model.deployment.update.DeploymentConfiguration;
+import org.qubership.integration.platform.engine.model.deployment.update.ElementProperties;
+import org.qubership.integration.platform.engine.service.deployment.processing.DeploymentProcessingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Replaces changed routes in a running context for incremental redeploy.
+ */
+@Slf4j
+@Component
+public class ChangedRoutesRedeployer {
+    private final DeploymentProcessingService deploymentProcessingService;
+
+    @Autowired
+    public ChangedRoutesRedeployer(DeploymentProcessingService deploymentProcessingService) {
+        this.deploymentProcessingService = deploymentProcessingService;
+    }
+
+    /**
+     * Hashes properties of elements with dependencies bound on context creation.
+     * Such dependencies are bound once per context, so a context can be updated in place
+     * only if these hashes are equal for the running and the new deployment.
+     *
+     * @return [element id, hash of element properties]
+     */
+    public Map<String, String> hashBoundElements(DeploymentConfiguration configuration) {
+        return Optional.ofNullable(configuration.getProperties()).stream()
+            .flatMap(Collection::stream)
+            .filter(deploymentProcessingService::hasElementActionsAfterContextCreated)
+            .collect(Collectors.toMap(
+                ElementProperties::getElementId,
+                element -> DigestUtils.sha256Hex(String.valueOf(new TreeMap<>(element.getProperties()))),
+                (first, second) -> first,
+                TreeMap::new));
+    }
+
+    /**
+     * Removes replaced routes and adds new ones. If new routes fail to start,
+     * they are removed and replaced routes are added back.
+     *
+     * @return false if new routes failed to start
+     */
+    public boolean replaceRoutes(
+        ModelCamelContext context,
+        List<RouteDefinition> replacedRoutes,
+        List<RouteDefinition> newRoutes
+    ) {
+        try {
+            context.removeRouteDefinitions(replacedRoutes);
+            context.addRouteDefinitions(newRoutes);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to replace routes in context {}, restoring previous routes", context.getName(), e);
+        }
+
+        try {
+            context.removeRouteDefinitions(newRoutes.stream()
+                .map(route -> context.getRouteDefinition(route.getRouteId()))
+                .filter(Objects::nonNull)
+                .toList());
+            context.addRouteDefinitions(replacedRoutes);
+        } catch (Exception e) {
+            log.error("Failed to restore previous routes in context {}", context.getName(), e);
+        }
+        return false;
+    }
+}
@@ -20,6 +20,7 @@
 import org.apache.camel.spring.SpringCamelContext;
 import org.qubership.integration.platform.engine.model.deployment.update.DeploymentConfiguration;
 import org.qubership.integration.platform.engine.model.deployment.update.DeploymentInfo;
+import org.qubership.integration.platform.engine.model.deployment.update.ElementProperties;
 import org.qubership.integration.platform.engine.service.deployment.processing.qualifiers.OnAfterDeploymentContextCreated;
 import org.qubership.integration.platform.engine.service.deployment.processing.qualifiers.OnBeforeDeploymentContextCreated;
 import org.qubership.integration.platform.engine.service.deployment.processing.qualifiers.OnStopDeploymentContext;
@@ -65,6 +66,15 @@ public void processAfterContextCreated(
         executeActions(afterContextCreatedActions, context, deploymentInfo, deploymentConfiguration);
     }
 
+    /**
+     * Checks if dependencies of the element are bound to the context when it is created.
+     */
+    public boolean hasElementActionsAfterContextCreated(ElementProperties elementProperties) {
+        return afterContextCreatedActions.stream()
+            .anyMatch(action -> action instanceof ElementProcessingAction elementAction
+                && elementAction.applicableTo(elementProperties));
+    }
+
     public void processStopContext(
         SpringCamelContext context,
         DeploymentInfo deploymentInfo,
@@ -18,9 +18,9 @@
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.camel.spring.SpringCamelContext;
-import org.apache.kafka.clients.admin.AdminClient;
 import org.apache.kafka.common.KafkaException;
 import org.apache.kafka.common.errors.AuthorizationException;
+import org.qubership.integration.platform.engine.camel.components.kafka.KafkaAdminClientRegistry;
 import org.qubership.integration.platform.engine.configuration.PredeployCheckKafkaConfiguration;
 import org.qubership.integration.platform.engine.errorhandling.DeploymentRetriableException;
 import org.qubership.integration.platform.engine.model.ChainElementType;
@@ -52,14 +52,17 @@
 public class KafkaTopicAndConnectionCheckAction extends ElementProcessingAction {
     private final VariablesService variablesService;
     private final PredeployCheckKafkaConfiguration predeployCheckKafkaConfiguration;
+    private final KafkaAdminClientRegistry kafkaAdminClientRegistry;
 
     @Autowired
     public KafkaTopicAndConnectionCheckAction(
         VariablesService variablesService,
-        PredeployCheckKafkaConfiguration predeployCheckKafkaConfiguration
+        PredeployCheckKafkaConfiguration predeployCheckKafkaConfiguration,
+        KafkaAdminClientRegistry kafkaAdminClientRegistry
     ) {
         this.variablesService = variablesService;
         this.predeployCheckKafkaConfiguration = predeployCheckKafkaConfiguration;
+        this.kafkaAdminClientRegistry = kafkaAdminClientRegistry;
     }
 
     @Override
@@ -94,15 +97,11 @@ public void apply(
                 predeployCheckKafkaConfiguration.createValidationKafkaAdminConfig(brokers,
                     securityProtocol, saslMechanism, saslJaasConfig);
 
-            Set<String> topics;
-            try (AdminClient client = AdminClient.create(validationKafkaAdminConfig)) {
-                Set<String> kafkaTopics = client.listTopics().names().get();
-                topics = new HashSet<>(List.of(topicsString.split(",")));
-                if (topics.isEmpty()) {
-                    throw new KafkaException("Topic property can't be empty");
-                }
-                topics.removeAll(kafkaTopics);
+            Set<String> topics = new HashSet<>(List.of(topicsString.split(",")));
+            if (topics.isEmpty()) {
+                throw new KafkaException("Topic property can't be empty");
             }
+            topics = kafkaAdminClientRegistry.findMissingTopics(validationKafkaAdminConfig, topics);
 
             if (!topics.isEmpty()) {
                 String topicString = String.join(", ", topics);
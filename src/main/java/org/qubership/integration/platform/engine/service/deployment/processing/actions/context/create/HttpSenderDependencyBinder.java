@@ -20,10 +20,15 @@
 import lombok.extern.slf4j.Slf4j;
 import org.apache.camel.component.http.HttpClientConfigurer;
 import org.apache.camel.spring.SpringCamelContext;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.routing.HttpRoutePlanner;
+import org.apache.hc.core5.http.ConnectionReuseStrategy;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
 import org.apache.hc.core5.http.protocol.HttpContext;
+import org.qubership.integration.platform.engine.camel.components.graphql.AsyncHttpClientConfigurer;
 import org.qubership.integration.platform.engine.model.ChainElementType;
 import org.qubership.integration.platform.engine.model.constants.CamelConstants.ChainProperties;
 import org.qubership.integration.platform.engine.model.deployment.update.DeploymentInfo;
@@ -37,6 +42,8 @@
 import org.springframework.stereotype.Component;
 
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.qubership.integration.platform.engine.service.deployment.processing.actions.context.create.helpers.ChainElementTypeHelper.isHttpTriggerElement;
@@ -71,53 +78,75 @@ public void apply(
         ElementProperties elementProperties,
         DeploymentInfo deploymentInfo
     ) {
-        HttpClientConfigurer httpClientConfigurer = clientBuilder -> {
-            if (metricsStore.isMetricsEnabled()) {
-                MicrometerHttpClientInterceptor interceptor = new MicrometerHttpClientInterceptor(
-                    metricsStore.getMeterRegistry(),
-                    request -> {
-                        try {
-                            return elementProperties.getProperties().get(
-                                ChainProperties.OPERATION_PATH) != null
-                                        ? elementProperties.getProperties().get(ChainProperties.OPERATION_PATH)
-                                        : request.getUri().toString();
-                        } catch (URISyntaxException e) {
-                            log.error("Failed to get URI from request");
-                            return "";
-                        }
-                    },
-                    metricTagsHelper.buildMetricTagsLegacy(deploymentInfo, elementProperties,
-                        deploymentInfo.getChainName()),
-                    true
-                );
-                clientBuilder.addRequestInterceptorFirst(interceptor.getRequestInterceptor());
-                clientBuilder.addResponseInterceptorLast(interceptor.getResponseInterceptor());
-            }
+        List<HttpRequestInterceptor> requestInterceptors = new ArrayList<>();
+        List<HttpResponseInterceptor> responseInterceptors = new ArrayList<>();
+        HttpRoutePlanner routePlanner = null;
+        if (metricsStore.isMetricsEnabled()) {
+            MicrometerHttpClientInterceptor interceptor = new MicrometerHttpClientInterceptor(
+                metricsStore.getMeterRegistry(),
+                request -> {
+                    try {
+                        return elementProperties.getProperties().get(
+                            ChainProperties.OPERATION_PATH) != null
+                                    ? elementProperties.getProperties().get(ChainProperties.OPERATION_PATH)
+                                    : request.getUri().toString();
+                    } catch (URISyntaxException e) {
+                        log.error("Failed to get URI from request");
+                        return "";
+                    }
+                },
+                metricTagsHelper.buildMetricTagsLegacy(deploymentInfo, elementProperties,
+                    deploymentInfo.getChainName()),
+                true
+            );
+            requestInterceptors.add(interceptor.getRequestInterceptor());
+            responseInterceptors.add(interceptor.getResponseInterceptor());
+        }
 
-            testingService.ifPresent(s -> {
-                if (s.canBeMocked(elementProperties)) {
-                    HttpRequestInterceptor endpointMockInterceptor =
-                            s.buildEndpointMockInterceptor(deploymentInfo.getChainId(), elementProperties);
-                    clientBuilder.addRequestInterceptorFirst(endpointMockInterceptor);
-                    clientBuilder.setRoutePlanner(s.buildRoutePlanner(deploymentInfo.getChainId(), elementProperties));
-                }
-            });
+        if (testingService.isPresent() && testingService.get().canBeMocked(elementProperties)) {
+            TestingService service = testingService.get();
+            requestInterceptors.add(service.buildEndpointMockInterceptor(deploymentInfo.getChainId(), elementProperties));
+            routePlanner = service.buildRoutePlanner(deploymentInfo.getChainId(), elementProperties);
+        }
 
-            // enable or disable connection reuse, depends on element property
-            if (!Boolean.parseBoolean(
-                elementProperties.getProperties().getOrDefault(
-                    ChainProperties.REUSE_ESTABLISHED_CONN, "true"))) {
-                clientBuilder.setConnectionReuseStrategy(
-                    (HttpRequest request, HttpResponse response, HttpContext httpContext) -> false);
-            }
+        // enable or disable connection reuse, depends on element property
+        boolean reuseConnections = Boolean.parseBoolean(
+            elementProperties.getProperties().getOrDefault(
+                ChainProperties.REUSE_ESTABLISHED_CONN, "true"));
 
-            // disable automatic retries on error
-            clientBuilder.disableAutomaticRetries();
-        };
+        HttpClientConfigurer httpClientConfigurer = new ElementHttpClientConfigurer(
+            requestInterceptors, responseInterceptors, routePlanner, reuseConnections);
         String elementId = elementProperties.getElementId();
         context.getRegistry().bind(elementId, HttpClientConfigurer.class, httpClientConfigurer);
     }
 
+    /**
+     * Applies the same settings to classic clients of http elements and to requests of graphql elements.
+     */
+    private record ElementHttpClientConfigurer(
+        List<HttpRequestInterceptor> requestInterceptors,
+        List<HttpResponseInterceptor> responseInterceptors,
+        HttpRoutePlanner routePlanner,
+        boolean reuseConnections
+    ) implements HttpClientConfigurer, AsyncHttpClientConfigurer {
+        private static final ConnectionReuseStrategy NO_REUSE_STRATEGY =
+            (HttpRequest request, HttpResponse response, HttpContext httpContext) -> false;
+
+        @Override
+        public void configureHttpClient(HttpClientBuilder clientBuilder) {
+            requestInterceptors.forEach(clientBuilder::addRequestInterceptorFirst);
+            responseInterceptors.forEach(clientBuilder::addResponseInterceptorLast);
+            if (routePlanner != null) {
+                clientBuilder.setRoutePlanner(routePlanner);
+            }
+            if (!reuseConnections) {
+                clientBuilder.setConnectionReuseStrategy(NO_REUSE_STRATEGY);
+            }
+            // disable automatic retries on error
+            clientBuilder.disableAutomaticRetries();
+        }
+    }
+
     private static boolean isHttpChainElement(ElementProperties properties) {
         String elementType = properties.getProperties().get(ChainProperties.ELEMENT_TYPE);
         ChainElementType chainElementType = ChainElementType.fromString(elementType);
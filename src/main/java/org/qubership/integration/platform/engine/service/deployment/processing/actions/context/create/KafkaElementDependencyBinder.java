@@ -21,6 +21,8 @@
 import org.apache.camel.component.kafka.KafkaClientFactory;
 import org.apache.camel.spring.SpringCamelContext;
 import org.apache.commons.lang3.StringUtils;
+import org.qubership.integration.platform.engine.camel.components.kafka.SharedKafkaProducerRegistry;
+import org.qubership.integration.platform.engine.camel.components.kafka.SharedProducerKafkaClientFactory;
 import org.qubership.integration.platform.engine.camel.components.kafka.TaggedMetricsKafkaClientFactory;
 import org.qubership.integration.platform.engine.model.ChainElementType;
 import org.qubership.integration.platform.engine.model.ElementOptions;
@@ -49,14 +51,17 @@ public class KafkaElementDependencyBinder extends ElementProcessingAction {
 
     private final MetricsStore metricsStore;
     private final MetricTagsHelper metricTagsHelper;
+    private final SharedKafkaProducerRegistry producerRegistry;
 
     @Autowired
     public KafkaElementDependencyBinder(
         MetricsStore metricsStore,
-        MetricTagsHelper metricTagsHelper
+        MetricTagsHelper metricTagsHelper,
+        SharedKafkaProducerRegistry producerRegistry
     ) {
         this.metricsStore = metricsStore;
         this.metricTagsHelper = metricTagsHelper;
+        this.producerRegistry = producerRegistry;
     }
     
     @Override
@@ -76,7 +81,6 @@ public void apply(
         DeploymentInfo deploymentInfo
     ) {
         String elementId = properties.getElementId();
-        DefaultKafkaClientFactory defaultFactory = new DefaultKafkaClientFactory();
         Collection<Tag> tags = metricTagsHelper.buildMetricTagsLegacy(deploymentInfo, properties, deploymentInfo.getChainName());
 
         String maasClassifier = properties.getProperties().get(ElementOptions.MAAS_DEPLOYMENT_CLASSIFIER_PROP);
@@ -87,10 +91,12 @@ public void apply(
         // For camel 'kafka' and 'kafka-custom' component
         KafkaClientFactory kafkaClientFactory = metricsStore.isMetricsEnabled()
             ? new TaggedMetricsKafkaClientFactory(
-            defaultFactory,
+            new DefaultKafkaClientFactory(),
+            producerRegistry,
             metricsStore.getMeterRegistry(),
-            tags)
-            : defaultFactory;
+            tags,
+            metricTagsHelper.buildEngineMetricTags())
+            : new SharedProducerKafkaClientFactory(producerRegistry);
         context.getRegistry().bind(elementId, KafkaClientFactory.class, kafkaClientFactory);
         context.getRegistry().bind(elementId + "-v2", KafkaClientFactory.class, kafkaClientFactory);
     }
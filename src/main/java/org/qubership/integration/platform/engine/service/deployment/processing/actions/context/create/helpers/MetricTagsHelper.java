@@ -29,6 +29,7 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import static org.qubership.integration.platform.engine.service.debugger.metrics.MetricsStore.*;
 
@@ -56,6 +57,13 @@ public Collection<Tag> buildMetricTagsLegacy(
         );
     }
 
+    /**
+     * Tags of clients shared by elements of different chains.
+     */
+    public Collection<Tag> buildEngineMetricTags() {
+        return new ArrayList<>(List.of(Tag.of(ENGINE_DOMAIN_TAG, serverConfiguration.getDomain())));
+    }
+
     public KeyValues buildMetricTags(
         DeploymentInfo deploymentInfo,
         ElementProperties elementProperties,
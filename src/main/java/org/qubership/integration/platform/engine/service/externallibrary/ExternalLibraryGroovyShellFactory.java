@@ -16,35 +16,84 @@
 
 package org.qubership.integration.platform.engine.service.externallibrary;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyShell;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.camel.Exchange;
 import org.apache.camel.language.groovy.GroovyShellFactory;
+import org.qubership.integration.platform.engine.events.ExternalLibrariesUpdatedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
 import java.util.Optional;
 
-import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
+/**
+ * Provides groovy shells backed by one pooled class loader per external libraries version.
+ * The pooled shell is recreated only when the shell class loader of
+ * {@link ExternalLibraryService} changes.
+ */
 @Slf4j
 @Component
 public class ExternalLibraryGroovyShellFactory implements GroovyShellFactory {
     private final Optional<ExternalLibraryService> externalLibraryService;
+    private final GroovyScriptBytecodeCache bytecodeCache;
+
+    private volatile PooledShell pooledShell;
 
     @Autowired
-    public ExternalLibraryGroovyShellFactory(Optional<ExternalLibraryService> externalLibraryService) {
+    public ExternalLibraryGroovyShellFactory(
+            Optional<ExternalLibraryService> externalLibraryService,
+            GroovyScriptBytecodeCache bytecodeCache
+    ) {
         this.externalLibraryService = externalLibraryService;
+        this.bytecodeCache = bytecodeCache;
     }
 
     @Override
     public GroovyShell createGroovyShell(Exchange exchange) {
-        log.debug("Requesting groovy shell for {}", isNull(exchange) ? Collections.emptyMap() : exchange.getProperties());
-        GroovyClassLoader groovyClassLoader = new GroovyClassLoader(externalLibraryService.isPresent()
+        ClassLoader parentClassLoader = getParentClassLoader();
+        PooledShell shell = pooledShell;
+        if (nonNull(shell) && shell.parentClassLoader() == parentClassLoader) {
+            return shell.shell();
+        }
+        return createPooledShell(parentClassLoader).shell();
+    }
+
+    @EventListener
+    public void onExternalLibrariesUpdated(ExternalLibrariesUpdatedEvent event) {
+        // shell class loader may be replaced, so it must be checked on next request
+        resetPooledShell();
+    }
+
+    private synchronized PooledShell createPooledShell(ClassLoader parentClassLoader) {
+        PooledShell shell = pooledShell;
+        if (nonNull(shell) && shell.parentClassLoader() == parentClassLoader) {
+            return shell;
+        }
+        log.debug("Creating pooled groovy shell for class loader {}", parentClassLoader);
+        shell = new PooledShell(parentClassLoader,
+                new GroovyShell(new ScriptCachingGroovyClassLoader(parentClassLoader, bytecodeCache)));
+        pooledShell = shell;
+        return shell;
+    }
+
+    private synchronized void resetPooledShell() {
+        PooledShell shell = pooledShell;
+        if (nonNull(shell) && shell.parentClassLoader() != getParentClassLoader()) {
+            log.debug("Dropping pooled groovy shell with {} cached scripts",
+                    ((ScriptCachingGroovyClassLoader) shell.shell().getClassLoader()).getCachedScriptsCount());
+            pooledShell = null;
+        }
+    }
+
+    private ClassLoader getParentClassLoader() {
+        return externalLibraryService.isPresent()
                 ? externalLibraryService.get().getShellClassLoader()
-                : getClass().getClassLoader());
-        return new GroovyShell(groovyClassLoader);
+                : getClass().getClassLoader();
+    }
+
+    private record PooledShell(ClassLoader parentClassLoader, GroovyShell shell) {
     }
 }
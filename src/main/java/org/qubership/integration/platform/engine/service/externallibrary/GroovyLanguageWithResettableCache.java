@@ -20,25 +20,42 @@
 import lombok.extern.slf4j.Slf4j;
 import org.apache.camel.language.groovy.GroovyLanguage;
 import org.qubership.integration.platform.engine.events.ExternalLibrariesUpdatedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 @Slf4j
 @Component("groovy")
 public class GroovyLanguageWithResettableCache extends GroovyLanguage {
-    public GroovyLanguageWithResettableCache() {
+    private final ExternalLibraryGroovyShellFactory groovyShellFactory;
+    private final Executor compilationExecutor;
+
+    @Autowired
+    public GroovyLanguageWithResettableCache(
+            ExternalLibraryGroovyShellFactory groovyShellFactory,
+            @Qualifier("groovyScriptsRecompilationExecutor") Executor compilationExecutor
+    ) {
         super();
+        this.groovyShellFactory = groovyShellFactory;
+        this.compilationExecutor = compilationExecutor;
     }
 
     public void resetScriptCache() {
         log.debug("Resetting groovy script cache");
         try {
-            tryResetScriptCache();
+            getScriptCache().clear();
         } catch (Exception exception) {
             log.error("Failed to reset groovy script cache", exception);
         }
@@ -53,17 +70,105 @@ public void addScriptToCache(String key, Class<Script> scriptClass) {
         }
     }
 
-    private void tryResetScriptCache()
+    /**
+     * Recompiles cached scripts whose external library dependencies resolve
+     * to different classes in the current shell class loader.
+     * Affected scripts are recompiled in background and replace the cached
+     * classes only after successful compilation, other entries are kept as is.
+     */
+    public void invalidateAffectedScripts() {
+        Map<String, Class<?>> affectedScripts;
+        try {
+            affectedScripts = findAffectedScripts();
+        } catch (Exception exception) {
+            log.error("Failed to find groovy scripts affected by libraries update", exception);
+            resetScriptCache();
+            return;
+        }
+
+        log.info("Recompiling {} groovy scripts affected by libraries update", affectedScripts.size());
+        affectedScripts.forEach((key, scriptClass) ->
+                CompletableFuture.runAsync(() -> recompileScript(key, scriptClass), compilationExecutor));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recompileScript(String key, Class<?> staleScriptClass) {
+        try {
+            Class<Script> scriptClass = groovyShellFactory.createGroovyShell(null).getClassLoader().parseClass(key);
+            tryAddScriptToCache(key, scriptClass);
+            log.debug("Groovy script {} recompiled as {}", staleScriptClass.getName(), scriptClass.getName());
+        } catch (Exception exception) {
+            log.warn("Failed to recompile groovy script {}, it will be compiled on next use",
+                    staleScriptClass.getName(), exception);
+            try {
+                getScriptCache().remove(key);
+            } catch (Exception removeException) {
+                log.error("Failed to evict groovy script from cache", removeException);
+            }
+        } finally {
+            // previous loader may be kept by unaffected scripts, it must not keep the stale class too
+            ScriptCachingGroovyClassLoader owner = ScriptCachingGroovyClassLoader.findOwner(staleScriptClass);
+            if (nonNull(owner)) {
+                owner.evict(staleScriptClass);
+            }
+        }
+    }
+
+    private Map<String, Class<?>> findAffectedScripts()
             throws NoSuchFieldException, IllegalAccessException {
-        Field field = this.getClass().getSuperclass().getDeclaredField("scriptCache");
+        ClassLoader shellClassLoader = groovyShellFactory.createGroovyShell(null).getClassLoader().getParent();
+        Map<String, Class<?>> affectedScripts = new HashMap<>();
+        for (Map.Entry<String, Object> entry : new HashMap<>(getScriptCache()).entrySet()) {
+            Class<?> scriptClass = getScriptClass(entry.getValue());
+            if (isAffected(scriptClass, shellClassLoader)) {
+                affectedScripts.put(entry.getKey(), scriptClass);
+            }
+        }
+        return affectedScripts;
+    }
+
+    private static boolean isAffected(Class<?> scriptClass, ClassLoader shellClassLoader) {
+        ScriptCachingGroovyClassLoader owner = ScriptCachingGroovyClassLoader.findOwner(scriptClass);
+        if (isNull(owner)) {
+            return true;
+        }
+        if (owner.getParent() == shellClassLoader) {
+            return false;
+        }
+        Map<String, Class<?>> dependencies = owner.getDependencies(scriptClass);
+        if (isNull(dependencies)) {
+            return true;
+        }
+        for (Map.Entry<String, Class<?>> dependency : dependencies.entrySet()) {
+            try {
+                if (Class.forName(dependency.getKey(), false, shellClassLoader) != dependency.getValue()) {
+                    return true;
+                }
+            } catch (ClassNotFoundException | LinkageError exception) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getScriptCache()
+            throws NoSuchFieldException, IllegalAccessException {
+        Field field = GroovyLanguage.class.getDeclaredField("scriptCache");
         field.setAccessible(true);
-        Map<?, ?> scriptCache = (Map<?, ?>) field.get(this);
-        scriptCache.clear();
+        return (Map<String, Object>) field.get(this);
+    }
+
+    private static Class<?> getScriptClass(Object classService)
+            throws NoSuchFieldException, IllegalAccessException {
+        Field field = classService.getClass().getDeclaredField("script");
+        field.setAccessible(true);
+        return (Class<?>) field.get(classService);
     }
 
     private void tryAddScriptToCache(String key, Class<Script> scriptClass)
             throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Method method = this.getClass().getSuperclass().getDeclaredMethod("addScriptToCache", String.class, Class.class);
+        Method method = GroovyLanguage.class.getDeclaredMethod("addScriptToCache", String.class, Class.class);
         method.setAccessible(true);
         method.invoke(this, key, scriptClass);
     }
@@ -71,7 +176,7 @@ private void tryAddScriptToCache(String key, Class<Script> scriptClass)
     @EventListener
     public void onExternalLibrariesUpdated(ExternalLibrariesUpdatedEvent event) {
         if (!event.isInitialUpdate()) {
-            resetScriptCache();
+            invalidateAffectedScripts();
         }
     }
 }
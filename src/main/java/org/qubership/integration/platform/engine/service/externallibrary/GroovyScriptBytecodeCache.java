@@ -0,0 +1,216 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.externallibrary;
+
+import groovy.lang.GroovySystem;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * On-disk cache of compiled groovy scripts bytecode keyed by script source hash.
+ * Entries are kept in a directory specific to the groovy version and engine classpath,
+ * external library classes a script was compiled against are checked on load.
+ */
+@Slf4j
+@Component
+public class GroovyScriptBytecodeCache {
+    private static final int FORMAT_VERSION = 1;
+    private static final String FILE_EXTENSION = ".bin";
+    // the cache path may be shared with other data, only directories with this prefix are removed
+    private static final String DIRECTORY_PREFIX = "qip-groovy-bytecode-";
+
+    private final boolean enabled;
+    private final Path root;
+    private final Path directory;
+
+    @Autowired
+    public GroovyScriptBytecodeCache(
+            @Value("${qip.groovy.compilation.cache.enabled}") boolean enabled,
+            @Value("${qip.groovy.compilation.cache.path}") String path
+    ) {
+        this.enabled = enabled;
+        this.root = Paths.get(path);
+        this.directory = root.resolve(DIRECTORY_PREFIX + buildEnvironmentKey());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    void removeStaleEntries() {
+        if (!enabled || !Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> directories = Files.list(root)) {
+            List<Path> staleDirectories = directories
+                    .filter(dir -> dir.getFileName().toString().startsWith(DIRECTORY_PREFIX))
+                    .filter(dir -> Files.isDirectory(dir, LinkOption.NOFOLLOW_LINKS))
+                    .filter(dir -> !dir.equals(directory))
+                    .toList();
+            for (Path stale : staleDirectories) {
+                log.info("Removing groovy bytecode cache of another engine version {}", stale.getFileName());
+                FileSystemUtils.deleteRecursively(stale);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up groovy bytecode cache in {}", root, e);
+        }
+    }
+
+    public Optional<ScriptBytecode> load(String sourceHash) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Path file = getFile(sourceHash);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != FORMAT_VERSION || !sourceHash.equals(input.readUTF())) {
+                throw new IOException("Unexpected cache entry header");
+            }
+            String scriptClassName = input.readUTF();
+            Map<String, String> dependencies = new HashMap<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                dependencies.put(input.readUTF(), input.readUTF());
+            }
+            Map<String, byte[]> classes = new HashMap<>();
+            for (int i = input.readInt(); i > 0; i--) {
+                String className = input.readUTF();
+                byte[] bytecode = new byte[input.readInt()];
+                input.readFully(bytecode);
+                classes.put(className, bytecode);
+            }
+            return Optional.of(new ScriptBytecode(scriptClassName, dependencies, classes));
+        } catch (IOException e) {
+            log.warn("Groovy bytecode cache entry {} is corrupted, removing", file.getFileName(), e);
+            delete(file);
+            return Optional.empty();
+        }
+    }
+
+    public void save(String sourceHash, ScriptBytecode bytecode) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, sourceHash, ".tmp");
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(sourceHash);
+                output.writeUTF(bytecode.scriptClassName());
+                output.writeInt(bytecode.dependencies().size());
+                for (Map.Entry<String, String> dependency : bytecode.dependencies().entrySet()) {
+                    output.writeUTF(dependency.getKey());
+                    output.writeUTF(dependency.getValue());
+                }
+                output.writeInt(bytecode.classes().size());
+                for (Map.Entry<String, byte[]> compiledClass : bytecode.classes().entrySet()) {
+                    output.writeUTF(compiledClass.getKey());
+                    output.writeInt(compiledClass.getValue().length);
+                    output.write(compiledClass.getValue());
+                }
+            } catch (IOException e) {
+                delete(tempFile);
+                throw e;
+            }
+            Files.move(tempFile, getFile(sourceHash), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Failed to save groovy script {} to bytecode cache", bytecode.scriptClassName(), e);
+        }
+    }
+
+    /**
+     * @return hash of the class file the class was loaded from or {@code null} if it is not available
+     */
+    public static String fingerprint(Class<?> dependency) {
+        ClassLoader classLoader = dependency.getClassLoader();
+        if (isNull(classLoader)) {
+            return null;
+        }
+        try (InputStream classFile = classLoader.getResourceAsStream(dependency.getName().replace('.', '/') + ".class")) {
+            return isNull(classFile) ? null : DigestUtils.sha256Hex(classFile);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Path getFile(String sourceHash) {
+        return directory.resolve(sourceHash + FILE_EXTENSION);
+    }
+
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete groovy bytecode cache file {}", file.getFileName(), e);
+        }
+    }
+
+    /**
+     * Engine classes scripts are compiled against are identified by the classpath files
+     * as the engine version is not available at runtime.
+     */
+    private static String buildEnvironmentKey() {
+        StringBuilder key = new StringBuilder()
+                .append(FORMAT_VERSION)
+                .append(GroovySystem.getVersion())
+                .append(Runtime.version().feature());
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            File file = new File(entry);
+            key.append(entry).append(':').append(file.length()).append(':').append(file.lastModified());
+        }
+        return DigestUtils.sha256Hex(key.toString()).substring(0, 16);
+    }
+
+    /**
+     * @param dependencies [external library class name, {@link #fingerprint}]
+     * @param classes      [class name, bytecode] of the script class and its inner classes
+     */
+    public record ScriptBytecode(
+            String scriptClassName,
+            Map<String, String> dependencies,
+            Map<String, byte[]> classes
+    ) {
+    }
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.externallibrary;
+
+import groovy.lang.GroovyClassLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.codehaus.groovy.ast.ClassNode;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.SourceUnit;
+import org.qubership.integration.platform.engine.service.externallibrary.GroovyScriptBytecodeCache.ScriptBytecode;
+
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Groovy class loader that compiles each distinct script text only once.
+ * Compiled script classes are cached by the SHA-256 hash of the source together with
+ * the external library classes resolved while compiling them. The cache is bounded and
+ * soft like the script cache of {@link org.apache.camel.language.groovy.GroovyLanguage}.
+ * Script classes are not kept in the class cache of {@link GroovyClassLoader},
+ * so classes evicted from both caches can be unloaded.
+ */
+@Slf4j
+public class ScriptCachingGroovyClassLoader extends GroovyClassLoader {
+    private static final String SCRIPT_CLASS_PREFIX = "Script_";
+    private static final int MAX_CACHED_SCRIPTS = 1000;
+
+    // access ordered, removed entries are not kept by the map unlike in camel LRU caches
+    private final Map<String, SoftReference<CompiledScript>> scripts = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SoftReference<CompiledScript>> eldest) {
+            return size() > MAX_CACHED_SCRIPTS;
+        }
+    };
+    private final ThreadLocal<Map<String, Class<?>>> resolvedDependencies = new ThreadLocal<>();
+    private final ThreadLocal<Map<String, byte[]>> generatedClasses = new ThreadLocal<>();
+    private final GroovyScriptBytecodeCache bytecodeCache;
+
+    public ScriptCachingGroovyClassLoader(ClassLoader parent) {
+        this(parent, null);
+    }
+
+    /**
+     * @param bytecodeCache cache of compiled scripts shared between class loaders and engine restarts,
+     *                      may be {@code null}
+     */
+    public ScriptCachingGroovyClassLoader(ClassLoader parent, GroovyScriptBytecodeCache bytecodeCache) {
+        super(parent);
+        this.bytecodeCache = bytecodeCache;
+    }
+
+    @Override
+    public Class parseClass(String text) throws CompilationFailedException {
+        String sourceHash = DigestUtils.sha256Hex(text);
+        CompiledScript script = getScript(sourceHash);
+        if (nonNull(script)) {
+            return script.scriptClass();
+        }
+
+        script = loadFromBytecodeCache(sourceHash);
+        if (isNull(script)) {
+            script = compile(text, sourceHash);
+        }
+        return putScriptIfAbsent(sourceHash, script).scriptClass();
+    }
+
+    /**
+     * Script classes are referenced only by {@link #scripts}, the class cache would keep them forever.
+     */
+    @Override
+    protected void setClassCacheEntry(Class cls) {
+        if (!cls.getName().startsWith(SCRIPT_CLASS_PREFIX)) {
+            super.setClassCacheEntry(cls);
+        }
+    }
+
+    @Override
+    protected ClassCollector createCollector(CompilationUnit unit, SourceUnit su) {
+        Map<String, byte[]> classes = generatedClasses.get();
+        return new ClassCollector(new InnerLoader(this), unit, su) {
+            @Override
+            protected Class createClass(byte[] code, ClassNode classNode) {
+                if (nonNull(classes)) {
+                    classes.put(classNode.getName(), code);
+                }
+                return super.createClass(code, classNode);
+            }
+        };
+    }
+
+    @Override
+    public Class loadClass(String name, boolean lookupScriptFiles, boolean preferClassOverScript, boolean resolve)
+            throws ClassNotFoundException, CompilationFailedException {
+        Class<?> loadedClass = super.loadClass(name, lookupScriptFiles, preferClassOverScript, resolve);
+        Map<String, Class<?>> dependencies = resolvedDependencies.get();
+        if (nonNull(dependencies) && isExternalClass(loadedClass)) {
+            dependencies.put(name, loadedClass);
+        }
+        return loadedClass;
+    }
+
+    /**
+     * Returns external library classes the script class was compiled against,
+     * or {@code null} if the class was not compiled by this loader.
+     */
+    public Map<String, Class<?>> getDependencies(Class<?> scriptClass) {
+        String className = scriptClass.getName();
+        if (!className.startsWith(SCRIPT_CLASS_PREFIX)) {
+            return null;
+        }
+        CompiledScript script = getScript(className.substring(SCRIPT_CLASS_PREFIX.length()));
+        return nonNull(script) && script.scriptClass() == scriptClass ? script.dependencies() : null;
+    }
+
+    /**
+     * Removes the script class from the cache, so that the loader does not keep it after it is replaced.
+     */
+    public void evict(Class<?> scriptClass) {
+        String className = scriptClass.getName();
+        if (!className.startsWith(SCRIPT_CLASS_PREFIX)) {
+            return;
+        }
+        String sourceHash = className.substring(SCRIPT_CLASS_PREFIX.length());
+        synchronized (scripts) {
+            CompiledScript script = getScript(sourceHash);
+            if (nonNull(script) && script.scriptClass() == scriptClass) {
+                scripts.remove(sourceHash);
+            }
+        }
+    }
+
+    public int getCachedScriptsCount() {
+        synchronized (scripts) {
+            return scripts.size();
+        }
+    }
+
+    private CompiledScript getScript(String sourceHash) {
+        synchronized (scripts) {
+            SoftReference<CompiledScript> reference = scripts.get(sourceHash);
+            CompiledScript script = isNull(reference) ? null : reference.get();
+            if (nonNull(reference) && isNull(script)) {
+                scripts.remove(sourceHash);
+            }
+            return script;
+        }
+    }
+
+    private CompiledScript putScriptIfAbsent(String sourceHash, CompiledScript script) {
+        synchronized (scripts) {
+            CompiledScript previous = getScript(sourceHash);
+            if (nonNull(previous)) {
+                return previous;
+            }
+            scripts.put(sourceHash, new SoftReference<>(script));
+            return script;
+        }
+    }
+
+    public static ScriptCachingGroovyClassLoader findOwner(Class<?> scriptClass) {
+        ClassLoader classLoader = scriptClass.getClassLoader();
+        while (nonNull(classLoader)) {
+            if (classLoader instanceof ScriptCachingGroovyClassLoader owner) {
+                return owner;
+            }
+            classLoader = classLoader.getParent();
+        }
+        return null;
+    }
+
+    private CompiledScript compile(String text, String sourceHash) {
+        Map<String, Class<?>> dependencies = new HashMap<>();
+        Map<String, byte[]> classes = new HashMap<>();
+        resolvedDependencies.set(dependencies);
+        generatedClasses.set(classes);
+        Class<?> scriptClass;
+        try {
+            scriptClass = super.parseClass(text, SCRIPT_CLASS_PREFIX + sourceHash + ".groovy");
+        } finally {
+            resolvedDependencies.remove();
+            generatedClasses.remove();
+        }
+
+        if (nonNull(bytecodeCache) && bytecodeCache.isEnabled()) {
+            saveToBytecodeCache(sourceHash, scriptClass, dependencies, classes);
+        }
+        return new CompiledScript(scriptClass, Collections.unmodifiableMap(dependencies));
+    }
+
+    private void saveToBytecodeCache(
+            String sourceHash,
+            Class<?> scriptClass,
+            Map<String, Class<?>> dependencies,
+            Map<String, byte[]> classes
+    ) {
+        Map<String, String> fingerprints = new HashMap<>();
+        for (Map.Entry<String, Class<?>> dependency : dependencies.entrySet()) {
+            String fingerprint = GroovyScriptBytecodeCache.fingerprint(dependency.getValue());
+            if (isNull(fingerprint)) {
+                log.debug("Groovy script {} depends on class {} without class file, not caching bytecode",
+                        scriptClass.getName(), dependency.getKey());
+                return;
+            }
+            fingerprints.put(dependency.getKey(), fingerprint);
+        }
+        bytecodeCache.save(sourceHash, new ScriptBytecode(scriptClass.getName(), fingerprints, classes));
+    }
+
+    /**
+     * Defines the script classes from cached bytecode if external library classes
+     * it was compiled against are the same in the parent class loader.
+     */
+    private CompiledScript loadFromBytecodeCache(String sourceHash) {
+        if (isNull(bytecodeCache) || !bytecodeCache.isEnabled()) {
+            return null;
+        }
+        Optional<ScriptBytecode> bytecode = bytecodeCache.load(sourceHash);
+        if (bytecode.isEmpty()) {
+            return null;
+        }
+        try {
+            Map<String, Class<?>> dependencies = new HashMap<>();
+            for (Map.Entry<String, String> dependency : bytecode.get().dependencies().entrySet()) {
+                Class<?> dependencyClass = Class.forName(dependency.getKey(), false, getParent());
+                if (!dependency.getValue().equals(GroovyScriptBytecodeCache.fingerprint(dependencyClass))) {
+                    log.debug("Dependency {} of cached groovy script {} has changed",
+                            dependency.getKey(), bytecode.get().scriptClassName());
+                    return null;
+                }
+                dependencies.put(dependency.getKey(), dependencyClass);
+            }
+            Class<?> scriptClass = new BytecodeClassLoader(this, bytecode.get().classes())
+                    .loadClass(bytecode.get().scriptClassName());
+            return new CompiledScript(scriptClass, Collections.unmodifiableMap(dependencies));
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("Failed to load groovy script {} from bytecode cache", bytecode.get().scriptClassName(), e);
+            return null;
+        }
+    }
+
+    private static boolean isExternalClass(Class<?> loadedClass) {
+        ClassLoader classLoader = loadedClass.getClassLoader();
+        if (isNull(classLoader) || classLoader instanceof GroovyClassLoader.InnerLoader) {
+            return false;
+        }
+        for (ClassLoader engineClassLoader = ScriptCachingGroovyClassLoader.class.getClassLoader();
+             nonNull(engineClassLoader);
+             engineClassLoader = engineClassLoader.getParent()) {
+            if (classLoader == engineClassLoader) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Defines classes of a script loaded from bytecode cache,
+     * other classes are resolved by the parent script class loader.
+     */
+    private static class BytecodeClassLoader extends ClassLoader {
+        private final Map<String, byte[]> classes;
+
+        BytecodeClassLoader(ClassLoader parent, Map<String, byte[]> classes) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            byte[] bytecode = classes.get(name);
+            if (isNull(bytecode)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loadedClass = findLoadedClass(name);
+                if (isNull(loadedClass)) {
+                    loadedClass = defineClass(name, bytecode, 0, bytecode.length);
+                }
+                if (resolve) {
+                    resolveClass(loadedClass);
+                }
+                return loadedClass;
+            }
+        }
+    }
+
+    private record CompiledScript(Class<?> scriptClass, Map<String, Class<?>> dependencies) {
+    }
+}
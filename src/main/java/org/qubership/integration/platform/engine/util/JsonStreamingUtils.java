@@ -0,0 +1,165 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Token-level JSON transformations that do not build object trees.
+ * Numbers are copied exactly and the order of existing fields is preserved.
+ * Output is written with the serialization settings of the given mapper.
+ */
+public class JsonStreamingUtils {
+
+    private JsonStreamingUtils() {
+    }
+
+    public static String setTopLevelFields(ObjectMapper mapper, String json, Map<String, ?> fields)
+            throws IOException {
+        if (isNull(json)) {
+            throw new IllegalArgumentException("JSON content is null");
+        }
+        StringWriter writer = new StringWriter(json.length() + 64);
+        setTopLevelFields(mapper, new StringReader(json), writer, fields);
+        return writer.toString();
+    }
+
+    /**
+     * Copies the JSON object from source to target, replacing values of the given top-level fields.
+     * Fields that are not present in the source object are appended to its end.
+     * A replaced field is written once, at its first position. Other duplicate fields are copied as is.
+     */
+    public static void setTopLevelFields(ObjectMapper mapper, Reader source, Writer target, Map<String, ?> fields)
+            throws IOException {
+        try (JsonParser parser = mapper.createParser(source);
+             JsonGenerator generator = mapper.writer().createGenerator(target)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "JSON object expected");
+            }
+            generator.writeStartObject();
+            Set<String> writtenFields = new HashSet<>();
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                if (fields.containsKey(fieldName)) {
+                    parser.skipChildren();
+                    if (writtenFields.add(fieldName)) {
+                        generator.writeFieldName(fieldName);
+                        mapper.writeValue(generator, fields.get(fieldName));
+                    }
+                } else {
+                    generator.writeFieldName(fieldName);
+                    copyCurrentValue(parser, generator);
+                }
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new JsonParseException(parser, "Unexpected end of JSON object");
+            }
+            for (Map.Entry<String, ?> field : fields.entrySet()) {
+                if (!writtenFields.contains(field.getKey())) {
+                    generator.writeFieldName(field.getKey());
+                    mapper.writeValue(generator, field.getValue());
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Concatenates JSON documents into a JSON array.
+     */
+    public static String concatenateToArray(ObjectMapper mapper, Iterable<String> documents) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = mapper.writer().createGenerator(writer)) {
+            generator.writeStartArray();
+            for (String document : documents) {
+                try (JsonParser parser = mapper.createParser(document)) {
+                    if (isNull(parser.nextToken())) {
+                        throw new JsonParseException(parser, "Empty JSON document");
+                    }
+                    copyCurrentValue(parser, generator);
+                }
+            }
+            generator.writeEndArray();
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Finds a top-level field of the JSON object and returns its value converted
+     * with {@link String#valueOf(Object)}, nested fields are skipped without parsing.
+     * If the field is duplicated, the last value is returned, as when the object is read into a map.
+     */
+    public static Optional<String> findTopLevelFieldAsString(ObjectMapper mapper, String json, String fieldName)
+            throws IOException {
+        if (isNull(json)) {
+            throw new IllegalArgumentException("JSON content is null");
+        }
+        String value = null;
+        try (JsonParser parser = mapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "JSON object expected");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (fieldName.equals(name)) {
+                    value = switch (valueToken) {
+                        case VALUE_STRING -> parser.getText();
+                        case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> String.valueOf(parser.getNumberValue());
+                        case VALUE_TRUE, VALUE_FALSE -> String.valueOf(parser.getBooleanValue());
+                        case VALUE_NULL -> String.valueOf((Object) null);
+                        default -> String.valueOf(mapper.readValue(parser, Object.class));
+                    };
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return Optional.ofNullable(value);
+    }
+
+    private static void copyCurrentValue(JsonParser parser, JsonGenerator generator) throws IOException {
+        int depth = 0;
+        do {
+            JsonToken token = parser.currentToken();
+            generator.copyCurrentEventExact(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+        } while (depth > 0 && parser.nextToken() != null);
+    }
+}
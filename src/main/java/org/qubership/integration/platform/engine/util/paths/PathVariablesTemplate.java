@@ -0,0 +1,110 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.util.paths;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+
+/**
+ * Precompiled URI template used to extract path variables from actual request URIs.
+ * Template and URI are split into segments (an optional leading separator, a run of
+ * non-separator characters and an optional trailing separator), and variable values
+ * are taken from URI segments with the same index as the template placeholders.
+ */
+public class PathVariablesTemplate {
+    private static final char SEPARATOR = '/';
+    private static final String SERVICE_SYMBOLS = "{}/";
+    private static final Pattern VARIABLE_REGEXP = Pattern.compile("^\\/?\\{[^\\/]*}\\/?$");
+
+    private final int[] segmentIndexes;
+    private final String[] variableNames;
+
+    private PathVariablesTemplate(int[] segmentIndexes, String[] variableNames) {
+        this.segmentIndexes = segmentIndexes;
+        this.variableNames = variableNames;
+    }
+
+    public static PathVariablesTemplate compile(String template) {
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int segmentIndex = 0;
+        int start = 0;
+        while (start < template.length()) {
+            int end = nextSegmentEnd(template, start);
+            String segment = template.substring(start, end);
+            if (StringUtils.isNotBlank(segment)) {
+                if (VARIABLE_REGEXP.matcher(segment).find()) {
+                    names.add(removeServiceSymbols(segment));
+                    indexes.add(segmentIndex);
+                }
+                segmentIndex++;
+            }
+            start = end;
+        }
+        return new PathVariablesTemplate(
+                indexes.stream().mapToInt(Integer::intValue).toArray(),
+                names.toArray(new String[0]));
+    }
+
+    public boolean hasVariables() {
+        return variableNames.length > 0;
+    }
+
+    /**
+     * Passes name and value of each template variable found in the URI to the consumer.
+     * Variables with blank values are skipped.
+     */
+    public void extract(String uri, BiConsumer<String, String> consumer) {
+        int variable = 0;
+        int segmentIndex = 0;
+        int start = 0;
+        while (variable < segmentIndexes.length && start < uri.length()) {
+            int end = nextSegmentEnd(uri, start);
+            if (segmentIndex == segmentIndexes[variable]) {
+                String value = uri.substring(start, end);
+                if (StringUtils.isNotBlank(value)) {
+                    consumer.accept(variableNames[variable], removeServiceSymbols(value));
+                }
+                variable++;
+            }
+            segmentIndex++;
+            start = end;
+        }
+    }
+
+    private static int nextSegmentEnd(String path, int start) {
+        int end = start;
+        if (path.charAt(end) == SEPARATOR) {
+            end++;
+        }
+        while (end < path.length() && path.charAt(end) != SEPARATOR) {
+            end++;
+        }
+        if (end < path.length()) {
+            end++;
+        }
+        return end;
+    }
+
+    private static String removeServiceSymbols(String str) {
+        return StringUtils.replaceChars(str, SERVICE_SYMBOLS, "");
+    }
+}
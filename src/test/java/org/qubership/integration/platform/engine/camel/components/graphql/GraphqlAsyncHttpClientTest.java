@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.engine.camel.components.graphql;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.routing.HttpRoutePlanner;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.HttpRequestInterceptor;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.AsyncRequestBuilder;
+import org.apache.hc.core5.http.nio.support.BasicResponseConsumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GraphqlAsyncHttpClientTest {
+    private final CountDownLatch responseAllowed = new CountDownLatch(1);
+    private HttpServer server;
+    private GraphqlAsyncHttpClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            try {
+                if ("wait".equals(exchange.getRequestHeaders().getFirst("X-Test"))) {
+                    responseAllowed.await(10, TimeUnit.SECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            String element = String.valueOf(exchange.getRequestHeaders().getFirst("X-Element"));
+            byte[] body = element.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.setExecutor(null);
+        server.start();
+        client = new GraphqlAsyncHttpClient(10, 10, 2, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        responseAllowed.countDown();
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void responseIsHandledOnWorkerPoolWithSettingsOfElement() throws Exception {
+        HttpClientContext context = HttpClientContext.create();
+        context.setAttribute(GraphqlAsyncHttpClient.CONFIGURER_ATTRIBUTE, new TestConfigurer(
+                List.of((request, entity, httpContext) -> request.setHeader("X-Element", "first"))));
+        ResultCallback callback = new ResultCallback();
+
+        client.execute(AsyncRequestBuilder.get(uri()).build(),
+                new BasicResponseConsumer<>(new BasicAsyncEntityConsumer()), context, callback);
+
+        assertEquals("first", callback.body.get(10, TimeUnit.SECONDS));
+        assertTrue(callback.thread.startsWith("graphql-response-"), callback.thread);
+    }
+
+    @Test
+    void requestsOverPendingLimitAreRejected() throws Exception {
+        ResultCallback first = new ResultCallback();
+        client.execute(AsyncRequestBuilder.get(uri()).setHeader("X-Test", "wait").build(),
+                new BasicResponseConsumer<>(new BasicAsyncEntityConsumer()), HttpClientContext.create(), first);
+
+        assertThrows(RejectedExecutionException.class, () -> client.execute(AsyncRequestBuilder.get(uri()).build(),
+                new BasicResponseConsumer<>(new BasicAsyncEntityConsumer()), HttpClientContext.create(),
+                new ResultCallback()));
+
+        responseAllowed.countDown();
+        assertEquals("null", first.body.get(10, TimeUnit.SECONDS));
+
+        ResultCallback next = new ResultCallback();
+        client.execute(AsyncRequestBuilder.get(uri()).build(),
+                new BasicResponseConsumer<>(new BasicAsyncEntityConsumer()), HttpClientContext.create(), next);
+        assertEquals("null", next.body.get(10, TimeUnit.SECONDS));
+    }
+
+    private URI uri() {
+        return URI.create("http://localhost:" + server.getAddress().getPort() + "/graphql");
+    }
+
+    private record TestConfigurer(List<HttpRequestInterceptor> requestInterceptors)
+            implements AsyncHttpClientConfigurer {
+        @Override
+        public List<HttpResponseInterceptor> responseInterceptors() {
+            return List.of();
+        }
+
+        @Override
+        public HttpRoutePlanner routePlanner() {
+            return null;
+        }
+
+        @Override
+        public boolean reuseConnections() {
+            return true;
+        }
+    }
+
+    private static class ResultCallback implements FutureCallback<Message<HttpResponse, byte[]>> {
+        private final CompletableFuture<String> body = new CompletableFuture<>();
+        private volatile String thread;
+
+        @Override
+        public void completed(Message<HttpResponse, byte[]> result) {
+            thread = Thread.currentThread().getName();
+            body.complete(new String(result.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void failed(Exception e) {
+            body.completeExceptionally(e);
+        }
+
+        @Override
+        public void cancelled() {
+            body.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.engine.camel.components.kafka;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.FutureTask;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KafkaAdminClientRegistryTest {
+    private static final long TTL = 1000;
+    private static final long IDLE_TIMEOUT = 5000;
+    private static final Map<String, Object> CONFIG = Map.of("bootstrap.servers", "kafka-1:9092");
+    private static final Map<String, Object> OTHER_CONFIG = Map.of("bootstrap.servers", "kafka-2:9092");
+
+    private final MutableClock clock = new MutableClock();
+    private final Map<Object, FakeAdmin> admins = new HashMap<>();
+    private final KafkaAdminClientRegistry registry = new KafkaAdminClientRegistry(
+            TTL, IDLE_TIMEOUT, clock, config -> {
+                FakeAdmin admin = new FakeAdmin();
+                admins.put(config.get("bootstrap.servers"), admin);
+                return admin.proxy();
+            });
+
+    @Test
+    void concurrentLookupsOfTopicAreCoalesced() throws Exception {
+        FakeAdmin admin = new FakeAdmin();
+        admin.hold = true;
+        KafkaAdminClientRegistry registry = new KafkaAdminClientRegistry(TTL, IDLE_TIMEOUT, clock, config -> admin.proxy());
+
+        FutureTask<Set<String>> first = new FutureTask<>(() -> registry.findMissingTopics(CONFIG, List.of("orders")));
+        FutureTask<Set<String>> second = new FutureTask<>(() -> registry.findMissingTopics(CONFIG, List.of("orders")));
+        Thread firstThread = new Thread(first);
+        firstThread.start();
+        awaitWaiting(firstThread);
+        Thread secondThread = new Thread(second);
+        secondThread.start();
+        awaitWaiting(secondThread);
+
+        admin.completePending();
+
+        assertTrue(first.get().isEmpty());
+        assertTrue(second.get().isEmpty());
+        assertEquals(List.of(List.of("orders")), admin.describeCalls);
+    }
+
+    @Test
+    void existingTopicsAreCachedUntilTtlExpires() throws Exception {
+        assertTrue(registry.findMissingTopics(CONFIG, List.of("orders")).isEmpty());
+        clock.advance(TTL - 1);
+        assertTrue(registry.findMissingTopics(CONFIG, List.of("orders")).isEmpty());
+        assertEquals(1, admins.get("kafka-1:9092").describeCalls.size());
+
+        clock.advance(1);
+        assertTrue(registry.findMissingTopics(CONFIG, List.of("orders")).isEmpty());
+        assertEquals(2, admins.get("kafka-1:9092").describeCalls.size());
+    }
+
+    @Test
+    void expiredTopicsArePruned() throws Exception {
+        registry.findMissingTopics(CONFIG, List.of("orders", "payments"));
+        assertEquals(2, registry.getCachedTopicsCount(CONFIG));
+
+        clock.advance(TTL);
+        registry.findMissingTopics(CONFIG, List.of("invoices"));
+
+        assertEquals(1, registry.getCachedTopicsCount(CONFIG));
+    }
+
+    @Test
+    void missingTopicsAreReportedAndNotCached() throws Exception {
+        registry.findMissingTopics(CONFIG, List.of());
+        admins.get("kafka-1:9092").missingTopics.add("orders");
+
+        assertEquals(Set.of("orders"), registry.findMissingTopics(CONFIG, List.of("orders", "payments")));
+        assertEquals(Set.of("orders"), registry.findMissingTopics(CONFIG, List.of("orders", "payments")));
+        assertEquals(1, registry.getCachedTopicsCount(CONFIG));
+        assertEquals(List.of(List.of("orders", "payments"), List.of("orders")),
+                admins.get("kafka-1:9092").describeCalls);
+    }
+
+    @Test
+    void idleClientsAreClosed() throws Exception {
+        registry.findMissingTopics(CONFIG, List.of("orders"));
+        clock.advance(IDLE_TIMEOUT + 1);
+        registry.findMissingTopics(OTHER_CONFIG, List.of("orders"));
+
+        assertTrue(admins.get("kafka-1:9092").closed);
+        assertFalse(admins.get("kafka-2:9092").closed);
+        assertEquals(1, registry.getClientsCount());
+
+        registry.closeAll();
+        assertTrue(admins.get("kafka-2:9092").closed);
+        assertEquals(0, registry.getClientsCount());
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (thread.getState() != Thread.State.WAITING) {
+            assertTrue(System.currentTimeMillis() < deadline, "Lookup thread is not waiting");
+            Thread.sleep(1);
+        }
+    }
+
+    private static class FakeAdmin {
+        private final List<List<String>> describeCalls = new ArrayList<>();
+        private final List<String> missingTopics = new ArrayList<>();
+        private final Map<String, KafkaFutureImpl<TopicDescription>> pending = new HashMap<>();
+        private boolean hold;
+        private boolean closed;
+
+        @SuppressWarnings("unchecked")
+        Admin proxy() {
+            return (Admin) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Admin.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "describeTopics" -> describe((Collection<String>) args[0]);
+                        case "close" -> {
+                            closed = true;
+                            yield null;
+                        }
+                        default -> throw new UnsupportedOperationException(method.getName());
+                    });
+        }
+
+        synchronized void completePending() {
+            pending.values().forEach(future -> future.complete(null));
+            pending.clear();
+        }
+
+        private synchronized DescribeTopicsResult describe(Collection<String> topics) {
+            describeCalls.add(List.copyOf(topics));
+            Map<String, KafkaFuture<TopicDescription>> futures = new HashMap<>();
+            for (String topic : topics) {
+                KafkaFutureImpl<TopicDescription> future = new KafkaFutureImpl<>();
+                if (hold) {
+                    pending.put(topic, future);
+                } else if (missingTopics.contains(topic)) {
+                    future.completeExceptionally(new UnknownTopicOrPartitionException(topic));
+                } else {
+                    future.complete(null);
+                }
+                futures.put(topic, future);
+            }
+            return new DescribeTopicsResult(futures) {
+            };
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.camel.components.rabbitmq;
+
+import com.rabbitmq.client.ConnectionFactory;
+import com.rabbitmq.client.impl.MicrometerMetricsCollector;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.camel.components.rabbitmq.RabbitMQConnectionFactoryRegistry.ConnectionKey;
+import org.qubership.integration.platform.engine.configuration.ApplicationAutoConfiguration;
+import org.qubership.integration.platform.engine.configuration.ServerConfiguration;
+import org.qubership.integration.platform.engine.service.debugger.metrics.MetricsStore;
+import org.qubership.integration.platform.engine.service.deployment.processing.actions.context.create.helpers.MetricTagsHelper;
+import org.qubership.integration.platform.engine.util.EngineDomainUtils;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RabbitMQConnectionFactoryRegistryTest {
+    private static final ConnectionKey KEY = new ConnectionKey("localhost:5672", "vhost", "user", "password",
+            null, null, 60000, 60, 0, 2047, null);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void elementsShareConnectionWithEngineTagsWhenMetricsEnabled() {
+        RabbitMQConnectionFactoryRegistry registry = new RabbitMQConnectionFactoryRegistry(
+                metricsStore(), new MetricTagsHelper(serverConfiguration()), 10);
+
+        CachingConnectionFactory first = registry.acquire(KEY, elementFactory("first"));
+        CachingConnectionFactory second = registry.acquire(KEY, elementFactory("second"));
+
+        assertSame(first, second);
+        assertEquals(1, registry.getFactoriesCount());
+        assertNotNull(meterRegistry.find("rabbitmq.connections")
+                .tags("engine_domain", "default", "connection", "user@localhost:5672/vhost")
+                .gauge());
+        assertNull(meterRegistry.find("rabbitmq.connections").tagKeys("connection", "chain_id").gauge());
+
+        registry.release(KEY, first);
+        assertEquals(1, registry.getFactoriesCount());
+        registry.release(KEY, second);
+        assertEquals(0, registry.getFactoriesCount());
+    }
+
+    private Supplier<ConnectionFactory> elementFactory(String chainId) {
+        return () -> {
+            ConnectionFactory factory = new ConnectionFactory();
+            factory.setMetricsCollector(new MicrometerMetricsCollector(
+                    meterRegistry, "rabbitmq", List.of(Tag.of("chain_id", chainId))));
+            return factory;
+        };
+    }
+
+    private MetricsStore metricsStore() {
+        MetricsStore metricsStore = new MetricsStore(serverConfiguration(), meterRegistry, "qip");
+        ReflectionTestUtils.setField(metricsStore, "metricsEnabled", true);
+        return metricsStore;
+    }
+
+    private static ServerConfiguration serverConfiguration() {
+        EngineDomainUtils engineDomainUtils = new EngineDomainUtils();
+        ReflectionTestUtils.setField(engineDomainUtils, "engineDefaultDomain", "default");
+        ReflectionTestUtils.setField(engineDomainUtils, "defaultEngineMicroserviceName", "qip-engine");
+        return new ServerConfiguration(new ApplicationAutoConfiguration(null, "qip-engine", "qip-engine"),
+                engineDomainUtils);
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.qubership.integration.platform.engine.consul;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.configuration.ApplicationAutoConfiguration;
+import org.qubership.integration.platform.engine.configuration.ServerConfiguration;
+import org.qubership.integration.platform.engine.model.consul.KeyResponse;
+import org.qubership.integration.platform.engine.model.consul.TxnOperation;
+import org.qubership.integration.platform.engine.model.deployment.engine.EngineDeployment;
+import org.qubership.integration.platform.engine.model.deployment.engine.EngineState;
+import org.qubership.integration.platform.engine.util.EngineDomainUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConsulServiceTest {
+    private final FakeConsulClient client = new FakeConsulClient();
+    private final List<String> reported = new ArrayList<>();
+    private ConsulService consulService;
+
+    @BeforeEach
+    void setUp() {
+        consulService = new ConsulService(client, serverConfiguration(), new ObjectMapper(), event -> { });
+        ReflectionTestUtils.setField(consulService, "keyPrefix", "config/");
+        ReflectionTestUtils.setField(consulService, "keyEngineConfigRoot", "qip");
+        ReflectionTestUtils.setField(consulService, "keyEnginesState", "/engines-state");
+        ReflectionTestUtils.setField(consulService, "keyEnginesDeploymentsState", "/engines-deployments-state");
+        ReflectionTestUtils.setField(consulService, "perDeploymentStateKeys", true);
+        ReflectionTestUtils.setField(consulService, "activeSessionId", "session");
+    }
+
+    @Test
+    void deploymentsStateIsSplitIntoTransactions() throws Exception {
+        EngineState state = state(deploymentIds(40), "deployed");
+
+        consulService.updateEnginesState(state, reported::add);
+
+        assertEquals(List.of(64, 16), client.transactions.stream().map(List::size).toList());
+        assertEquals(state.getDeployments().keySet(), new HashSet<>(reported));
+        assertEquals(40, reported.size());
+    }
+
+    @Test
+    void deploymentsOfCommittedBatchesAreReportedWhenLaterBatchFails() throws Exception {
+        EngineState state = state(deploymentIds(40), "deployed");
+        client.failedTransaction = 2;
+
+        assertThrows(RuntimeException.class, () -> consulService.updateEnginesState(state, reported::add));
+        assertEquals(32, reported.size());
+
+        consulService.updateEnginesState(state, reported::add);
+
+        assertEquals(state.getDeployments().keySet(), new HashSet<>(reported));
+        assertEquals(40, reported.size());
+        assertEquals(16, client.transactions.get(2).size());
+    }
+
+    @Test
+    void changedDeploymentsAreCheckedAgainstWrittenIndex() throws Exception {
+        consulService.updateEnginesState(state(Set.of("first"), "deployed"), reported::add);
+        long index = client.indexes.get(client.deploymentsPrefix() + "first");
+
+        consulService.updateEnginesState(state(Set.of("first"), "failed"), reported::add);
+
+        List<TxnOperation> operations = client.transactions.get(1);
+        assertOperation(operations.get(0), "check-index", "first", index);
+        assertOperation(operations.get(1), "lock", "first", null);
+        assertEquals(List.of("first", "first"), reported);
+    }
+
+    @Test
+    void removedDeploymentsAreDeletedWithCas() throws Exception {
+        consulService.updateEnginesState(state(Set.of("first", "second"), "deployed"), reported::add);
+        long index = client.indexes.get(client.deploymentsPrefix() + "second");
+
+        consulService.updateEnginesState(state(Set.of("first"), "deployed"), reported::add);
+
+        List<TxnOperation> operations = client.transactions.get(1);
+        assertEquals(1, operations.size());
+        assertOperation(operations.get(0), "delete-cas", "second", index);
+        assertEquals(2, reported.size());
+    }
+
+    @Test
+    void indexesAreResyncedAfterConflict() throws Exception {
+        consulService.updateEnginesState(state(Set.of("first"), "deployed"), reported::add);
+        assertEquals(1, client.resyncs);
+        client.failedTransaction = 2;
+        client.conflict = true;
+
+        assertThrows(TxnConflictException.class,
+                () -> consulService.updateEnginesState(state(Set.of("first"), "failed"), reported::add));
+        client.indexes.put(client.deploymentsPrefix() + "first", 100L);
+        consulService.updateEnginesState(state(Set.of("first"), "failed"), reported::add);
+
+        assertEquals(2, client.resyncs);
+        assertOperation(client.transactions.get(2).get(0), "check-index", "first", 100L);
+        assertEquals(List.of("first", "first"), reported);
+    }
+
+    private void assertOperation(TxnOperation operation, String verb, String deploymentId, Long index) {
+        assertEquals(verb, operation.getKv().getVerb());
+        assertEquals(client.deploymentsPrefix() + deploymentId, operation.getKv().getKey());
+        assertEquals(index, operation.getKv().getIndex());
+    }
+
+    private static Set<String> deploymentIds(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "deployment-" + i).collect(Collectors.toSet());
+    }
+
+    private static EngineState state(Set<String> deploymentIds, String errorMessage) {
+        Map<String, EngineDeployment> deployments = new HashMap<>();
+        deploymentIds.forEach(id -> deployments.put(id, EngineDeployment.builder().errorMessage(errorMessage).build()));
+        return EngineState.builder().engine(serverConfiguration().getEngineInfo()).deployments(deployments).build();
+    }
+
+    private static ServerConfiguration serverConfiguration() {
+        EngineDomainUtils engineDomainUtils = new EngineDomainUtils();
+        ReflectionTestUtils.setField(engineDomainUtils, "engineDefaultDomain", "default");
+        ReflectionTestUtils.setField(engineDomainUtils, "defaultEngineMicroserviceName", "qip-engine");
+        return new ServerConfiguration(new ApplicationAutoConfiguration(null, "qip-engine", "qip-engine"),
+                engineDomainUtils);
+    }
+
+    private static class FakeConsulClient extends ConsulClient {
+        private final List<List<TxnOperation>> transactions = new ArrayList<>();
+        // <key, modify index> of deployments state keys
+        private final Map<String, Long> indexes = new HashMap<>();
+        private String resyncKey;
+        private int resyncs;
+        private int failedTransaction;
+        private boolean conflict;
+        private long lastIndex;
+
+        FakeConsulClient() {
+            super(null, "http://consul:8500");
+        }
+
+        String deploymentsPrefix() {
+            return resyncKey.substring(1);
+        }
+
+        @Override
+        public void createOrUpdateKVWithSession(String key, Object value, String sessionId) {
+        }
+
+        @Override
+        public Map<String, Long> executeTransaction(List<TxnOperation> operations) {
+            transactions.add(List.copyOf(operations));
+            if (transactions.size() == failedTransaction) {
+                if (conflict) {
+                    throw new TxnConflictException("Consul transaction is rolled back");
+                }
+                throw new RuntimeException("Consul is unavailable");
+            }
+            Map<String, Long> written = new HashMap<>();
+            for (TxnOperation operation : operations) {
+                String key = operation.getKv().getKey();
+                switch (operation.getKv().getVerb()) {
+                    case "lock" -> {
+                        indexes.put(key, ++lastIndex);
+                        written.put(key, lastIndex);
+                    }
+                    case "delete-cas" -> indexes.remove(key);
+                    default -> { }
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public Pair<Long, List<KeyResponse>> waitForKVChanges(String key, boolean recurse, long index, String waitTimeout)
+                throws KVNotFoundException {
+            assertTrue(recurse);
+            resyncKey = key;
+            resyncs++;
+            if (indexes.isEmpty()) {
+                throw new KVNotFoundException();
+            }
+            List<KeyResponse> keys = new ArrayList<>();
+            indexes.forEach((k, modifyIndex) -> keys.add(KeyResponse.builder().key(k).modifyIndex(modifyIndex).build()));
+            return Pair.of(lastIndex, keys);
+        }
+    }
+}
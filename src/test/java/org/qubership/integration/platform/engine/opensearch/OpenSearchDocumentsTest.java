@@ -0,0 +1,38 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.opensearch;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.IntegrationEngineApplication;
+import org.qubership.integration.platform.engine.opensearch.annotation.OpenSearchDocument;
+import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OpenSearchDocumentsTest {
+    @Test
+    void registryContainsAllDocumentClasses() {
+        String packageRoot = IntegrationEngineApplication.class.getPackage().getName();
+        Set<Class<?>> annotatedClasses = new Reflections(new ConfigurationBuilder().forPackages(packageRoot))
+                .getTypesAnnotatedWith(OpenSearchDocument.class);
+        assertEquals(annotatedClasses, new HashSet<>(OpenSearchDocuments.DOCUMENT_CLASSES));
+    }
+}
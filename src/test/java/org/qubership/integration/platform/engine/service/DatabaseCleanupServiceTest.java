@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.persistence.TransactionHandler;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DatabaseCleanupServiceTest {
+    private final List<String> statements = new ArrayList<>();
+    private final List<String> deleteRequests = new ArrayList<>();
+    private final List<Long> pauses = new ArrayList<>();
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void batchesRunUntilBatchIsSmallerThanBatchSize() {
+        Queue<List<String>> batches = new LinkedList<>(List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")));
+        DatabaseCleanupService service = service(true, 1.0, 5000);
+
+        long deleted = service.deleteInBatches("task", (afterId, limit) -> {
+            deleteRequests.add(afterId + ":" + limit);
+            return batches.poll();
+        });
+
+        assertEquals(5, deleted);
+        assertEquals(List.of(":2", "b:2", "d:2"), deleteRequests);
+        assertEquals(List.of("select pg_try_advisory_lock(hashtext(?))", "select pg_advisory_unlock(hashtext(?))"),
+                statements);
+    }
+
+    @Test
+    void pauseIsProportionalToBatchDurationAndCapped() {
+        Queue<Long> durations = new LinkedList<>(List.of(40L, 100L, 10L));
+        DatabaseCleanupService service = service(true, 1.5, 120);
+
+        service.deleteInBatches("task", (afterId, limit) -> {
+            clock.advance(durations.poll());
+            return durations.isEmpty() ? List.of() : List.of("x" + durations.size(), "y" + durations.size());
+        });
+
+        assertEquals(List.of(60L, 120L), pauses);
+    }
+
+    @Test
+    void taskIsSkippedWhenAdvisoryLockIsHeldByAnotherPod() {
+        DatabaseCleanupService service = service(false, 1.0, 5000);
+
+        long deleted = service.deleteInBatches("task", (afterId, limit) -> {
+            deleteRequests.add(afterId);
+            return List.of();
+        });
+
+        assertEquals(0, deleted);
+        assertTrue(deleteRequests.isEmpty());
+        assertEquals(List.of("select pg_try_advisory_lock(hashtext(?))"), statements);
+    }
+
+    private DatabaseCleanupService service(boolean lockAcquired, double pauseFactor, long maxPause) {
+        return new DatabaseCleanupService(dataSource(lockAcquired), new TransactionHandler(), 2, pauseFactor,
+                maxPause, clock, millis -> pauses.add(millis));
+    }
+
+    private DataSource dataSource(boolean lockAcquired) {
+        ResultSet resultSet = proxy(ResultSet.class, (method, args) -> switch (method) {
+            case "next", "getBoolean" -> lockAcquired;
+            default -> null;
+        });
+        Connection connection = proxy(Connection.class, (method, args) -> {
+            if (method.equals("prepareStatement")) {
+                statements.add((String) args[0]);
+                return proxy(PreparedStatement.class, (statementMethod, statementArgs) -> switch (statementMethod) {
+                    case "executeQuery" -> resultSet;
+                    case "execute" -> true;
+                    default -> null;
+                });
+            }
+            return null;
+        });
+        return proxy(DataSource.class, (method, args) -> method.equals("getConnection") ? connection : null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, FakeMethod fakeMethod) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> fakeMethod.invoke(method.getName(), args));
+    }
+
+    private interface FakeMethod {
+        Object invoke(String method, Object[] args);
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.util.ClientBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.configuration.NamespaceProvider;
+import org.qubership.integration.platform.engine.kubernetes.KubeOperator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SecuredVariablesWatcherTest {
+    private static final String SECRETS_PATH = "/api/v1/namespaces/test/secrets";
+    private static final String SECRET_LIST = """
+            {"kind": "SecretList", "apiVersion": "v1", "metadata": {"resourceVersion": "1"},
+             "items": [{"metadata": {"name": "secret", "namespace": "test", "resourceVersion": "1"},
+                        "data": {"key": "b2xk"}}]}
+            """;
+    private static final String MODIFIED_EVENT = """
+            {"type": "MODIFIED", "object": {"kind": "Secret", "apiVersion": "v1",
+             "metadata": {"name": "secret", "namespace": "test", "resourceVersion": "2"},
+             "data": {"key": "bmV3"}}}
+            """.replace("\n", "") + "\n";
+    private static final String FORBIDDEN_STATUS = """
+            {"kind": "Status", "apiVersion": "v1", "status": "Failure", "reason": "Forbidden", "code": 403}
+            """;
+
+    private final List<String> watchQueries = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean eventSent = new AtomicBoolean(false);
+    private final AtomicBoolean watchForbidden = new AtomicBoolean(false);
+    private HttpServer server;
+    private KubeOperator operator;
+
+    @BeforeEach
+    void startApiServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext(SECRETS_PATH, this::handleSecrets);
+        server.start();
+
+        ApiClient client = new ClientBuilder()
+                .setBasePath("http://localhost:" + server.getAddress().getPort())
+                .setReadTimeout(Duration.ZERO)
+                .build();
+        operator = new KubeOperator(client, client, "test", false);
+    }
+
+    @AfterEach
+    void stopApiServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void watchedSecretChangeIsAppliedWithoutRelisting() throws InterruptedException {
+        VariablesService variablesService = new VariablesService(
+                event -> { }, operator, new NamespaceProvider("test"), "variable-type", "secured-variables-v2");
+        variablesService.refreshSecuredVariables();
+        assertEquals("old", variablesService.injectVariables("#{secret:key}"));
+
+        SecuredVariablesWatcher watcher = new SecuredVariablesWatcher(operator, variablesService, 600000);
+        watcher.start();
+        try {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (!"new".equals(variablesService.injectVariables("#{secret:key}"))
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            assertTrue(watcher.isWatching());
+        } finally {
+            watcher.stop();
+        }
+
+        assertEquals("new", variablesService.injectVariables("#{secret:key}"));
+        assertTrue(watchQueries.get(0).contains("resourceVersion=1"), watchQueries.get(0));
+        assertFalse(watcher.isWatching());
+    }
+
+    @Test
+    void forbiddenWatchIsNotReportedAsWatching() throws InterruptedException {
+        watchForbidden.set(true);
+        VariablesService variablesService = new VariablesService(
+                event -> { }, operator, new NamespaceProvider("test"), "variable-type", "secured-variables-v2");
+
+        SecuredVariablesWatcher watcher = new SecuredVariablesWatcher(operator, variablesService, 600000);
+        watcher.start();
+        try {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (watchQueries.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Thread.sleep(200);
+            assertFalse(watchQueries.isEmpty());
+            assertFalse(watcher.isWatching());
+        } finally {
+            watcher.stop();
+        }
+    }
+
+    private void handleSecrets(HttpExchange exchange) throws IOException {
+        String query = String.valueOf(exchange.getRequestURI().getQuery());
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        if (!query.contains("watch=true")) {
+            byte[] body = SECRET_LIST.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            return;
+        }
+
+        watchQueries.add(query);
+        if (watchForbidden.get()) {
+            byte[] body = FORBIDDEN_STATUS.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(403, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+            return;
+        }
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (eventSent.compareAndSet(false, true)) {
+                out.write(MODIFIED_EVENT.getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+            // keep the watch open for a while like a real api server
+            Thread.sleep(500);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service;
+
+import io.kubernetes.client.openapi.ApiClient;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.configuration.NamespaceProvider;
+import org.qubership.integration.platform.engine.kubernetes.KubeOperator;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VariablesServiceTest {
+    @Test
+    void secretUpdatedDuringFullRefreshIsNotOverwrittenByPolledData() {
+        AtomicReference<Runnable> duringPoll = new AtomicReference<>(() -> { });
+        ApiClient client = new ApiClient();
+        KubeOperator operator = new KubeOperator(client, client, "test", false) {
+            @Override
+            public Map<String, Map<String, String>> getAllSecretsWithLabel(Pair<String, String> label) {
+                Map<String, Map<String, String>> polled = Map.of(
+                        "watched", Map.of("key", "stale"),
+                        "other", Map.of("key", "polled"));
+                duringPoll.get().run();
+                return polled;
+            }
+        };
+        VariablesService variablesService = new VariablesService(
+                event -> { }, operator, new NamespaceProvider("test"), "variable-type", "secured-variables-v2");
+
+        duringPoll.set(() -> variablesService.updateSecret("watched", Map.of("key", "fresh")));
+        variablesService.refreshSecuredVariables();
+
+        assertEquals("fresh", variablesService.injectVariables("#{watched:key}"));
+        assertEquals("polled", variablesService.injectVariables("#{other:key}"));
+
+        duringPoll.set(() -> { });
+        variablesService.refreshSecuredVariables();
+
+        assertEquals("stale", variablesService.injectVariables("#{watched:key}"));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.qubership.integration.platform.engine.service.debugger.kafkareporting;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.model.deployment.properties.CamelDebuggerProperties;
+import org.qubership.integration.platform.engine.model.deployment.update.DeploymentInfo;
+import org.qubership.integration.platform.engine.model.sessionsreporting.EventSourceType;
+import org.qubership.integration.platform.engine.model.sessionsreporting.ReportingQueueOverflowPolicy;
+import org.qubership.integration.platform.engine.service.ExecutionStatus;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueuedSessionsKafkaReportingServiceTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Exchange exchange = new DefaultExchange(new DefaultCamelContext());
+    private final CamelDebuggerProperties dbgProperties = CamelDebuggerProperties.builder()
+            .deploymentInfo(DeploymentInfo.builder().chainId("chain-id").chainName("chain").build())
+            .build();
+
+    @Test
+    void sendsQueuedEventsToSink() throws Exception {
+        InMemorySessionEventsSink sink = new InMemorySessionEventsSink();
+        QueuedSessionsKafkaReportingService service = createService(sink, 100, ReportingQueueOverflowPolicy.DROP_NEWEST);
+
+        service.addToQueue(exchange, dbgProperties, "session", null, null, EventSourceType.SESSION_STARTED);
+        service.sendFinishedEvent(exchange, dbgProperties, "session", null, null, ExecutionStatus.COMPLETED_NORMALLY);
+        service.shutdown();
+
+        List<InMemorySessionEventsSink.SinkRecord> records = sink.getRecords();
+        assertEquals(2, records.size());
+        assertEquals("session", records.get(0).key());
+        JsonNode finished = mapper.readTree(records.get(1).value());
+        assertEquals("SESSION_FINISHED", finished.get("eventType").asText());
+        assertEquals("COMPLETED_NORMALLY", finished.get("executionStatus").asText());
+        assertEquals("chain-id", finished.get("chainId").asText());
+        assertEquals(2, service.getSentCount());
+    }
+
+    @Test
+    void dropsEventsWhenQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingSink sink = new BlockingSink(release);
+        QueuedSessionsKafkaReportingService service = createService(sink, 2, ReportingQueueOverflowPolicy.DROP_NEWEST);
+
+        service.addToQueue(exchange, dbgProperties, "first", null, null, EventSourceType.SESSION_STARTED);
+        sink.started.await();
+        for (int i = 0; i < 5; i++) {
+            service.addToQueue(exchange, dbgProperties, "next", null, null, EventSourceType.SESSION_STARTED);
+        }
+        release.countDown();
+        service.shutdown();
+
+        assertEquals(3, service.getDroppedCount());
+        assertEquals(3, sink.getRecords().size());
+    }
+
+    private QueuedSessionsKafkaReportingService createService(
+            SessionEventsSink sink,
+            int capacity,
+            ReportingQueueOverflowPolicy policy
+    ) {
+        return new QueuedSessionsKafkaReportingService(capacity, policy, Duration.ZERO, 10, sink, mapper,
+                "domain", null, "");
+    }
+
+    private static class BlockingSink extends InMemorySessionEventsSink {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release;
+
+        BlockingSink(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(String key, byte[] value, Consumer<Exception> errorHandler) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.send(key, value, errorHandler);
+        }
+    }
+}
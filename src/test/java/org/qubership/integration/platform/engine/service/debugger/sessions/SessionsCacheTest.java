@@ -0,0 +1,149 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.debugger.sessions;
+
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.model.Session;
+import org.qubership.integration.platform.engine.model.opensearch.SessionElementElastic;
+import org.qubership.integration.platform.engine.service.ExecutionStatus;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionsCacheTest {
+    private static final int BODY_SIZE = 10_000;
+    private static final long ELEMENT_SIZE = SessionsCache.ELEMENT_OVERHEAD_BYTES + BODY_SIZE;
+    private static final long SESSION_SIZE = SessionsCache.SESSION_OVERHEAD_BYTES + 2 * ELEMENT_SIZE;
+
+    private final MutableClock clock = new MutableClock();
+    private final List<SessionElementElastic> flushed = new ArrayList<>();
+
+    @Test
+    void tracksSizeOfCachedElements() {
+        SessionsCache cache = new SessionsCache(Long.MAX_VALUE, Long.MAX_VALUE, flushed::add, clock);
+        cache.putSession(session("session"));
+        SessionElementElastic element = element("session", "element");
+        cache.putElement(element);
+        assertEquals(SessionsCache.SESSION_OVERHEAD_BYTES + ELEMENT_SIZE, cache.getSizeBytes());
+
+        element.setBodyAfter("a".repeat(BODY_SIZE));
+        cache.putElement(element);
+        cache.putSingleElement("session", element("session", "single"));
+        assertEquals(SessionsCache.SESSION_OVERHEAD_BYTES + 2 * ELEMENT_SIZE + BODY_SIZE, cache.getSizeBytes());
+
+        cache.removeSingleElement("session");
+        cache.remove("session");
+        assertEquals(0, cache.getSizeBytes());
+        assertTrue(flushed.isEmpty());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedSessionsWhenBudgetIsExceeded() {
+        SessionsCache cache = new SessionsCache(3 * SESSION_SIZE, Long.MAX_VALUE, flushed::add, clock);
+        for (int i = 0; i < 3; i++) {
+            putSessionWithElements(cache, "session-" + i);
+            clock.advance(1);
+        }
+        // the oldest session becomes the most recently used one
+        cache.getSession("session-0");
+        clock.advance(1);
+
+        putSessionWithElements(cache, "session-3");
+
+        assertTrue(cache.getSizeBytes() <= 3 * SESSION_SIZE);
+        assertNull(cache.getSession("session-1"));
+        assertTrue(cache.containsSession("session-0"));
+        assertTrue(cache.containsSession("session-3"));
+        assertTrue(cache.getEvictedCount() > 0);
+        assertTrue(flushed.stream().allMatch(element -> !element.getSessionId().equals("session-0")
+                && element.getExecutionStatus() == ExecutionStatus.CANCELLED_OR_UNKNOWN));
+    }
+
+    @Test
+    void expiresIdleSessions() {
+        SessionsCache cache = new SessionsCache(Long.MAX_VALUE, 1000, flushed::add, clock);
+        putSessionWithElements(cache, "idle");
+        putSessionWithElements(cache, "active");
+        clock.advance(800);
+        cache.getElements("active");
+        clock.advance(800);
+
+        cache.expireIdleSessions();
+
+        assertFalse(cache.containsSession("idle"));
+        assertTrue(cache.containsSession("active"));
+        assertEquals(1, cache.getExpiredCount());
+        assertEquals(2, flushed.size());
+        assertEquals(SESSION_SIZE, cache.getSizeBytes());
+    }
+
+    private static void putSessionWithElements(SessionsCache cache, String sessionId) {
+        cache.putSession(session(sessionId));
+        cache.putElement(element(sessionId, sessionId + "-first"));
+        cache.putElement(element(sessionId, sessionId + "-second"));
+    }
+
+    private static Session session(String sessionId) {
+        return Session.builder().id(sessionId).build();
+    }
+
+    private static SessionElementElastic element(String sessionId, String elementId) {
+        return SessionElementElastic.builder()
+                .id(elementId)
+                .sessionId(sessionId)
+                .bodyBefore("b".repeat(BODY_SIZE))
+                .executionStatus(ExecutionStatus.IN_PROGRESS)
+                .build();
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis = 1_000_000;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
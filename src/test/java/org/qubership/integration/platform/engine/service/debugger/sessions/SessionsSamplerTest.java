@@ -0,0 +1,84 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.debugger.sessions;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.model.constants.CamelConstants.Headers;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SessionsSamplerTest {
+    private static final int SESSIONS = 20_000;
+
+    private final CamelContext context = new DefaultCamelContext();
+
+    @Test
+    void sameTraceIdGivesSameDecision() {
+        SessionsSampler sampler = new SessionsSampler(0.5);
+        for (int i = 0; i < 1000; i++) {
+            String traceId = UUID.randomUUID().toString().replace("-", "");
+            Exchange traceparent = exchange(Map.of("traceparent", "00-" + traceId + "-00f067aa0ba902b7-01"));
+            Exchange b3 = exchange(Map.of("X-B3-TraceId", traceId));
+
+            boolean sampled = sampler.isSampled(traceparent, UUID.randomUUID().toString());
+            assertEquals(sampled, sampler.isSampled(traceparent, UUID.randomUUID().toString()), traceId);
+            assertEquals(sampled, sampler.isSampled(b3, UUID.randomUUID().toString()), traceId);
+        }
+    }
+
+    @Test
+    void boundaryProbabilitiesAndTraceMeHeaderShortCircuit() {
+        SessionsSampler never = new SessionsSampler(0.0);
+        SessionsSampler always = new SessionsSampler(1.0);
+        Exchange traceMe = exchange(Map.of(Headers.TRACE_ME, "true"));
+        for (int i = 0; i < 1000; i++) {
+            String sessionId = UUID.randomUUID().toString();
+            assertFalse(never.isSampled(exchange(Map.of()), sessionId));
+            assertTrue(always.isSampled(exchange(Map.of()), sessionId));
+            assertTrue(never.isSampled(traceMe, sessionId));
+        }
+    }
+
+    @Test
+    void sampledFractionIsCloseToProbability() {
+        for (double probability : new double[] {0.01, 0.25, 0.5, 0.9}) {
+            SessionsSampler sampler = new SessionsSampler(probability);
+            int sampled = 0;
+            for (int i = 0; i < SESSIONS; i++) {
+                if (sampler.isSampled(exchange(Map.of()), UUID.randomUUID().toString())) {
+                    sampled++;
+                }
+            }
+            assertEquals(probability, (double) sampled / SESSIONS, 0.02, "probability " + probability);
+        }
+    }
+
+    private Exchange exchange(Map<String, Object> headers) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeaders(headers);
+        return exchange;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.deployment;
+
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.qubership.integration.platform.engine.model.constants.CamelConstants.ChainProperties;
+import org.qubership.integration.platform.engine.model.deployment.update.DeploymentConfiguration;
+import org.qubership.integration.platform.engine.model.deployment.update.ElementProperties;
+import org.qubership.integration.platform.engine.service.deployment.processing.DeploymentProcessingService;
+import org.qubership.integration.platform.engine.service.deployment.processing.actions.context.create.JmsElementDependencyBinder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChangedRoutesRedeployerTest {
+    private final ChangedRoutesRedeployer redeployer = new ChangedRoutesRedeployer(new DeploymentProcessingService(
+            List.of(), List.of(new JmsElementDependencyBinder(null, null, null, null)), List.of()));
+
+    private DefaultCamelContext context;
+    private ProducerTemplate producer;
+
+    @BeforeEach
+    void startContext() throws Exception {
+        context = new DefaultCamelContext();
+        context.addRouteDefinitions(List.of(route("main", "direct:main", "old")));
+        context.start();
+        producer = context.createProducerTemplate();
+    }
+
+    @AfterEach
+    void stopContext() {
+        context.stop();
+    }
+
+    @Test
+    void jmsElementChangeRequiresRebuild() {
+        Map<String, String> hashes = redeployer.hashBoundElements(configuration("tcp://jms:7001", "return 1"));
+
+        assertEquals(List.of("jms"), List.copyOf(hashes.keySet()));
+        assertEquals(hashes, redeployer.hashBoundElements(configuration("tcp://jms:7001", "return 2")));
+        assertNotEquals(hashes, redeployer.hashBoundElements(configuration("tcp://jms:7002", "return 1")));
+    }
+
+    @Test
+    void changedRoutesAreReplacedInRunningContext() {
+        List<RouteDefinition> replaced = List.of(context.getRouteDefinition("main"));
+
+        assertTrue(redeployer.replaceRoutes(context, replaced, List.of(route("main", "direct:main", "new"))));
+        assertEquals("new", producer.requestBody("direct:main", ""));
+    }
+
+    @Test
+    void failedReplacementKeepsPreviousRoutes() {
+        List<RouteDefinition> replaced = List.of(context.getRouteDefinition("main"));
+        RouteDefinition broken = new RouteDefinition("direct:main").routeId("main");
+        broken.to("unknown-component:target");
+
+        assertFalse(redeployer.replaceRoutes(context, replaced, List.of(broken)));
+        assertTrue(context.isStarted());
+        assertEquals("old", producer.requestBody("direct:main", ""));
+    }
+
+    private static RouteDefinition route(String routeId, String from, String body) {
+        RouteDefinition route = new RouteDefinition(from).routeId(routeId);
+        route.setBody().constant(body);
+        return route;
+    }
+
+    private static DeploymentConfiguration configuration(String jmsProviderUrl, String script) {
+        return DeploymentConfiguration.builder()
+                .properties(List.of(
+                        element("jms", Map.of(
+                                ChainProperties.ELEMENT_TYPE, "jms-trigger",
+                                ChainProperties.JMS_PROVIDER_URL, jmsProviderUrl)),
+                        element("script", Map.of(
+                                ChainProperties.ELEMENT_TYPE, "script",
+                                "script", script))))
+                .build();
+    }
+
+    private static ElementProperties element(String elementId, Map<String, String> properties) {
+        return ElementProperties.builder().elementId(elementId).properties(properties).build();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.externallibrary;
+
+import groovy.lang.GroovyShell;
+import groovy.lang.Script;
+import org.apache.camel.Exchange;
+import org.apache.camel.language.groovy.GroovyLanguage;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.tools.GroovyClass;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GroovyLanguageWithResettableCacheTest {
+    private static final String LIBRARY_SCRIPT = "lib.Helper.value()";
+    private static final String PLAIN_SCRIPT = "'plain'";
+
+    private GroovyShell shell;
+
+    @Test
+    void onlyScriptsDependingOnChangedLibrariesAreRecompiled() throws Exception {
+        ExternalLibraryGroovyShellFactory shellFactory = new ExternalLibraryGroovyShellFactory(Optional.empty(), null) {
+            @Override
+            public GroovyShell createGroovyShell(Exchange exchange) {
+                return shell;
+            }
+        };
+        GroovyLanguageWithResettableCache language = new GroovyLanguageWithResettableCache(shellFactory, Runnable::run);
+
+        ScriptCachingGroovyClassLoader previousLoader = useLibrary("v1");
+        Class<Script> libraryScript = compile(LIBRARY_SCRIPT);
+        Class<Script> plainScript = compile(PLAIN_SCRIPT);
+        language.addScriptToCache(LIBRARY_SCRIPT, libraryScript);
+        language.addScriptToCache(PLAIN_SCRIPT, plainScript);
+        assertEquals("v1", run(libraryScript));
+
+        ScriptCachingGroovyClassLoader currentLoader = useLibrary("v2");
+        language.invalidateAffectedScripts();
+
+        Class<?> recompiledScript = getCachedScript(language, LIBRARY_SCRIPT);
+        assertNotSame(libraryScript, recompiledScript);
+        assertSame(currentLoader, ScriptCachingGroovyClassLoader.findOwner(recompiledScript));
+        assertEquals("v2", run(recompiledScript));
+        assertSame(plainScript, getCachedScript(language, PLAIN_SCRIPT));
+        assertEquals(1, previousLoader.getCachedScriptsCount());
+    }
+
+    private ScriptCachingGroovyClassLoader useLibrary(String version) {
+        CompilationUnit unit = new CompilationUnit();
+        unit.addSource("Helper.groovy", "package lib; class Helper { static String value() { '" + version + "' } }");
+        unit.compile(Phases.CLASS_GENERATION);
+        GroovyClass helper = unit.getClasses().get(0);
+        ClassLoader library = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                if (!name.equals(helper.getName())) {
+                    throw new ClassNotFoundException(name);
+                }
+                return defineClass(name, helper.getBytes(), 0, helper.getBytes().length);
+            }
+        };
+        ScriptCachingGroovyClassLoader loader = new ScriptCachingGroovyClassLoader(library);
+        shell = new GroovyShell(loader);
+        return loader;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<Script> compile(String script) {
+        return shell.getClassLoader().parseClass(script);
+    }
+
+    private static Object run(Class<?> scriptClass) throws Exception {
+        return ((Script) scriptClass.getDeclaredConstructor().newInstance()).run();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<?> getCachedScript(GroovyLanguage language, String key) throws Exception {
+        Field cacheField = GroovyLanguage.class.getDeclaredField("scriptCache");
+        cacheField.setAccessible(true);
+        Object classService = ((Map<String, Object>) cacheField.get(language)).get(key);
+        Field scriptField = classService.getClass().getDeclaredField("script");
+        scriptField.setAccessible(true);
+        return (Class<?>) scriptField.get(classService);
+    }
+}
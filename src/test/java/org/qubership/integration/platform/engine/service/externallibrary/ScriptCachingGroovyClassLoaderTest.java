@@ -0,0 +1,51 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.service.externallibrary;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ScriptCachingGroovyClassLoaderTest {
+    private static final String SCRIPT = "[1, 2].collect { it * 2 }";
+
+    @Test
+    void evictedScriptClassBecomesUnreachable() throws InterruptedException {
+        ScriptCachingGroovyClassLoader loader = new ScriptCachingGroovyClassLoader(getClass().getClassLoader());
+        WeakReference<Class<?>> scriptClass = compileAndEvict(loader);
+
+        for (int i = 0; i < 50 && scriptClass.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+
+        assertNull(scriptClass.get());
+        assertEquals(0, loader.getCachedScriptsCount());
+        assertEquals(0, loader.getLoadedClasses().length);
+    }
+
+    private static WeakReference<Class<?>> compileAndEvict(ScriptCachingGroovyClassLoader loader) {
+        Class<?> scriptClass = loader.parseClass(SCRIPT);
+        assertSame(scriptClass, loader.parseClass(SCRIPT));
+        loader.evict(scriptClass);
+        return new WeakReference<>(scriptClass);
+    }
+}
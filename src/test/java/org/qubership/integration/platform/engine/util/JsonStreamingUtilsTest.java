@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024-2025 NetCracker Technology Corporation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.qubership.integration.platform.engine.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JsonStreamingUtilsTest {
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void setTopLevelFieldsReplacesOnlyTopLevelFields() throws IOException {
+        String json = "{\"id\":\"old\",\"nested\":{\"id\":\"inner\",\"items\":[{\"id\":1}]},\"amount\":1.10}";
+
+        String result = JsonStreamingUtils.setTopLevelFields(mapper, json,
+                Map.of("id", Map.of("value", List.of(1, 2)), "added", "value"));
+
+        assertEquals("{\"id\":{\"value\":[1,2]},\"nested\":{\"id\":\"inner\",\"items\":[{\"id\":1}]},"
+                + "\"amount\":1.10,\"added\":\"value\"}", result);
+    }
+
+    @Test
+    void setTopLevelFieldsWritesDuplicateReplacedFieldOnce() throws IOException {
+        String json = "{\"id\":\"first\",\"other\":1,\"id\":{\"a\":[1]},\"other\":2}";
+
+        String result = JsonStreamingUtils.setTopLevelFields(mapper, json, Map.of("id", "new"));
+
+        assertEquals("{\"id\":\"new\",\"other\":1,\"other\":2}", result);
+    }
+
+    @Test
+    void findTopLevelFieldReturnsLastDuplicateAndSkipsNestedFields() throws IOException {
+        String json = "{\"nested\":{\"id\":\"inner\"},\"id\":\"first\",\"id\":{\"a\":1}}";
+
+        assertEquals(Optional.of("{a=1}"), JsonStreamingUtils.findTopLevelFieldAsString(mapper, json, "id"));
+        assertEquals(Optional.empty(), JsonStreamingUtils.findTopLevelFieldAsString(mapper, json, "a"));
+    }
+
+    @Test
+    void concatenateToArrayKeepsDocumentsAsIs() throws IOException {
+        String result = JsonStreamingUtils.concatenateToArray(mapper, List.of("{\"a\":{\"b\":[1.50]}}", "2", "\"c\""));
+
+        assertEquals("[{\"a\":{\"b\":[1.50]}},2,\"c\"]", result);
+    }
+}